@@ -79,6 +79,7 @@ public class Util {
     public static final String ARCHIVE = "archive";
     public static final String ATTACHED_STREAMS = "attached-streams";
     public static final String ATTRIBUTES = "attributes";
+    public static final String ATTRIBUTES_ONLY = "attributes-only";
     public static final String AVAILABLE_MECHANISMS = "available-mechanisms";
     public static final String AUTHENTICATION_OPTIONAL = "authentication-optional";
     public static final String BLOCKING_TIMEOUT = "blocking-timeout";
@@ -169,6 +170,7 @@ public class Util {
     public static final String KEY_STORE_REALM = "key-store-realm";
     public static final String LOCAL = "local";
     public static final String LOCAL_HOST_NAME = "local-host-name";
+    public static final String LOCALE = "locale";
     public static final String MANAGEMENT = "management";
     public static final String MANAGEMENT_CLIENT_CONTENT = "management-client-content";
     public static final String MANAGEMENT_HTTPS = "management-https";
@@ -223,6 +225,7 @@ public class Util {
     public static final String REALM = "realm";
     public static final String REALM_NAME = "realm-name";
     public static final String REALM_MAPPER = "realm-mapper";
+    public static final String RECURSIVE = "recursive";
     public static final String REDEPLOY = "redeploy";
     public static final String REDEPLOY_AFFECTED = "redeploy-affected";
     public static final String REDEPLOY_LINKS = "redeploy-links";
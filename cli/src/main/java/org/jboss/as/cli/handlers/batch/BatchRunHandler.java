@@ -10,6 +10,9 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.aesh.terminal.utils.Config;
 import org.jboss.as.cli.Attachments;
 
@@ -25,6 +28,7 @@ import org.jboss.as.cli.handlers.FilenameTabCompleter;
 import org.jboss.as.cli.impl.ArgumentWithValue;
 import org.jboss.as.cli.impl.ArgumentWithoutValue;
 import org.jboss.as.cli.impl.FileSystemPathArgument;
+import org.jboss.as.controller.client.MessageSeverity;
 import org.jboss.as.controller.client.ModelControllerClient;
 import org.jboss.as.controller.client.OperationBuilder;
 import org.jboss.as.controller.client.OperationMessageHandler;
@@ -40,6 +44,7 @@ public class BatchRunHandler extends BaseOperationCommand {
 
     private final ArgumentWithValue file;
     private final ArgumentWithoutValue verbose;
+    private final ArgumentWithValue chunkSize;
 
     public BatchRunHandler(CommandContext ctx) {
         super(ctx, "batch-run", true);
@@ -48,6 +53,8 @@ public class BatchRunHandler extends BaseOperationCommand {
         file = new FileSystemPathArgument(this, pathCompleter, "--file");
 
         verbose = new ArgumentWithoutValue(this, "--verbose", "-v");
+
+        chunkSize = new ArgumentWithValue(this, "--chunk-size");
     }
 
     /* (non-Javadoc)
@@ -63,6 +70,11 @@ public class BatchRunHandler extends BaseOperationCommand {
         boolean hasFile = file.getValue(ctx.getParsedCommandLine()) != null;
         try {
             final ModelNode request = buildRequest(ctx);
+            final String chunkSizeValue = chunkSize.getValue(ctx.getParsedCommandLine());
+            if (chunkSizeValue != null) {
+                executeInChunks(ctx, request, parseChunkSize(chunkSizeValue), v, hasFile);
+                return;
+            }
             OperationBuilder builder = new OperationBuilder(request, true);
             for (String path : getAttachments(ctx).getAttachedFiles()) {
                 builder.addFileAsAttachment(new File(path));
@@ -74,7 +86,7 @@ public class BatchRunHandler extends BaseOperationCommand {
                 throw new CommandFormatException("Failed to perform operation: " + e.getLocalizedMessage());
             }
             if (!Util.isSuccess(response.getResponseNode())) {
-                String msg = formatBatchError(ctx, response.getResponseNode());
+                String msg = formatBatchError(ctx, response.getResponseNode(), 0);
                 if (msg == null) {
                     msg = Util.getFailureDescription(response.getResponseNode());
                 }
@@ -125,7 +137,133 @@ public class BatchRunHandler extends BaseOperationCommand {
         }
     }
 
-    private static String formatBatchError(CommandContext ctx, ModelNode responseNode) {
+    /**
+     * Executes the steps of the batch as a sequence of composite operations of at most {@code size} steps each.
+     * Each chunk is executed atomically, but a failed chunk does not roll back the chunks executed before it, so
+     * their steps are removed from a batch being edited, which can then be corrected and run again.
+     */
+    private void executeInChunks(CommandContext ctx, ModelNode request, int size, boolean verbose, boolean hasFile) throws CommandLineException {
+        if (!getAttachments(ctx).getAttachedFiles().isEmpty()) {
+            // The attachments are referenced by their index in the whole batch
+            throw new CommandFormatException("--chunk-size is not supported for batches with attached files.");
+        }
+        final List<ModelNode> steps = request.get(Util.STEPS).asList();
+        final List<BatchedCommand> commands = ctx.getBatchManager().getActiveBatch().getCommands();
+        final int chunks = (steps.size() + size - 1) / size;
+        final ModelControllerClient client = ctx.getModelControllerClient();
+        final long start = System.nanoTime();
+        for (int chunk = 0; chunk < chunks; ++chunk) {
+            final int from = chunk * size;
+            final int to = Math.min(from + size, steps.size());
+            final ModelNode composite = new ModelNode();
+            composite.get(Util.OPERATION).set(Util.COMPOSITE);
+            composite.get(Util.ADDRESS).setEmptyList();
+            final ModelNode chunkSteps = composite.get(Util.STEPS).setEmptyList();
+            for (int i = from; i < to; ++i) {
+                chunkSteps.add(steps.get(i));
+            }
+            if (request.hasDefined(Util.OPERATION_HEADERS)) {
+                composite.get(Util.OPERATION_HEADERS).set(request.get(Util.OPERATION_HEADERS));
+            }
+            final String chunkName = "Chunk " + (chunk + 1) + "/" + chunks + " (steps " + (from + 1) + "-" + to + ")";
+
+            final long chunkStart = System.nanoTime();
+            final OperationResponse response;
+            try {
+                response = execute(client, composite, new ProgressHandler(ctx, chunkName));
+            } catch (CommandLineException e) {
+                throw chunkFailed(ctx, chunkName, from, hasFile, e.getLocalizedMessage());
+            }
+            final long chunkTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart);
+            final ModelNode responseNode = response.getResponseNode();
+            if (!Util.isSuccess(responseNode)) {
+                String msg = formatBatchError(ctx, responseNode, from);
+                if (msg == null) {
+                    msg = Util.getFailureDescription(responseNode);
+                }
+                throw chunkFailed(ctx, chunkName, from, hasFile, msg);
+            }
+
+            final ModelNode results = responseNode.get(Util.RESULT);
+            for (int i = from; i < to; ++i) {
+                final ModelNode step = results.get("step-" + (i - from + 1));
+                final BatchedCommand cmd = commands.get(i);
+                if (step.isDefined() && cmd.getResponseHandler() != null) {
+                    cmd.getResponseHandler().handleResponse(step, response);
+                }
+            }
+            if (verbose) {
+                ctx.printDMR(responseNode);
+            }
+            ctx.printLine(chunkName + " executed in " + chunkTime + " ms");
+            super.handleResponse(ctx, responseNode, true);
+        }
+        ctx.printLine("The batch executed successfully in " + chunks + " chunk(s) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    private static CommandFormatException chunkFailed(CommandContext ctx, String chunkName, int executed, boolean hasFile, String msg) {
+        final StringBuilder b = new StringBuilder(chunkName).append(" failed");
+        if (executed > 0) {
+            b.append(", steps 1-").append(executed).append(" were executed successfully");
+            if (!hasFile) {
+                // The batch stays active to be corrected, running it again must not repeat the executed steps
+                final Batch batch = ctx.getBatchManager().getActiveBatch();
+                for (int i = 0; i < executed; ++i) {
+                    batch.remove(0);
+                }
+                b.append(" and were removed from the batch");
+            }
+        }
+        return new CommandFormatException(b.append(": ").append(msg).toString());
+    }
+
+    private static OperationResponse execute(ModelControllerClient client, ModelNode composite,
+            OperationMessageHandler handler) throws CommandLineException {
+        final Future<OperationResponse> future = client.executeOperationAsync(OperationBuilder.create(composite).build(), handler);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CommandLineException("Interrupted while executing the batch");
+        } catch (ExecutionException e) {
+            throw new CommandFormatException("Failed to perform operation: " + e.getCause().getLocalizedMessage());
+        }
+    }
+
+    static int parseChunkSize(String value) throws CommandFormatException {
+        int size;
+        try {
+            size = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            size = -1;
+        }
+        if (size <= 0) {
+            throw new CommandFormatException("--chunk-size must be a positive integer: '" + value + "'");
+        }
+        return size;
+    }
+
+    /**
+     * Prints the progress messages the controller reports while executing a chunk.
+     */
+    private static final class ProgressHandler implements OperationMessageHandler {
+        private final CommandContext ctx;
+        private final String chunkName;
+
+        private ProgressHandler(CommandContext ctx, String chunkName) {
+            this.ctx = ctx;
+            this.chunkName = chunkName;
+        }
+
+        @Override
+        public void handleReport(MessageSeverity severity, String message) {
+            ctx.printLine(chunkName + " " + severity + ": " + message);
+        }
+    }
+
+    private static String formatBatchError(CommandContext ctx, ModelNode responseNode, int offset) {
         if (responseNode == null) {
             return null;
         }
@@ -133,7 +271,7 @@ public class BatchRunHandler extends BaseOperationCommand {
         String msg = null;
         try {
             if (mn.isDefined()) {
-                int index = 0;
+                int index = offset;
                 Batch batch = ctx.getBatchManager().getActiveBatch();
                 StringBuilder b = new StringBuilder();
                 ModelNode fd = responseNode.get(Util.FAILURE_DESCRIPTION);
@@ -97,6 +97,10 @@ public class CLIModelControllerClient extends AbstractModelControllerClient
     private final ProtocolConnectionConfiguration channelConfig;
     private final AtomicInteger state = new AtomicInteger(CLOSED);
 
+    private final DescriptionCache descriptionCache = DescriptionCache.create();
+    // The version of the controller the current channel is connected to, or null if not yet read
+    private volatile String versionKey;
+
     CLIModelControllerClient(final ControllerAddress address, CallbackHandler handler, int connectionTimeout,
             final ConnectionCloseHandler closeHandler, Map<String, String> saslOptions, SecurityFactory<SSLContext> sslContextFactory,
             boolean fallbackSslContext, ProtocolTimeoutHandler timeoutHandler, String clientBindAddress) throws IOException {
@@ -163,6 +167,8 @@ public class CLIModelControllerClient extends AbstractModelControllerClient
         ManagementClientChannelStrategy localStrategy;
         synchronized(lock) {
             if (strategy == null) {
+                // The controller may have been updated since the last connection
+                versionKey = null;
                 final ChannelCloseHandler channelCloseHandler = new ChannelCloseHandler();
                 localStrategy = ManagementClientChannelStrategy.create(channelConfig, channelAssociation, handler, saslOptions, sslContext,
                         channelCloseHandler);
@@ -200,8 +206,57 @@ public class CLIModelControllerClient extends AbstractModelControllerClient
         return strategy != null;
     }
 
+    /**
+     * Executes the operation, serving descriptions from the {@link DescriptionCache} if possible.
+     */
+    @Override
+    public ModelNode execute(ModelNode request) throws IOException {
+        if (descriptionCache == null || !DescriptionCache.isCacheable(request)) {
+            return super.execute(request);
+        }
+        final String version = getVersionKey();
+        if (version == null) {
+            return super.execute(request);
+        }
+        final ModelNode operation = DescriptionCache.withLocale(request);
+        final ModelNode cached = descriptionCache.get(version, operation);
+        if (cached != null) {
+            return cached;
+        }
+        final ModelNode response = super.execute(operation);
+        if (Util.isSuccess(response)) {
+            descriptionCache.put(version, operation, response);
+        }
+        return response;
+    }
+
+    private String getVersionKey() throws IOException {
+        String version = versionKey;
+        if (version == null) {
+            final ModelNode request = new ModelNode();
+            request.get(Util.OPERATION).set(Util.READ_RESOURCE);
+            request.get(Util.ADDRESS).setEmptyList();
+            request.get(Util.ATTRIBUTES_ONLY).set(true);
+            final ModelNode response = super.execute(request);
+            final ModelNode extensionsRequest = new ModelNode();
+            extensionsRequest.get(Util.OPERATION).set(Util.READ_CHILDREN_RESOURCES);
+            extensionsRequest.get(Util.ADDRESS).setEmptyList();
+            extensionsRequest.get(Util.CHILD_TYPE).set(Util.EXTENSION);
+            extensionsRequest.get(Util.RECURSIVE).set(true);
+            final ModelNode extensions = super.execute(extensionsRequest);
+            if (Util.isSuccess(response) && Util.isSuccess(extensions)) {
+                version = DescriptionCache.createVersionKey(response.get(Util.RESULT), extensions.get(Util.RESULT));
+                versionKey = version;
+            }
+        }
+        return version;
+    }
+
     @Override
     public void close() throws IOException {
+        if (descriptionCache != null) {
+            descriptionCache.flush();
+        }
         if(state.get() == CLOSED) {
             return;
         }
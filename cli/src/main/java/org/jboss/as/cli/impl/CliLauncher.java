@@ -10,7 +10,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -50,6 +53,9 @@ public class CliLauncher {
             boolean connect = false;
             boolean version = false;
             int connectionTimeout = -1;
+            boolean controller = false;
+            List<String> controllers = null;
+            int maxParallel = ParallelScriptRunner.DEFAULT_MAX_PARALLEL;
 
             final CommandContextConfiguration.Builder ctxBuilder = new CommandContextConfiguration.Builder();
             ctxBuilder.setErrorOnInteract(errorOnInteract);
@@ -62,6 +68,46 @@ public class CliLauncher {
                     } else {
                         ctxBuilder.setController(arg.substring(11));
                     }
+                    controller = true;
+                } else if(arg.startsWith("--controllers=")) {
+                    if(controllers != null) {
+                        argError = "Only one of '--controllers' or '--controllers-file' can appear as the argument at a time.";
+                        break;
+                    }
+                    controllers = new ArrayList<>();
+                    for(String value : arg.substring(14).split(",")) {
+                        if(!value.trim().isEmpty()) {
+                            controllers.add(value.trim());
+                        }
+                    }
+                } else if(arg.startsWith("--controllers-file=")) {
+                    if(controllers != null) {
+                        argError = "Only one of '--controllers' or '--controllers-file' can appear as the argument at a time.";
+                        break;
+                    }
+                    final File controllersFile = new File(FilenameTabCompleter.expand(arg.substring(19)));
+                    if(!controllersFile.exists()) {
+                        argError = "File " + controllersFile.getAbsolutePath() + " doesn't exist.";
+                        break;
+                    }
+                    controllers = new ArrayList<>();
+                    for(String line : Files.readAllLines(controllersFile.toPath(), Charset.defaultCharset())) {
+                        line = line.trim();
+                        if(!line.isEmpty() && !line.startsWith("#")) {
+                            controllers.add(line);
+                        }
+                    }
+                } else if(arg.startsWith("--max-parallel=")) {
+                    final String value = arg.substring(15);
+                    try {
+                        maxParallel = Integer.parseInt(value);
+                    } catch (final NumberFormatException e) {
+                        maxParallel = -1;
+                    }
+                    if (maxParallel <= 0) {
+                        argError = "The maximum number of parallel targets must be a valid positive integer: '" + value + "'";
+                        break;
+                    }
                 } else if("--connect".equals(arg) || "-c".equals(arg)) {
                     connect = true;
                 } else if("--version".equals(arg)) {
@@ -255,6 +301,16 @@ public class CliLauncher {
                 argError = "--error-on-interact function is only available in non-interactive mode, using --file or --command(s).";
             }
 
+            if(argError == null && controllers != null) {
+                if(file == null && commands == null) {
+                    argError = "'--controllers' and '--controllers-file' are only available in non-interactive mode, using --file or --command(s).";
+                } else if(controller) {
+                    argError = "'--controller' cannot be combined with '--controllers' or '--controllers-file'.";
+                } else if(controllers.isEmpty()) {
+                    argError = "No controller specified by '--controllers' or '--controllers-file'.";
+                }
+            }
+
             ctxBuilder.setConnectionTimeout(connectionTimeout);
 
             if(argError != null) {
@@ -275,6 +331,11 @@ public class CliLauncher {
                 return;
             }
 
+            if(controllers != null) {
+                exitCode = processControllers(controllers, maxParallel, file != null ? readFile(file) : commands, ctxBuilder);
+                return;
+            }
+
             if(file != null) {
                 cmdCtx = initCommandContext(ctxBuilder.build(), connect);
                 processFile(file, cmdCtx);
@@ -360,6 +421,40 @@ public class CliLauncher {
         }
     }
 
+    private static List<String> readFile(File file) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file.toPath(), Charset.defaultCharset())) {
+            lines.add(line.trim());
+        }
+        return lines;
+    }
+
+    /**
+     * Executes the commands against each of the controllers, with a separate command context per controller.
+     * The command contexts run concurrently so they cannot prompt for input, and their outputs are reported once
+     * all the controllers completed.
+     */
+    private static int processControllers(List<String> controllers, int maxParallel, List<String> commands,
+            CommandContextConfiguration.Builder ctxBuilder) throws InterruptedException {
+        ctxBuilder.setErrorOnInteract(true);
+        ctxBuilder.setColorOutput(false);
+        ctxBuilder.setOutputPaging(false);
+        final List<ParallelScriptRunner.Result> results = new ParallelScriptRunner(controllers, maxParallel).run((controller, output) -> {
+            final CommandContextConfiguration config;
+            synchronized (ctxBuilder) {
+                config = ctxBuilder.setController(controller).setConsoleOutput(output).build();
+            }
+            final CommandContext cmdCtx = initCommandContext(config, true);
+            try {
+                processCommands(commands, cmdCtx);
+                return cmdCtx.getExitCode();
+            } finally {
+                cmdCtx.terminateSession();
+            }
+        });
+        return ParallelScriptRunner.printReport(results, System.out);
+    }
+
     private static final String JBOSS_CLI_RC_PROPERTY = "jboss.cli.rc";
     private static final String CURRENT_WORKING_DIRECTORY = "user.dir";
     private static final String JBOSS_CLI_RC_FILE = ".jbossclirc";
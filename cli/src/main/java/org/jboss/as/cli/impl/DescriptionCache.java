@@ -0,0 +1,315 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.cli.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.as.cli.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+import org.jboss.logging.Logger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Persistent cache of the responses to the {@code read-resource-description} and {@code read-operation-description}
+ * requests the CLI issues for tab completion and command validation.
+ * <p>
+ * Descriptions only change with the version of the server and the extensions installed in it, so the cache is
+ * partitioned by the product and management model versions of the controller along with the management model
+ * versions of the subsystems of its extensions, and each partition is stored in its own file under the user's home,
+ * to be reused by later CLI sessions connecting to a controller of the same version. Only requests without operation
+ * headers and access control information are cached, as are only successful responses. Requests are cached along
+ * with the locale they are resolved in, see {@link #withLocale(ModelNode)}. Addresses under {@code host} are never
+ * cached, as in a domain hosts and their servers may run a different version than the domain controller.
+ * <p>
+ * The partitions are stored as new responses accumulate and when the CLI session ends. The responses cached since
+ * the last time a partition was stored are lost if the CLI exits abnormally, and are simply read again from the
+ * controller by a later session.
+ * <p>
+ * The cache is enabled by default. Setting the {@code jboss.cli.description-cache} system property to {@code false}
+ * disables it and the {@code jboss.cli.description-cache.dir} system property overrides its location.
+ */
+final class DescriptionCache {
+
+    static final String ENABLED_PROPERTY = "jboss.cli.description-cache";
+    static final String DIR_PROPERTY = "jboss.cli.description-cache.dir";
+    static final String DEFAULT_DIR = ".jboss-cli-description-cache";
+    static final int MAX_ENTRIES = 5000;
+    /** The number of responses cached before the modified partitions are stored. */
+    static final int FLUSH_INTERVAL = 100;
+
+    private static final Logger log = Logger.getLogger(DescriptionCache.class);
+    private static final String FILE_SUFFIX = ".dmr";
+
+    private final File dir;
+    private final Map<String, Partition> partitions = new HashMap<>();
+    private int unflushed;
+
+    DescriptionCache(final File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Creates the cache configured by the system properties.
+     *
+     * @return the cache, or {@code null} if it is disabled
+     */
+    static DescriptionCache create() {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "true"))) {
+            return null;
+        }
+        String dir = WildFlySecurityManager.getPropertyPrivileged(DIR_PROPERTY, null);
+        if (dir == null) {
+            final String userHome = WildFlySecurityManager.getPropertyPrivileged("user.home", null);
+            if (userHome == null) {
+                return null;
+            }
+            dir = new File(userHome, DEFAULT_DIR).getAbsolutePath();
+        }
+        return new DescriptionCache(new File(dir));
+    }
+
+    /**
+     * Whether the response to a request can be cached.
+     *
+     * @param request the request
+     * @return {@code true} if the request reads a description which only depends on the version of the server
+     */
+    static boolean isCacheable(final ModelNode request) {
+        if (!request.hasDefined(Util.OPERATION)) {
+            return false;
+        }
+        final String name = request.get(Util.OPERATION).asString();
+        if (!Util.READ_RESOURCE_DESCRIPTION.equals(name) && !Util.READ_OPERATION_DESCRIPTION.equals(name)) {
+            return false;
+        }
+        if (request.hasDefined(Util.OPERATION_HEADERS) || request.hasDefined(Util.ACCESS_CONTROL)) {
+            return false;
+        }
+        if (request.hasDefined(Util.ADDRESS)) {
+            final List<Property> address = request.get(Util.ADDRESS).asPropertyList();
+            return address.isEmpty() || !Util.HOST.equals(address.get(0).getName());
+        }
+        return true;
+    }
+
+    /**
+     * Sets the locale of a cacheable request to the default locale of the CLI if it has none, so the descriptions it
+     * returns do not depend on the default locale of the controller, which is not part of the version key.
+     *
+     * @param request the cacheable request
+     * @return the request, or a copy of it with a locale
+     */
+    static ModelNode withLocale(final ModelNode request) {
+        if (request.hasDefined(Util.LOCALE)) {
+            return request;
+        }
+        final ModelNode localized = request.clone();
+        localized.get(Util.LOCALE).set(Locale.getDefault().toString());
+        return localized;
+    }
+
+    /**
+     * Creates the key identifying the version of a controller, from the response to a {@code read-resource}
+     * of its root resource and to a recursive {@code read-children-resources} of its extensions.
+     *
+     * @param rootResource the root resource
+     * @param extensions the extension resources, by extension name
+     * @return the key, or {@code null} if the version of the controller is not known
+     */
+    static String createVersionKey(final ModelNode rootResource, final ModelNode extensions) {
+        if (!rootResource.hasDefined(Util.RELEASE_VERSION) || !rootResource.hasDefined("management-major-version")) {
+            return null;
+        }
+        final StringBuilder key = new StringBuilder();
+        for (String attribute : new String[] {Util.PRODUCT_NAME, Util.PRODUCT_VERSION, Util.RELEASE_VERSION,
+                "management-major-version", "management-minor-version", "management-micro-version"}) {
+            if (key.length() > 0) {
+                key.append('_');
+            }
+            if (rootResource.hasDefined(attribute)) {
+                key.append(rootResource.get(attribute).asString());
+            }
+        }
+        key.append('_').append(createExtensionsDigest(extensions));
+        // Keep the key usable as a file name
+        return key.toString().replaceAll("[^A-Za-z0-9._-]", "-");
+    }
+
+    /**
+     * Digests the names, modules and subsystem management model versions of the extensions, which are too many
+     * to be part of a file name.
+     */
+    private static String createExtensionsDigest(final ModelNode extensions) {
+        final StringBuilder versions = new StringBuilder();
+        for (Map.Entry<String, ModelNode> extension : sorted(extensions).entrySet()) {
+            versions.append(extension.getKey()).append('=').append(extension.getValue().get(Util.MODULE).asString("")).append('\n');
+            for (Map.Entry<String, ModelNode> subsystem : sorted(extension.getValue().get(Util.SUBSYSTEM)).entrySet()) {
+                final ModelNode subsystemResource = subsystem.getValue();
+                versions.append(' ').append(subsystem.getKey()).append('=')
+                        .append(subsystemResource.get("management-major-version").asString("")).append('.')
+                        .append(subsystemResource.get("management-minor-version").asString("")).append('.')
+                        .append(subsystemResource.get("management-micro-version").asString("")).append('\n');
+            }
+        }
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(versions.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder hex = new StringBuilder();
+        // Half of the digest is plenty to tell the extensions of the controllers of the same version apart
+        for (int i = 0; i < digest.length / 2; ++i) {
+            hex.append(String.format("%02x", digest[i]));
+        }
+        return hex.toString();
+    }
+
+    private static Map<String, ModelNode> sorted(final ModelNode resources) {
+        final Map<String, ModelNode> sorted = new TreeMap<>();
+        if (resources.isDefined()) {
+            for (Property property : resources.asPropertyList()) {
+                sorted.put(property.getName(), property.getValue());
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Gets the cached response to a request.
+     *
+     * @param versionKey the version of the controller
+     * @param request the request
+     * @return a copy of the response, or {@code null} if it is not cached
+     */
+    synchronized ModelNode get(final String versionKey, final ModelNode request) {
+        final ModelNode response = getPartition(versionKey).entries.get(createRequestKey(request));
+        return response == null ? null : response.clone();
+    }
+
+    /**
+     * Caches the response to a request.
+     *
+     * @param versionKey the version of the controller
+     * @param request the request
+     * @param response the successful response
+     */
+    synchronized void put(final String versionKey, final ModelNode request, final ModelNode response) {
+        final Partition partition = getPartition(versionKey);
+        partition.entries.put(createRequestKey(request), response.clone());
+        partition.dirty = true;
+        if (++unflushed >= FLUSH_INTERVAL) {
+            flush();
+        }
+    }
+
+    /**
+     * Stores the modified partitions of the cache.
+     */
+    synchronized void flush() {
+        unflushed = 0;
+        for (Map.Entry<String, Partition> entry : partitions.entrySet()) {
+            final Partition partition = entry.getValue();
+            if (partition.dirty) {
+                try {
+                    store(entry.getKey(), partition);
+                    partition.dirty = false;
+                } catch (IOException e) {
+                    log.debugf(e, "Failed to store the description cache in %s", dir);
+                }
+            }
+        }
+    }
+
+    private Partition getPartition(final String versionKey) {
+        Partition partition = partitions.get(versionKey);
+        if (partition == null) {
+            partition = new Partition();
+            load(versionKey, partition);
+            partitions.put(versionKey, partition);
+        }
+        return partition;
+    }
+
+    private void load(final String versionKey, final Partition partition) {
+        final File file = new File(dir, versionKey + FILE_SUFFIX);
+        if (!file.isFile()) {
+            return;
+        }
+        final ModelNode stored = new ModelNode();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            stored.readExternal(new DataInputStream(in));
+            for (Property entry : stored.asPropertyList()) {
+                partition.entries.put(entry.getName(), entry.getValue());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Ignoring the invalid description cache %s", file);
+            partition.entries.clear();
+        }
+    }
+
+    private void store(final String versionKey, final Partition partition) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Failed to create " + dir);
+        }
+        final ModelNode stored = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, ModelNode> entry : partition.entries.entrySet()) {
+            stored.get(entry.getKey()).set(entry.getValue());
+        }
+        // Write to a temp file first so that concurrent CLI sessions never read a partially written cache
+        final Path temp = Files.createTempFile(dir.toPath(), versionKey, ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                stored.writeExternal(new DataOutputStream(out));
+            }
+            Files.move(temp, new File(dir, versionKey + FILE_SUFFIX).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String createRequestKey(final ModelNode request) {
+        final ModelNode key = new ModelNode();
+        key.get(Util.ADDRESS).set(request.hasDefined(Util.ADDRESS) ? request.get(Util.ADDRESS) : new ModelNode().setEmptyList());
+        for (Property property : request.asPropertyList()) {
+            if (!Util.ADDRESS.equals(property.getName())) {
+                key.get(property.getName()).set(property.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    private static final class Partition {
+        private final Map<String, ModelNode> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ModelNode> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        private boolean dirty;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.cli.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.cli.Util;
+
+/**
+ * Executes the same script against several controllers concurrently, using a bounded number of threads.
+ * <p>
+ * The output of each target is buffered while the script executes and printed along with its outcome in a report
+ * once all the targets completed, in the order the targets were given.
+ */
+final class ParallelScriptRunner {
+
+    static final int DEFAULT_MAX_PARALLEL = 10;
+
+    /**
+     * Executes the script against a single target.
+     */
+    @FunctionalInterface
+    interface TargetScript {
+
+        /**
+         * Executes the script against a controller.
+         *
+         * @param controller the address of the controller
+         * @param output the output of the script
+         * @return the exit code of the script, {@code 0} if it succeeded
+         * @throws Exception if the script could not be executed
+         */
+        int execute(String controller, OutputStream output) throws Exception;
+    }
+
+    /**
+     * The outcome of the script for a single target.
+     */
+    static final class Result {
+        private final String controller;
+        private final int exitCode;
+        private final Throwable failure;
+        private final String output;
+        private final long time;
+
+        private Result(String controller, int exitCode, Throwable failure, String output, long time) {
+            this.controller = controller;
+            this.exitCode = exitCode;
+            this.failure = failure;
+            this.output = output;
+            this.time = time;
+        }
+
+        String getController() {
+            return controller;
+        }
+
+        int getExitCode() {
+            return exitCode;
+        }
+
+        Throwable getFailure() {
+            return failure;
+        }
+
+        String getOutput() {
+            return output;
+        }
+
+        boolean isSuccess() {
+            return exitCode == 0 && failure == null;
+        }
+    }
+
+    private final List<String> controllers;
+    private final int maxParallel;
+
+    ParallelScriptRunner(List<String> controllers, int maxParallel) {
+        this.controllers = controllers;
+        this.maxParallel = Math.max(1, Math.min(maxParallel, controllers.size()));
+    }
+
+    /**
+     * Executes the script against all the targets and waits for them to complete.
+     *
+     * @param script the script
+     * @return the results, in the order of the targets
+     * @throws InterruptedException if the thread was interrupted while waiting for the targets
+     */
+    List<Result> run(final TargetScript script) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(maxParallel, new TargetThreadFactory());
+        try {
+            final List<Future<Result>> futures = new ArrayList<>(controllers.size());
+            for (String controller : controllers) {
+                futures.add(executor.submit(() -> execute(controller, script)));
+            }
+            final List<Result> results = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); ++i) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // execute() handles all failures of the script itself
+                    results.add(new Result(controllers.get(i), 1, e.getCause(), "", 0));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Prints the outcome and the output of each target followed by a summary.
+     *
+     * @param results the results
+     * @param out the stream to print to
+     * @return the exit code of the launcher, {@code 0} if the script succeeded against all targets
+     */
+    static int printReport(final List<Result> results, final PrintStream out) {
+        final List<String> failed = new ArrayList<>();
+        for (Result result : results) {
+            out.println("=== " + result.controller + ": " + (result.isSuccess() ? "SUCCESS" : "FAILED")
+                    + " (" + result.time + " ms)");
+            if (!result.output.isEmpty()) {
+                out.print(result.output);
+                if (!result.output.endsWith("\n")) {
+                    out.println();
+                }
+            }
+            if (result.failure != null) {
+                out.println(Util.getMessagesFromThrowable(result.failure));
+            }
+            if (!result.isSuccess()) {
+                failed.add(result.controller);
+            }
+        }
+        out.println("=== " + results.size() + " target(s), " + (results.size() - failed.size()) + " succeeded, "
+                + failed.size() + " failed");
+        if (!failed.isEmpty()) {
+            out.println("Failed targets: " + String.join(", ", failed));
+            return 1;
+        }
+        return 0;
+    }
+
+    private static Result execute(final String controller, final TargetScript script) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final long start = System.nanoTime();
+        int exitCode;
+        Throwable failure = null;
+        try {
+            exitCode = script.execute(controller, output);
+        } catch (Throwable t) {
+            exitCode = 1;
+            failure = t;
+        }
+        final long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new Result(controller, exitCode, failure, output.toString(), time);
+    }
+
+    private static final class TargetThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r, "CLI script target " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
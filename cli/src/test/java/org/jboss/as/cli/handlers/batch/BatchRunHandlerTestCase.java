@@ -0,0 +1,185 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.cli.handlers.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.as.cli.CommandContext;
+import org.jboss.as.cli.CommandContextFactory;
+import org.jboss.as.cli.CommandFormatException;
+import org.jboss.as.cli.CommandLineException;
+import org.jboss.as.cli.Util;
+import org.jboss.as.cli.batch.BatchedCommand;
+import org.jboss.as.cli.impl.CommandContextConfiguration;
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.client.helpers.ClientConstants;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the execution of a batch in chunks by {@link BatchRunHandler}.
+ */
+public class BatchRunHandlerTestCase {
+
+    private final ChunkRecordingClient client = new ChunkRecordingClient();
+    private CommandContext ctx;
+
+    @Before
+    public void createContext() throws Exception {
+        ctx = CommandContextFactory.getInstance().newCommandContext(new CommandContextConfiguration.Builder()
+                .setConsoleOutput(new ByteArrayOutputStream())
+                .setInitConsole(false)
+                .setValidateOperationRequests(false)
+                .build());
+        ctx.bindClient(client);
+    }
+
+    @After
+    public void terminateContext() {
+        ctx.terminateSession();
+    }
+
+    @Test
+    public void testChunks() throws Exception {
+        ctx.handle("batch");
+        for (int i = 1; i <= 5; ++i) {
+            ctx.handle(":step" + i);
+        }
+        ctx.handle("run-batch --chunk-size=2");
+
+        assertEquals(3, client.chunks.size());
+        assertEquals(2, client.chunks.get(0).size());
+        assertEquals(2, client.chunks.get(1).size());
+        assertEquals(1, client.chunks.get(2).size());
+        assertEquals("step5", client.chunks.get(2).get(0).get(Util.OPERATION).asString());
+        assertFalse(ctx.getBatchManager().isBatchActive());
+    }
+
+    @Test
+    public void testFailedChunk() throws Exception {
+        ctx.handle("batch");
+        ctx.handle(":step1");
+        ctx.handle(":step2");
+        ctx.handle(":fail");
+        ctx.handle(":step4");
+        try {
+            ctx.handle("run-batch --chunk-size=2");
+            fail("The second chunk should have failed");
+        } catch (CommandLineException e) {
+            assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("removed from the batch"));
+        }
+        assertEquals(2, client.chunks.size());
+
+        // The executed steps are no longer part of the batch, which remains active to be corrected
+        assertTrue(ctx.getBatchManager().isBatchActive());
+        final List<BatchedCommand> commands = ctx.getBatchManager().getActiveBatch().getCommands();
+        assertEquals(2, commands.size());
+        assertEquals(":fail", commands.get(0).getCommand());
+        assertEquals(":step4", commands.get(1).getCommand());
+
+        ctx.getBatchManager().getActiveBatch().remove(0);
+        ctx.handle("run-batch --chunk-size=2");
+        assertEquals(3, client.chunks.size());
+        assertEquals(1, client.chunks.get(2).size());
+        assertEquals("step4", client.chunks.get(2).get(0).get(Util.OPERATION).asString());
+        assertFalse(ctx.getBatchManager().isBatchActive());
+    }
+
+    @Test
+    public void testFailedFirstChunk() throws Exception {
+        ctx.handle("batch");
+        ctx.handle(":fail");
+        ctx.handle(":step2");
+        try {
+            ctx.handle("run-batch --chunk-size=1");
+            fail("The first chunk should have failed");
+        } catch (CommandLineException e) {
+            assertFalse(e.getCause().getMessage(), e.getCause().getMessage().contains("removed from the batch"));
+        }
+        assertEquals(1, client.chunks.size());
+        assertEquals(2, ctx.getBatchManager().getActiveBatch().size());
+    }
+
+    @Test
+    public void testParseChunkSize() throws Exception {
+        assertEquals(1, BatchRunHandler.parseChunkSize("1"));
+        assertEquals(500, BatchRunHandler.parseChunkSize("500"));
+        for (String invalid : new String[] {"0", "-1", "", "ten", "1.5", "99999999999"}) {
+            try {
+                BatchRunHandler.parseChunkSize(invalid);
+                fail("Chunk size '" + invalid + "' should be invalid");
+            } catch (CommandFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Records the steps of the composite operations it executes, failing those with a {@code fail} step.
+     */
+    private static final class ChunkRecordingClient implements ModelControllerClient {
+
+        private final List<List<ModelNode>> chunks = new ArrayList<>();
+
+        @Override
+        public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+            return OperationResponse.Factory.createSimple(respond(operation.getOperation()));
+        }
+
+        @Override
+        public CompletableFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+            return CompletableFuture.completedFuture(respond(operation.getOperation()));
+        }
+
+        @Override
+        public CompletableFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+            return CompletableFuture.completedFuture(executeOperation(operation, messageHandler));
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private ModelNode respond(ModelNode operation) {
+            final ModelNode response = new ModelNode();
+            if (!Util.COMPOSITE.equals(operation.get(Util.OPERATION).asString())) {
+                response.get(Util.OUTCOME).set(ClientConstants.FAILED);
+                response.get(Util.FAILURE_DESCRIPTION).set("Unsupported operation");
+                return response;
+            }
+            final List<ModelNode> steps = operation.get(Util.STEPS).asList();
+            chunks.add(steps);
+            boolean failed = false;
+            for (int i = 0; i < steps.size(); ++i) {
+                final ModelNode result = response.get(Util.RESULT, "step-" + (i + 1));
+                if ("fail".equals(steps.get(i).get(Util.OPERATION).asString())) {
+                    result.get(Util.OUTCOME).set(ClientConstants.FAILED);
+                    result.get(Util.FAILURE_DESCRIPTION).set("Failed step");
+                    failed = true;
+                } else {
+                    result.get(Util.OUTCOME).set(Util.SUCCESS);
+                }
+            }
+            response.get(Util.OUTCOME).set(failed ? ClientConstants.FAILED : Util.SUCCESS);
+            if (failed) {
+                response.get(Util.FAILURE_DESCRIPTION).set("Composite operation failed");
+            }
+            return response;
+        }
+    }
+}
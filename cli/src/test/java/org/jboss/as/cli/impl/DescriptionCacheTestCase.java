@@ -0,0 +1,178 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.cli.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.jboss.as.cli.Util;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link DescriptionCache}.
+ */
+public class DescriptionCacheTestCase {
+
+    private Path dir;
+
+    @Before
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("description-cache");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testCacheable() {
+        assertTrue(DescriptionCache.isCacheable(request(Util.READ_RESOURCE_DESCRIPTION, "subsystem", "logging")));
+        assertTrue(DescriptionCache.isCacheable(request(Util.READ_OPERATION_DESCRIPTION)));
+        assertFalse(DescriptionCache.isCacheable(request(Util.READ_RESOURCE, "subsystem", "logging")));
+        assertFalse(DescriptionCache.isCacheable(request(Util.READ_RESOURCE_DESCRIPTION, "host", "primary", "subsystem", "logging")));
+
+        ModelNode accessControl = request(Util.READ_RESOURCE_DESCRIPTION);
+        accessControl.get(Util.ACCESS_CONTROL).set("trim-descriptions");
+        assertFalse(DescriptionCache.isCacheable(accessControl));
+
+        ModelNode headers = request(Util.READ_RESOURCE_DESCRIPTION);
+        headers.get(Util.OPERATION_HEADERS, "roles").set("Monitor");
+        assertFalse(DescriptionCache.isCacheable(headers));
+    }
+
+    @Test
+    public void testPersistedPerVersion() {
+        ModelNode request = request(Util.READ_RESOURCE_DESCRIPTION, "subsystem", "logging");
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT, Util.DESCRIPTION).set("logging");
+
+        DescriptionCache cache = new DescriptionCache(dir.toFile());
+        cache.put("1.0", request, response);
+        assertEquals(response, cache.get("1.0", request));
+        assertNull(cache.get("2.0", request));
+        cache.flush();
+
+        // A later session reads the persisted descriptions of the same version only
+        DescriptionCache next = new DescriptionCache(dir.toFile());
+        assertEquals(response, next.get("1.0", request));
+        assertNull(next.get("2.0", request));
+        assertNull(next.get("1.0", request(Util.READ_RESOURCE_DESCRIPTION, "subsystem", "jmx")));
+    }
+
+    @Test
+    public void testCachedResponseCopied() {
+        ModelNode request = request(Util.READ_RESOURCE_DESCRIPTION);
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+
+        DescriptionCache cache = new DescriptionCache(dir.toFile());
+        cache.put("1.0", request, response);
+        cache.get("1.0", request).get(Util.RESULT).set("modified");
+        assertFalse(cache.get("1.0", request).hasDefined(Util.RESULT));
+    }
+
+    @Test
+    public void testInvalidFileIgnored() throws IOException {
+        Files.write(dir.resolve("1.0.dmr"), new byte[] {1, 2, 3});
+        DescriptionCache cache = new DescriptionCache(dir.toFile());
+        ModelNode request = request(Util.READ_RESOURCE_DESCRIPTION);
+        assertNull(cache.get("1.0", request));
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        cache.put("1.0", request, response);
+        cache.flush();
+        assertNotNull(new DescriptionCache(dir.toFile()).get("1.0", request));
+    }
+
+    @Test
+    public void testVersionKey() {
+        ModelNode root = new ModelNode();
+        ModelNode extensions = new ModelNode();
+        extensions.get("org.jboss.as.logging", Util.MODULE).set("org.jboss.as.logging");
+        extensions.get("org.jboss.as.logging", Util.SUBSYSTEM, "logging", "management-major-version").set(8);
+        extensions.get("org.jboss.as.logging", Util.SUBSYSTEM, "logging", "management-minor-version").set(0);
+        extensions.get("org.jboss.as.logging", Util.SUBSYSTEM, "logging", "management-micro-version").set(0);
+        assertNull(DescriptionCache.createVersionKey(root, extensions));
+        root.get(Util.PRODUCT_NAME).set("WildFly Full");
+        root.get(Util.PRODUCT_VERSION).set("30.0.0.Final");
+        root.get(Util.RELEASE_VERSION).set("22.0.1.Final");
+        root.get("management-major-version").set(22);
+        root.get("management-minor-version").set(0);
+        root.get("management-micro-version").set(0);
+        String key = DescriptionCache.createVersionKey(root, extensions);
+        assertTrue(key, key.startsWith("WildFly-Full_30.0.0.Final_22.0.1.Final_22_0_0_"));
+        assertEquals(key, DescriptionCache.createVersionKey(root, extensions.clone()));
+
+        // Installing an extension or upgrading a subsystem changes the key
+        ModelNode installed = extensions.clone();
+        installed.get("org.jboss.as.jmx", Util.MODULE).set("org.jboss.as.jmx");
+        installed.get("org.jboss.as.jmx", Util.SUBSYSTEM, "jmx", "management-major-version").set(1);
+        assertFalse(key.equals(DescriptionCache.createVersionKey(root, installed)));
+        ModelNode upgraded = extensions.clone();
+        upgraded.get("org.jboss.as.logging", Util.SUBSYSTEM, "logging", "management-minor-version").set(1);
+        assertFalse(key.equals(DescriptionCache.createVersionKey(root, upgraded)));
+    }
+
+    @Test
+    public void testLocale() {
+        ModelNode request = request(Util.READ_RESOURCE_DESCRIPTION);
+        ModelNode localized = DescriptionCache.withLocale(request);
+        assertEquals(Locale.getDefault().toString(), localized.get(Util.LOCALE).asString());
+        assertFalse(request.hasDefined(Util.LOCALE));
+
+        ModelNode french = request(Util.READ_RESOURCE_DESCRIPTION);
+        french.get(Util.LOCALE).set("fr");
+        assertEquals("fr", DescriptionCache.withLocale(french).get(Util.LOCALE).asString());
+
+        // The descriptions of each locale are cached separately
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        DescriptionCache cache = new DescriptionCache(dir.toFile());
+        cache.put("1.0", french, response);
+        assertNull(cache.get("1.0", DescriptionCache.withLocale(request)));
+        assertEquals(response, cache.get("1.0", french));
+    }
+
+    @Test
+    public void testPeriodicFlush() {
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        DescriptionCache cache = new DescriptionCache(dir.toFile());
+        for (int i = 0; i < DescriptionCache.FLUSH_INTERVAL; ++i) {
+            cache.put("1.0", request(Util.READ_RESOURCE_DESCRIPTION, "subsystem", "s" + i), response);
+        }
+        // Stored without the cache being flushed, as if the session had not ended normally
+        assertEquals(response, new DescriptionCache(dir.toFile()).get("1.0", request(Util.READ_RESOURCE_DESCRIPTION, "subsystem", "s0")));
+    }
+
+    private static ModelNode request(String operation, String... address) {
+        ModelNode request = new ModelNode();
+        request.get(Util.OPERATION).set(operation);
+        request.get(Util.ADDRESS).setEmptyList();
+        for (int i = 0; i < address.length; i += 2) {
+            request.get(Util.ADDRESS).add(address[i], address[i + 1]);
+        }
+        return request;
+    }
+}
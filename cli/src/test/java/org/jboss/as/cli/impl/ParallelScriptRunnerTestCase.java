@@ -0,0 +1,91 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.cli.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ParallelScriptRunner}.
+ */
+public class ParallelScriptRunnerTestCase {
+
+    @Test
+    public void testResultsInTargetOrder() throws Exception {
+        List<String> controllers = Arrays.asList("a", "b", "c", "d");
+        List<ParallelScriptRunner.Result> results = new ParallelScriptRunner(controllers, 4).run((controller, output) -> {
+            // Complete the first targets last
+            Thread.sleep(10 * (4 - controllers.indexOf(controller)));
+            output.write(("output of " + controller).getBytes(StandardCharsets.UTF_8));
+            return 0;
+        });
+        List<String> order = new ArrayList<>();
+        for (ParallelScriptRunner.Result result : results) {
+            order.add(result.getController());
+            assertTrue(result.isSuccess());
+            assertEquals("output of " + result.getController(), result.getOutput());
+        }
+        assertEquals(controllers, order);
+    }
+
+    @Test
+    public void testMaxParallel() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> controllers = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h");
+        new ParallelScriptRunner(controllers, 3).run((controller, output) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return 0;
+        });
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void testFailures() throws Exception {
+        List<ParallelScriptRunner.Result> results = new ParallelScriptRunner(Arrays.asList("ok", "failed", "unreachable"), 2)
+                .run((controller, output) -> {
+                    switch (controller) {
+                        case "failed":
+                            return 1;
+                        case "unreachable":
+                            throw new IllegalStateException("Failed to connect");
+                        default:
+                            return 0;
+                    }
+                });
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1, results.get(1).getExitCode());
+        assertFalse(results.get(2).isSuccess());
+        assertTrue(results.get(2).getFailure() instanceof IllegalStateException);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertEquals(1, ParallelScriptRunner.printReport(results, new PrintStream(bytes, true, "UTF-8")));
+        String report = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(report, report.contains("3 target(s), 1 succeeded, 2 failed"));
+        assertTrue(report, report.contains("Failed targets: failed, unreachable"));
+    }
+
+    @Test
+    public void testAllSucceeded() throws Exception {
+        List<ParallelScriptRunner.Result> results = new ParallelScriptRunner(Arrays.asList("a", "b"), 10)
+                .run((controller, output) -> 0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertEquals(0, ParallelScriptRunner.printReport(results, new PrintStream(bytes, true, "UTF-8")));
+    }
+}
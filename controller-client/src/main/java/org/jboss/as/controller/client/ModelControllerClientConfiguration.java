@@ -119,6 +119,17 @@ public interface ModelControllerClientConfiguration extends Closeable {
         return null;
     }
 
+    /**
+     * Get the maximum number of operations the client sends without having received their response. Operations
+     * executed asynchronously are pipelined on the same connection; once the limit is reached, executing a further
+     * operation blocks until the response to an earlier one is received.
+     *
+     * @return the maximum number of operations awaiting a response, or {@code 0} if not limited
+     */
+    default int getMaxInFlightOperations() {
+        return 0;
+    }
+
     class Builder {
 
         // Global thread group for created pools. WFCORE-5 static to avoid leaking whenever createDefaultExecutor is called
@@ -137,6 +148,7 @@ public interface ModelControllerClientConfiguration extends Closeable {
         private String protocol;
         private int connectionTimeout = 0;
         private URI authConfigUri;
+        private int maxInFlightOperations;
 
         public Builder() {
         }
@@ -252,6 +264,16 @@ public interface ModelControllerClientConfiguration extends Closeable {
             return this;
         }
 
+        /**
+         * Sets the maximum number of operations the client sends without having received their response.
+         * @param maxInFlightOperations the maximum number of operations awaiting a response, or {@code 0} for no limit
+         * @return a builder to allow continued configuration
+         */
+        public Builder setMaxInFlightOperations(int maxInFlightOperations) {
+            this.maxInFlightOperations = maxInFlightOperations;
+            return this;
+        }
+
         /**
          * Builds the configuration object based on this builder's settings.
          *
@@ -259,7 +281,7 @@ public interface ModelControllerClientConfiguration extends Closeable {
          */
         public ModelControllerClientConfiguration build() {
            return new ClientConfigurationImpl(hostName, port, handler, saslOptions, sslContextFactory,
-                   createDefaultExecutor(), true, connectionTimeout, protocol, clientBindAddress, authConfigUri);
+                   createDefaultExecutor(), true, connectionTimeout, protocol, clientBindAddress, authConfigUri, maxInFlightOperations);
         }
 
         private static ExecutorService createDefaultExecutor() {
@@ -4,21 +4,16 @@
  */
 package org.jboss.as.controller.client;
 
-import java.io.BufferedInputStream;
-import java.io.DataOutput;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.common.Assert;
 
 import java.io.File;
-import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import org.jboss.as.controller.client.impl.InputStreamEntry;
-import org.jboss.as.protocol.StreamUtils;
 
 /**
  * Builder for a {@link Operation}.
@@ -52,7 +47,7 @@ public class OperationBuilder {
     public OperationBuilder addFileAsAttachment(final File file) {
         Assert.checkNotNullParam("file", file);
         try {
-            FileStreamEntry entry = new FileStreamEntry(file);
+            InputStreamEntry.FileStreamEntry entry = new InputStreamEntry.FileStreamEntry(file);
             if (inputStreams == null) {
                 inputStreams = new ArrayList<InputStream>();
             }
@@ -73,7 +68,7 @@ public class OperationBuilder {
     public OperationBuilder addFileAsAttachment(final Path file) {
         Assert.checkNotNullParam("file", file);
         try {
-            FileStreamEntry entry = new FileStreamEntry(file);
+            InputStreamEntry.FileStreamEntry entry = new InputStreamEntry.FileStreamEntry(file);
             if (inputStreams == null) {
                 inputStreams = new ArrayList<InputStream>();
             }
@@ -149,31 +144,4 @@ public class OperationBuilder {
         return new OperationBuilder(operation, autoCloseStreams);
     }
 
-    // Wrap the FIS in a streamEntry so that the controller-client has access to the underlying File
-    private static class FileStreamEntry extends FilterInputStream implements InputStreamEntry {
-
-        private final Path file;
-        private FileStreamEntry(final File file) throws IOException {
-            this(file.toPath());
-        }
-
-        private FileStreamEntry(final Path file) throws IOException {
-            super(Files.newInputStream(file)); // This stream will get closed regardless of autoClose
-            this.file = file;
-        }
-
-        @Override
-        public int initialize() throws IOException {
-            return (int) Files.size(file);
-        }
-
-        @Override
-        public void copyStream(final DataOutput output) throws IOException {
-            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
-                StreamUtils.copyStream(in, output);
-            }
-        }
-
-    }
-
 }
@@ -9,12 +9,15 @@ import static org.jboss.as.controller.client.helpers.ClientConstants.RESPONSE_HE
 import static org.jboss.as.protocol.mgmt.ProtocolUtils.expectHeader;
 
 import java.io.DataInput;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -52,6 +55,25 @@ public abstract class AbstractModelControllerClient implements ModelControllerCl
 
     private static final OperationMessageHandler NO_OP_HANDLER = OperationMessageHandler.DISCARD;
 
+    /** Limits the number of operations awaiting a response, or {@code null} if not limited */
+    private final Semaphore inFlightOperations;
+
+    protected AbstractModelControllerClient() {
+        this(0);
+    }
+
+    /**
+     * Creates a client limiting the number of operations it sends without having received their response. All
+     * operations are multiplexed on the same channel, so many operations can be executed concurrently using the
+     * {@code executeAsync} methods. Once the limit is reached, sending a further operation blocks until the response
+     * to an earlier one is received.
+     *
+     * @param maxInFlightOperations the maximum number of operations awaiting a response, or {@code 0} for no limit
+     */
+    protected AbstractModelControllerClient(final int maxInFlightOperations) {
+        this.inFlightOperations = maxInFlightOperations > 0 ? new Semaphore(maxInFlightOperations, true) : null;
+    }
+
     /**
      * Get the mgmt channel association.
      *
@@ -260,7 +282,26 @@ public abstract class AbstractModelControllerClient implements ModelControllerCl
     <T> CompletableFuture<T> executeRequest(final ManagementRequest<OperationResponse, OperationExecutionContext> request,
                                             final OperationExecutionContext attachment,
                                             final Function<OperationResponse, T> transformer) throws IOException {
-        final ActiveOperation<OperationResponse, OperationExecutionContext> activeOperation = getChannelAssociation().executeRequest(request, attachment, attachment);
+        final ActiveOperation<OperationResponse, OperationExecutionContext> activeOperation;
+        if (inFlightOperations == null) {
+            activeOperation = getChannelAssociation().executeRequest(request, attachment, attachment);
+        } else {
+            try {
+                inFlightOperations.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException cause = new InterruptedIOException(e.getLocalizedMessage());
+                cause.initCause(e);
+                throw cause;
+            }
+            try {
+                activeOperation = getChannelAssociation().executeRequest(request, attachment, attachment);
+            } catch (IOException | RuntimeException e) {
+                inFlightOperations.release();
+                throw e;
+            }
+            activeOperation.getResult().addListener(new InFlightOperationListener(), inFlightOperations);
+        }
         Consumer<Boolean> asyncCancelTask = interruptionAllowed -> executeCancelAsyncRequest(activeOperation);
         return activeOperation.getCompletableFuture(transformer, asyncCancelTask);
     }
@@ -289,6 +330,27 @@ public abstract class AbstractModelControllerClient implements ModelControllerCl
         } // else the ActiveOperation is already done and there's nothing to cancel
     }
 
+    /**
+     * Releases the permit of an operation once its response was received, or it failed or was cancelled.
+     */
+    private static class InFlightOperationListener implements AsyncFuture.Listener<OperationResponse, Semaphore> {
+
+        @Override
+        public void handleComplete(AsyncFuture<? extends OperationResponse> future, Semaphore attachment) {
+            attachment.release();
+        }
+
+        @Override
+        public void handleFailed(AsyncFuture<? extends OperationResponse> future, Throwable cause, Semaphore attachment) {
+            attachment.release();
+        }
+
+        @Override
+        public void handleCancelled(AsyncFuture<? extends OperationResponse> future, Semaphore attachment) {
+            attachment.release();
+        }
+    }
+
     static class OperationExecutionContext implements ActiveOperation.CompletedCallback<OperationResponse> {
 
         private final Operation operation;
@@ -388,6 +450,9 @@ public abstract class AbstractModelControllerClient implements ModelControllerCl
         for(final InputStream stream : streams) {
             if(stream instanceof InputStreamEntry) {
                 entries.add((InputStreamEntry) stream);
+            } else if (stream.getClass() == FileInputStream.class) {
+                // Send the file directly rather than caching a copy of it first
+                entries.add(new InputStreamEntry.FileChannelStreamEntry((FileInputStream) stream, autoClose));
             } else {
                 entries.add(new InputStreamEntry.CachingInMemoryFallbackStreamEntry(stream, autoClose));
             }
@@ -34,8 +34,13 @@ public class ClientConfigurationImpl implements ModelControllerClientConfigurati
     private final boolean shutdownExecutor;
     private final int connectionTimeout;
     private final URI authConfigUri;
+    private final int maxInFlightOperations;
 
     public ClientConfigurationImpl(String address, int port, CallbackHandler handler, Map<String, String> saslOptions, SecurityFactory<SSLContext> sslContextFactory, ExecutorService executorService, boolean shutdownExecutor, final int connectionTimeout, final String protocol, String clientBindAddress, final URI authConfigUri) {
+        this(address, port, handler, saslOptions, sslContextFactory, executorService, shutdownExecutor, connectionTimeout, protocol, clientBindAddress, authConfigUri, 0);
+    }
+
+    public ClientConfigurationImpl(String address, int port, CallbackHandler handler, Map<String, String> saslOptions, SecurityFactory<SSLContext> sslContextFactory, ExecutorService executorService, boolean shutdownExecutor, final int connectionTimeout, final String protocol, String clientBindAddress, final URI authConfigUri, final int maxInFlightOperations) {
         this.address = address;
         this.port = port;
         this.handler = handler;
@@ -47,6 +52,7 @@ public class ClientConfigurationImpl implements ModelControllerClientConfigurati
         this.clientBindAddress = clientBindAddress;
         this.connectionTimeout = connectionTimeout > 0 ? connectionTimeout : DEFAULT_CONNECTION_TIMEOUT;
         this.authConfigUri = authConfigUri;
+        this.maxInFlightOperations = Math.max(0, maxInFlightOperations);
     }
 
     @Override
@@ -116,4 +122,9 @@ public class ClientConfigurationImpl implements ModelControllerClientConfigurati
     public URI getAuthenticationConfigUri() {
         return authConfigUri;
     }
+
+    @Override
+    public int getMaxInFlightOperations() {
+        return maxInFlightOperations;
+    }
 }
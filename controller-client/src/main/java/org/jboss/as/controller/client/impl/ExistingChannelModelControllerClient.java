@@ -24,6 +24,11 @@ public class ExistingChannelModelControllerClient extends AbstractModelControlle
 
     private final ManagementChannelHandler handler;
     protected ExistingChannelModelControllerClient(final ManagementChannelHandler handler) {
+        this(handler, 0);
+    }
+
+    protected ExistingChannelModelControllerClient(final ManagementChannelHandler handler, final int maxInFlightOperations) {
+        super(maxInFlightOperations);
         this.handler = handler;
     }
 
@@ -57,9 +62,21 @@ public class ExistingChannelModelControllerClient extends AbstractModelControlle
      * @return the created client
      */
     public static ModelControllerClient createReceiving(final Channel channel, final ExecutorService executorService) {
+        return createReceiving(channel, executorService, 0);
+    }
+
+    /**
+     * Create a model controller client which is exclusively receiving messages on an existing channel.
+     *
+     * @param channel the channel
+     * @param executorService an executor
+     * @param maxInFlightOperations the maximum number of operations awaiting a response, or {@code 0} for no limit
+     * @return the created client
+     */
+    public static ModelControllerClient createReceiving(final Channel channel, final ExecutorService executorService, final int maxInFlightOperations) {
         final ManagementClientChannelStrategy strategy = ManagementClientChannelStrategy.create(channel);
         final ManagementChannelHandler handler = new ManagementChannelHandler(strategy, executorService);
-        final ExistingChannelModelControllerClient client = new ExistingChannelModelControllerClient(handler);
+        final ExistingChannelModelControllerClient client = new ExistingChannelModelControllerClient(handler, maxInFlightOperations);
         handler.addHandlerFactory(client);
         channel.addCloseHandler(new CloseHandler<Channel>() {
             @Override
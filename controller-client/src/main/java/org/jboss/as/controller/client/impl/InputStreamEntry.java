@@ -5,18 +5,20 @@
 
 package org.jboss.as.controller.client.impl;
 
-import java.io.BufferedInputStream;
-
 import org.jboss.as.controller.client.logging.ControllerClientLogger;
 import org.jboss.as.protocol.StreamUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.DataOutput;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -185,6 +187,94 @@ public interface InputStreamEntry extends Closeable {
         }
     }
 
+    /**
+     * Send the remaining content of a {@link FileInputStream} directly from its {@link FileChannel}, in large chunks,
+     * without caching it in memory or in a temp file first. Streams which are not regular files, such as pipes, FIFOs
+     * or {@code /dev/stdin}, have no size or position to send their content by, and are cached as other streams are.
+     */
+    class FileChannelStreamEntry implements InputStreamEntry {
+
+        static final int CHUNK_SIZE = 64 * 1024;
+
+        private final FileInputStream original;
+        private final boolean autoClose;
+
+        private long position = -1;
+        private int size;
+        private InputStreamEntry fallback;
+
+        public FileChannelStreamEntry(final FileInputStream original, final boolean autoClose) {
+            this.original = original;
+            this.autoClose = autoClose;
+        }
+
+        @Override
+        public synchronized int initialize() throws IOException {
+            if (fallback == null && position < 0) {
+                final FileChannel channel = original.getChannel();
+                long remaining;
+                try {
+                    position = channel.position();
+                    remaining = channel.size() - position;
+                } catch (IOException e) {
+                    // Pipes and FIFOs cannot be positioned
+                    remaining = 0;
+                }
+                if (remaining > 0) {
+                    size = checkSize(remaining);
+                } else {
+                    // Devices report no size, and an empty file costs nothing to cache
+                    fallback = new CachingInMemoryFallbackStreamEntry(original, autoClose);
+                }
+            }
+            return fallback != null ? fallback.initialize() : size;
+        }
+
+        @Override
+        public synchronized void copyStream(final DataOutput output) throws IOException {
+            if (fallback != null) {
+                fallback.copyStream(output);
+            } else {
+                copyFile(original.getChannel(), position, size, output);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (fallback != null) {
+                fallback.close();
+            } else if (autoClose) {
+                StreamUtils.safeClose(original);
+            }
+        }
+
+        static int checkSize(final long size) throws IOException {
+            if (size > Integer.MAX_VALUE) {
+                throw ControllerClientLogger.ROOT_LOGGER.attachmentTooLarge(size, Integer.MAX_VALUE);
+            }
+            return (int) size;
+        }
+
+        /**
+         * Copies part of a file, using positional reads so the position of the channel is not modified.
+         */
+        static void copyFile(final FileChannel channel, final long position, final long count, final DataOutput output) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, Math.max(count, 1)));
+            long copied = 0;
+            while (copied < count) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), count - copied));
+                final int read = channel.read(buffer, position + copied);
+                if (read < 0) {
+                    // The file was truncated since its size was sent
+                    throw new EOFException();
+                }
+                output.write(buffer.array(), 0, read);
+                copied += read;
+            }
+        }
+    }
+
     InputStreamEntry EMPTY = new InputStreamEntry() {
         @Override
         public int initialize() throws IOException {
@@ -218,13 +308,13 @@ public interface InputStreamEntry extends Closeable {
 
         @Override
         public int initialize() throws IOException {
-            return (int) Files.size(file);
+            return FileChannelStreamEntry.checkSize(Files.size(file));
         }
 
         @Override
         public void copyStream(final DataOutput output) throws IOException {
-            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
-                StreamUtils.copyStream(in, output);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                FileChannelStreamEntry.copyFile(channel, 0, channel.size(), output);
             }
         }
 
@@ -58,6 +58,7 @@ public class RemotingModelControllerClient extends AbstractModelControllerClient
     private final ClientCloseable closeable;
 
     private RemotingModelControllerClient(final ModelControllerClientConfiguration configuration) {
+        super(configuration.getMaxInFlightOperations());
 
         ManagementChannelHandler handler = new ManagementChannelHandler(new ManagementClientChannelStrategy() {
             @Override
@@ -0,0 +1,116 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of the file based {@link InputStreamEntry} implementations.
+ */
+public class InputStreamEntryTestCase {
+
+    private Path file;
+    private byte[] content;
+
+    @Before
+    public void createFile() throws IOException {
+        // Larger than a chunk, and not a multiple of it
+        content = new byte[InputStreamEntry.FileChannelStreamEntry.CHUNK_SIZE * 2 + 123];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("entry", "test");
+        Files.write(file, content);
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testFileStreamEntry() throws IOException {
+        try (InputStreamEntry.FileStreamEntry entry = new InputStreamEntry.FileStreamEntry(file)) {
+            Assert.assertEquals(content.length, entry.initialize());
+            Assert.assertArrayEquals(content, copy(entry));
+        }
+    }
+
+    @Test
+    public void testFileChannelStreamEntrySendsRemainingContent() throws IOException {
+        try (FileInputStream stream = new FileInputStream(file.toFile())) {
+            Assert.assertEquals(100, stream.skip(100));
+            InputStreamEntry entry = new InputStreamEntry.FileChannelStreamEntry(stream, false);
+            Assert.assertEquals(content.length - 100, entry.initialize());
+            Assert.assertArrayEquals(Arrays.copyOfRange(content, 100, content.length), copy(entry));
+        }
+    }
+
+    @Test
+    public void testFileChannelStreamEntryFallsBackForPipes() throws Exception {
+        final Path fifo = file.resolveSibling(file.getFileName() + ".fifo");
+        try {
+            Assume.assumeTrue(new ProcessBuilder("mkfifo", fifo.toString()).start().waitFor() == 0);
+        } catch (IOException e) {
+            Assume.assumeNoException(e);
+        }
+        final Thread writer = new Thread(() -> {
+            try {
+                Files.write(fifo, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.start();
+        try (FileInputStream stream = new FileInputStream(fifo.toFile())) {
+            InputStreamEntry entry = new InputStreamEntry.FileChannelStreamEntry(stream, false);
+            Assert.assertEquals(content.length, entry.initialize());
+            Assert.assertArrayEquals(content, copy(entry));
+            entry.close();
+        } finally {
+            writer.join();
+            Files.deleteIfExists(fifo);
+        }
+    }
+
+    @Test
+    public void testFileInputStreamNotCached() throws IOException {
+        try (FileInputStream stream = new FileInputStream(file.toFile())) {
+            Operation operation = OperationBuilder.create(new ModelNode())
+                    .addInputStream(stream)
+                    .addInputStream(new ByteArrayInputStream(content))
+                    .build();
+            List<InputStreamEntry> entries = AbstractModelControllerClient.createStreamEntries(operation);
+            Assert.assertTrue(entries.get(0) instanceof InputStreamEntry.FileChannelStreamEntry);
+            Assert.assertTrue(entries.get(1) instanceof InputStreamEntry.CachingInMemoryFallbackStreamEntry);
+        }
+    }
+
+    private static byte[] copy(InputStreamEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            entry.copyStream(output);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -27,6 +27,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
@@ -317,7 +318,7 @@ public abstract class AbstractControllerService implements Service<ModelControll
                 configurationPersister, processType, stability, runningModeControl, prepareStep,
                 processState, executorService, expressionResolver, authorizer, securityIdentitySupplier, auditLogger, notificationSupport,
                 bootErrorCollector, createExtraValidationStepHandler(), capabilityRegistry, getPartialModelIndicator(),
-                instabilityListener != null ? instabilityListener.get() : null);
+                instabilityListener != null ? instabilityListener.get() : null, getModelChangeListener());
 
         // Initialize the model
         initModel(controller.getManagementModel(), controller.getModelControllerResource());
@@ -366,6 +367,7 @@ public abstract class AbstractControllerService implements Service<ModelControll
                         processState.setRunning();
                     }
                     postBoot();
+                    controller.freezeServiceBootProfile();
                 } catch (Throwable t) {
                     container.shutdown();
                     if (t instanceof StackOverflowError) {
@@ -507,6 +509,16 @@ public abstract class AbstractControllerService implements Service<ModelControll
         return controller.getNotificationSupport();
     }
 
+    /**
+     * Gets the revision of the model's resource tree, which is incremented each time an operation that
+     * modified the resource tree commits.
+     *
+     * @return the revision
+     */
+    protected final long getModelRevision() {
+        return controller.getModelRevision();
+    }
+
     protected final MutableRootResourceRegistrationProvider getMutableRootResourceRegistrationProvider() {
         return ModelControllerImpl.getMutableRootResourceRegistrationProvider();
     }
@@ -515,6 +527,10 @@ public abstract class AbstractControllerService implements Service<ModelControll
         return PartialModelIndicator.DEFAULT;
     }
 
+    protected ModelChangeListener getModelChangeListener() {
+        return ModelChangeListener.DEFAULT;
+    }
+
     public void stop(final StopContext context) {
         capabilityRegistry.clear();
         capabilityRegistry.publish();
@@ -758,6 +774,26 @@ public abstract class AbstractControllerService implements Service<ModelControll
         }
     }
 
+    /**
+     * Listener for notifications that an operation which modified the resource tree has committed.
+     * Not notified of the changes made by the boot operations.
+     */
+    protected interface ModelChangeListener {
+
+        ModelChangeListener DEFAULT = new ModelChangeListener(){};
+
+        /**
+         * Notification that an operation which modified the resource tree has committed. Invoked while
+         * the controller lock is still held, so implementations should return quickly.
+         *
+         * @param revision the {@link #getModelRevision() revision} of the resource tree published by the operation
+         * @param affectedAddresses the addresses of the resources the operation added, removed or modified.
+         *                          Only valid for the duration of the call
+         */
+        default void modelChanged(long revision, Set<PathAddress> affectedAddresses) {
+        }
+    }
+
     /**
      * Listener for notifications that the {@link ModelController} is unstable and a
      * process restart is necessary.
@@ -114,6 +114,7 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
     final ControlledProcessState processState;
     final NotificationSupport notificationSupport;
     final OperationHeaders operationHeaders;
+    private final OperationProfile operationProfile;
     private final boolean booting;
     private final ProcessType processType;
     private final Stability stability;
@@ -177,7 +178,7 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
 
 
     enum ContextFlag {
-        ROLLBACK_ON_FAIL, ALLOW_RESOURCE_SERVICE_RESTART,
+        ROLLBACK_ON_FAIL, ALLOW_RESOURCE_SERVICE_RESTART, PROFILE,
     }
 
     AbstractOperationContext(final ProcessType processType,
@@ -219,6 +220,7 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
         modifiedResourcesForModelValidation = skipModelValidation == false ?  new HashSet<PathAddress>() : null;
         this.extraValidationStepHandler = extraValidationStepHandler;
         this.operationHeaders = operationHeaders == null ? OperationHeaders.forInternalCall() : operationHeaders;
+        this.operationProfile = this.operationHeaders.getContextFlags().contains(ContextFlag.PROFILE) ? new OperationProfile() : null;
         this.securityIdentitySupplier = securityIdentitySupplier;
     }
 
@@ -462,6 +464,8 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
     ResultAction executeOperation() {
 
         assert isControllingThread();
+        final OperationProfile profile = getOperationProfile();
+        final long start = profile == null ? 0 : System.nanoTime();
         try {
             /** Execution has begun */
             executing = true;
@@ -494,12 +498,35 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
                     }
                 }
             }
+            if (profile != null) {
+                profile.recordExecution(System.nanoTime() - start);
+            }
         }
 
 
         return resultAction;
     }
 
+    /**
+     * Gets the controller executing this operation.
+     *
+     * @return the controller. May be {@code null} in some test scenarios
+     */
+    ModelControllerImpl getModelController() {
+        return controller;
+    }
+
+    /**
+     * Gets the profile recording the timing of this operation's execution, if the
+     * {@link org.jboss.as.controller.descriptions.ModelDescriptionConstants#OPERATION_PROFILE operation-profile}
+     * header was set.
+     *
+     * @return the profile, or {@code null} if the operation is not being profiled
+     */
+    OperationProfile getOperationProfile() {
+        return operationProfile;
+    }
+
     /** Opportunity to do required cleanup after an exception propagated all the way to {@link #executeOperation()}.*/
     void handleUncaughtException(RuntimeException e) {
     }
@@ -748,6 +775,8 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
                     if (currentStage == Stage.VERIFY) {
                         // a change was made to the runtime. Thus, we must wait
                         // for stability before resuming in to verify.
+                        final OperationProfile profile = getOperationProfile();
+                        final long start = profile == null ? 0 : System.nanoTime();
                         try {
                             awaitServiceContainerStability();
                         } catch (InterruptedException e) {
@@ -763,6 +792,10 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
                             handleContainerStabilityFailure(primaryResponse, te);
                             executeResultHandlerPhase(null);
                             return;
+                        } finally {
+                            if (profile != null) {
+                                profile.recordStabilityWait(System.nanoTime() - start);
+                            }
                         }
                     }
                 }
@@ -850,12 +883,17 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
         // time for final processing
 
         Throwable toThrow = null;
+        final OperationProfile profile = getOperationProfile();
         try {
             // Prepare persistence of any configuration changes
             ConfigurationPersister.PersistenceResource persistenceResource = null;
             if (resultAction != ResultAction.ROLLBACK) {
+                final long start = profile == null ? 0 : System.nanoTime();
                 try {
                     persistenceResource = createPersistenceResource();
+                    if (profile != null) {
+                        profile.recordPersist(System.nanoTime() - start);
+                    }
                 } catch (ConfigurationPersistenceException e) {
                     MGMT_OP_LOGGER.failedToPersistConfigurationChange(e);
                     primaryResponse.get(OUTCOME).set(FAILED);
@@ -890,7 +928,11 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
                 if (resultAction == ResultAction.ROLLBACK) {
                     persistenceResource.rollback();
                 } else {
+                    final long start = profile == null ? 0 : System.nanoTime();
                     persistenceResource.commit();
+                    if (profile != null) {
+                        profile.recordPersist(System.nanoTime() - start);
+                    }
                 }
             }
         } catch (Throwable t) {
@@ -1053,6 +1095,8 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
         }
         this.activeStep = step;
 
+        final OperationProfile profile = getOperationProfile();
+        final long start = profile == null ? 0 : System.nanoTime();
         try {
             try {
                 ClassLoader oldTccl = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(step.handler.getClass());
@@ -1100,6 +1144,9 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
                 step.response.get(ROLLED_BACK).set(true);
             }
         } finally {
+            if (profile != null) {
+                profile.recordStep(currentStage, step.operationId.name, step.address, step.handler, System.nanoTime() - start);
+            }
             addBootFailureDescription();
         }
     }
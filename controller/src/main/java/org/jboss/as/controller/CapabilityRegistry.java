@@ -66,6 +66,12 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     //holds reference to parent published registry
     private final CapabilityRegistry publishedFullRegistry;
     private boolean modified = false;
+    // Capabilities (including their requirements) and possible capabilities changed since the last publish or rollback.
+    // Only these need to be copied between a shadow copy and the published registry, unless a full copy is required
+    // because the whole registry was cleared or the published registry was modified directly.
+    private final Set<CapabilityId> changedCapabilities = new HashSet<>();
+    private final Set<CapabilityId> changedPossibleCapabilities = new HashSet<>();
+    private boolean fullCopyRequired = false;
 
     public CapabilityRegistry(boolean forServer) {
         this(forServer, null);
@@ -118,6 +124,30 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     }
 
+    private static void copyCapability(final CapabilityId id, final Map<CapabilityId, RuntimeCapabilityRegistration> source,
+                                       final Map<CapabilityId, RuntimeCapabilityRegistration> dest) {
+        RuntimeCapabilityRegistration registration = source.get(id);
+        if (registration == null) {
+            dest.remove(id);
+        } else {
+            dest.put(id, new RuntimeCapabilityRegistration(registration));
+        }
+    }
+
+    private static void copyRequirements(final CapabilityId id, final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> source,
+                                         final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> dest) {
+        Map<String, RuntimeRequirementRegistration> dependents = source.get(id);
+        if (dependents == null) {
+            dest.remove(id);
+        } else {
+            Map<String, RuntimeRequirementRegistration> mapCopy = new HashMap<>();
+            for (Map.Entry<String, RuntimeRequirementRegistration> entry : dependents.entrySet()) {
+                mapCopy.put(entry.getKey(), new RuntimeRequirementRegistration(entry.getValue()));
+            }
+            dest.put(id, mapCopy);
+        }
+    }
+
 
     /**
      * Registers a capability with the system. Any
@@ -157,6 +187,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 CapabilityScope capContext = capabilityId.getScope();
                 knownContexts.add(capContext);
             }
+            changedCapabilities.add(capabilityId);
             modified = true;
         } finally {
             writeLock.unlock();
@@ -209,6 +240,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         } else {
             existing.addRegistrationPoint(requirement.getOldestRegistrationPoint());
         }
+        changedCapabilities.add(dependentId);
         modified = true;
     }
 
@@ -251,6 +283,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             if (candidate != null) {
                 RegistrationPoint rp = new RegistrationPoint(registrationPoint, null);
                 if (candidate.removeRegistrationPoint(rp)) {
+                    changedCapabilities.add(capabilityId);
 
                     Map<String, RuntimeRequirementRegistration> removedRequirements = null;
                     if (candidate.getRegistrationPointCount() == 0) {
@@ -319,6 +352,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 if (dependents.size() == 0) {
                     requirementMap.remove(requirementRegistration.getDependentId());
                 }
+                changedCapabilities.add(requirementRegistration.getDependentId());
                 modified = true;
             }
         }
@@ -561,6 +595,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 return currentRegistration;
             });
             possibleCapabilities.putIfAbsent(capabilityId, capabilityRegistration);
+            changedPossibleCapabilities.add(capabilityId);
             modified = true;
         } finally {
             writeLock.unlock();
@@ -586,6 +621,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             if (candidate != null) {
                 RegistrationPoint rp = new RegistrationPoint(registrationPoint, null);
                 if (candidate.removeRegistrationPoint(rp)) {
+                    changedPossibleCapabilities.add(capabilityId);
                     if (candidate.getRegistrationPointCount() == 0) {
                         removed = possibleCapabilities.remove(capabilityId);
                     } else {
@@ -730,8 +766,14 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             publishedFullRegistry.writeLock.lock();
             try {
-                publishedFullRegistry.clear(true);
-                copy(this, publishedFullRegistry);
+                if (isFullCopyRequired()) {
+                    publishedFullRegistry.clear(true);
+                    copy(this, publishedFullRegistry);
+                } else {
+                    copyChanges(this, publishedFullRegistry);
+                }
+                publishedFullRegistry.clearChanges();
+                clearChanges();
                 pendingRemoveCapabilities.clear();
                 pendingRemoveRequirements.clear();
                 modified = false;
@@ -754,8 +796,15 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         try {
             publishedFullRegistry.readLock.lock();
             try {
-                clear(true);
-                copy(publishedFullRegistry, this);
+                if (isFullCopyRequired()) {
+                    clear(true);
+                    copy(publishedFullRegistry, this);
+                } else {
+                    pendingRemoveCapabilities.clear();
+                    pendingRemoveRequirements.clear();
+                    copyChanges(publishedFullRegistry, this);
+                }
+                clearChanges();
                 modified = false;
             } finally {
                 publishedFullRegistry.readLock.unlock();
@@ -790,6 +839,51 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         target.resolutionContext.copy(source.resolutionContext);
     }
 
+    /**
+     * Copies the capabilities, requirements and possible capabilities changed in this shadow copy since the last
+     * publish or rollback, so the cost of a publish or rollback does not depend on the size of the registry.
+     */
+    private void copyChanges(CapabilityRegistry source, CapabilityRegistry target) {
+        assert target.writeLock.isHeldByCurrentThread();
+        for (CapabilityId id : changedCapabilities) {
+            copyCapability(id, source.capabilities, target.capabilities);
+            copyRequirements(id, source.requirements, target.requirements);
+            copyRequirements(id, source.runtimeOnlyRequirements, target.runtimeOnlyRequirements);
+        }
+        for (CapabilityId id : changedPossibleCapabilities) {
+            CapabilityRegistration<?> registration = source.possibleCapabilities.get(id);
+            if (registration == null) {
+                target.possibleCapabilities.remove(id);
+            } else {
+                target.possibleCapabilities.put(id, new CapabilityRegistration<>(registration));
+            }
+        }
+        target.reloadCapabilities.clear();
+        target.reloadCapabilities.addAll(source.reloadCapabilities);
+        target.restartCapabilities.clear();
+        target.restartCapabilities.addAll(source.restartCapabilities);
+        if (!forServer) {
+            target.knownContexts.addAll(source.knownContexts);
+        }
+        target.resolutionContext.copy(source.resolutionContext);
+    }
+
+    /**
+     * Whether publishing or rolling back this shadow copy requires copying the whole registry rather than only
+     * the changes recorded since the last publish or rollback.
+     */
+    private boolean isFullCopyRequired() {
+        return fullCopyRequired || publishedFullRegistry.fullCopyRequired
+                || !publishedFullRegistry.changedCapabilities.isEmpty()
+                || !publishedFullRegistry.changedPossibleCapabilities.isEmpty();
+    }
+
+    private void clearChanges() {
+        changedCapabilities.clear();
+        changedPossibleCapabilities.clear();
+        fullCopyRequired = false;
+    }
+
     /**
      * Clears capability registry
      */
@@ -810,6 +904,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             if (restartRequired) {
                 restartCapabilities.clear();
             }
+            fullCopyRequired = true;
             modified = true;
         } finally {
             writeLock.unlock();
@@ -4,7 +4,11 @@
  */
 package org.jboss.as.controller;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
@@ -23,7 +27,17 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     private static final int GOT_DOLLAR = 1;
     private static final int GOT_OPEN_BRACE = 2;
 
+    /** Templates are no longer cached once this many are, as the number of expression strings is unbounded. */
+    static final int MAX_CACHED_TEMPLATES = 4096;
+
+    /**
+     * Templates of the expression strings already parsed. The structure of an expression string does not depend on
+     * the values its expressions resolve to, so the templates are shared by all resolvers.
+     */
+    private static final Map<String, ExpressionTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     private final boolean lenient;
+    private final boolean cacheTemplates;
 
     /**
      * Creates a new {@code ExpressionResolverImpl} configured to throw an OFE
@@ -41,7 +55,19 @@ public class ExpressionResolverImpl implements ExpressionResolver {
      *                           if the node should be left as an unresolved expression
      */
     protected ExpressionResolverImpl(boolean lenient) {
+        this(lenient, true);
+    }
+
+    /**
+     * Creates a new {@code ExpressionResolverImpl}, optionally parsing each expression string without the cached
+     * templates, e.g. to check that they produce the same outcome as the parser they are derived from.
+     *
+     * @param lenient {@code false} if an OFE should be thrown if an unresolvable expression is found
+     * @param cacheTemplates {@code false} if expression strings should be parsed again on each resolution
+     */
+    ExpressionResolverImpl(boolean lenient, boolean cacheTemplates) {
         this.lenient = lenient;
+        this.cacheTemplates = cacheTemplates;
     }
 
     @Override
@@ -156,6 +182,61 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     }
 
     private ParseAndResolveResult parseAndResolve(final String initialValue, boolean lenient, OperationContext context) throws OperationFailedException {
+        if (!cacheTemplates) {
+            return parseAndResolveUncached(initialValue, lenient, context);
+        }
+        ExpressionTemplate template = TEMPLATES.get(initialValue);
+        if (template == null) {
+            template = ExpressionTemplate.parse(initialValue);
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+                TEMPLATES.putIfAbsent(initialValue, template);
+            }
+        }
+        return resolveTemplate(initialValue, template, lenient, context);
+    }
+
+    /**
+     * Resolves the expressions of a pre-parsed expression string, with the same outcome as
+     * {@link #parseAndResolveUncached(String, boolean, OperationContext)}.
+     */
+    private ParseAndResolveResult resolveTemplate(final String initialValue, final ExpressionTemplate template, boolean lenient,
+                                                  OperationContext context) throws OperationFailedException {
+        final Resolution[] resolutions = template.resolutions;
+        final String[] values = new String[resolutions.length];
+        boolean modified = template.modified;
+        for (int i = 0; i < resolutions.length; i++) {
+            final Resolution resolution = resolutions[i];
+            final String toResolve = resolution.getStringToResolve(values);
+            final String resolved = resolveExpressionString(toResolve, context);
+            // We only successfully resolved if toResolve != resolved
+            if (!toResolve.equals(resolved)) {
+                if (EXPRESSION_PATTERN.matcher(resolved).matches()) {
+                    return createRecursiveResult(initialValue, resolved, resolution.startIndex, resolution.endIndex);
+                }
+                values[i] = resolved;
+                modified = true;
+            } else if (resolution.nested) {
+                values[i] = toResolve;
+            } else if (resolution.reparseOnFailure) {
+                // Failing to resolve this expression changes how the rest of the string is parsed
+                return parseAndResolveUncached(initialValue, lenient, context);
+            } else if (lenient) {
+                return new ParseAndResolveResult(initialValue, false, false);
+            } else {
+                throw ControllerLogger.ROOT_LOGGER.cannotResolveExpression(initialValue);
+            }
+        }
+        if (template.incomplete) {
+            throw ControllerLogger.ROOT_LOGGER.incompleteExpression(initialValue);
+        }
+        final StringBuilder builder = new StringBuilder();
+        for (Object part : template.parts) {
+            builder.append(part instanceof Integer ? values[(Integer) part] : part);
+        }
+        return new ParseAndResolveResult(builder.toString(), modified, false);
+    }
+
+    private ParseAndResolveResult parseAndResolveUncached(final String initialValue, boolean lenient, OperationContext context) throws OperationFailedException {
 
 
         final StringBuilder builder = new StringBuilder();
@@ -246,7 +327,7 @@ public class ExpressionResolverImpl implements ExpressionResolver {
                                     // We need to discard any changes made from initialValue
                                     // prior to this expression, because if there were any
                                     // escaped $ sequences in there, we can't lose the escape char
-                                    return createRecursiveResult(initialValue, resolved, stack, i);
+                                    return createRecursiveResult(initialValue, resolved, stack.get(getFirstUnresolved(stack)).startIndex, i);
                                 }
 
                                 // Non-recursive case
@@ -365,21 +446,21 @@ public class ExpressionResolverImpl implements ExpressionResolver {
 
     }
 
-    private static String getStringToResolve(String initialValue, Stack<OpenExpression> stack, int expressionEndIndex) {
-        int stackSize = stack.size();
-
-        int expressionElement = -1;
-        OpenExpression firstUnresolved = null;
-        for (int i = stackSize - 1; i >= 0; i--) {
-            OpenExpression oe = stack.get(i);
-            if (oe.resolvedValue == null) {
-                expressionElement = i;
-                firstUnresolved = oe;
-                break;
+    private static int getFirstUnresolved(Stack<OpenExpression> stack) {
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            if (!stack.get(i).isResolved()) {
+                return i;
             }
         }
+        return -1;
+    }
 
+    private static String getStringToResolve(String initialValue, Stack<OpenExpression> stack, int expressionEndIndex) {
+        int stackSize = stack.size();
+
+        int expressionElement = getFirstUnresolved(stack);
         assert expressionElement > -1;
+        OpenExpression firstUnresolved = stack.get(expressionElement);
 
         // Now we know how long this expression is
         firstUnresolved.endIndex = expressionEndIndex;
@@ -404,16 +485,9 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     }
 
     private static ParseAndResolveResult createRecursiveResult(String initialValue, String val,
-                                                          Stack<OpenExpression> stack, int expressionEndIndex) {
+                                                          int expressionIndex, int expressionEndIndex) {
         int initialLength = initialValue.length();
 
-        int expressionIndex = -1;
-        while (expressionIndex == -1) {
-            OpenExpression oe = stack.pop();
-            if (oe.resolvedValue == null) {
-                expressionIndex = oe.startIndex;
-            }
-        }
         String result;
         if (expressionIndex == 0 && expressionEndIndex == initialLength -1) {
             // basic case
@@ -433,11 +507,16 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     }
 
     private static void recordResolutionInStack(String val, Stack<OpenExpression> stack) {
+        recordResolutionInStack(val, -1, stack);
+    }
+
+    private static void recordResolutionInStack(String val, int resolution, Stack<OpenExpression> stack) {
 
         for (int i = stack.size() -1; i >= 0; i--) {
             OpenExpression oe = i == 0 ? stack.pop() : stack.peek();
-            if (oe.resolvedValue == null) {
+            if (!oe.isResolved()) {
                 oe.resolvedValue = val;
+                oe.resolution = resolution;
                 break;
             } else {
                 assert i > 0;
@@ -463,10 +542,174 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         private final int startIndex;
         private int endIndex = -1;
         private String resolvedValue;
+        /** Index of the {@link Resolution} of this expression when parsing a template */
+        private int resolution = -1;
 
         private OpenExpression(int startIndex) {
             this.startIndex = startIndex;
         }
+
+        private boolean isResolved() {
+            return resolvedValue != null || resolution > -1;
+        }
+    }
+
+    /**
+     * An expression string parsed into the expressions to resolve, in the order they are resolved, and the parts of
+     * the result. Parsing follows the same states as {@link #parseAndResolveUncached(String, boolean, OperationContext)},
+     * relying on the fact that, except for the cases flagged by {@link Resolution#reparseOnFailure}, whether an expression
+     * resolves does not affect how the rest of the string is parsed.
+     */
+    private static final class ExpressionTemplate {
+        private final Resolution[] resolutions;
+        /** {@code String} literals and {@code Integer} indexes of the resolutions of top level expressions */
+        private final Object[] parts;
+        /** Whether an escaping '$' was discarded */
+        private final boolean modified;
+        private final boolean incomplete;
+
+        private ExpressionTemplate(List<Resolution> resolutions, List<Object> parts, boolean modified, boolean incomplete) {
+            this.resolutions = resolutions.toArray(new Resolution[0]);
+            this.parts = parts.toArray();
+            this.modified = modified;
+            this.incomplete = incomplete;
+        }
+
+        private static ExpressionTemplate parse(final String initialValue) {
+            final List<Resolution> resolutions = new ArrayList<>();
+            final List<Object> parts = new ArrayList<>();
+            final StringBuilder builder = new StringBuilder();
+            final int len = initialValue.length();
+            int state = INITIAL;
+            int ignoreBraceLevel = 0;
+            boolean modified = false;
+            Stack<OpenExpression> stack = null;
+            for (int i = 0; i < len; i = initialValue.offsetByCodePoints(i, 1)) {
+                final int ch = initialValue.codePointAt(i);
+                switch (state) {
+                    case INITIAL: {
+                        if (ch == '$') {
+                            stack = addToStack(stack, i);
+                            state = GOT_DOLLAR;
+                        } else {
+                            builder.appendCodePoint(ch);
+                        }
+                        continue;
+                    }
+                    case GOT_DOLLAR: {
+                        if (ch == '{') {
+                            state = GOT_OPEN_BRACE;
+                        } else if (stack.size() == 1) {
+                            stack.clear();
+                            if (ch != '$') {
+                                builder.append('$');
+                            } else {
+                                modified = true;
+                            }
+                            builder.appendCodePoint(ch);
+                            state = INITIAL;
+                        } else {
+                            stack.pop();
+                            if (ch == '$') {
+                                modified = true;
+                            } else if (ch == '}') {
+                                i--;
+                            }
+                            state = GOT_OPEN_BRACE;
+                        }
+                        continue;
+                    }
+                    case GOT_OPEN_BRACE: {
+                        if (ch == '$') {
+                            stack.push(new OpenExpression(i));
+                            state = GOT_DOLLAR;
+                        } else if (ch == '{') {
+                            ignoreBraceLevel++;
+                        } else if (ch == '}') {
+                            if (ignoreBraceLevel > 0) {
+                                ignoreBraceLevel--;
+                                continue;
+                            }
+                            final int first = getFirstUnresolved(stack);
+                            final OpenExpression expression = stack.get(first);
+                            expression.endIndex = i;
+                            final List<Object> toResolve = new ArrayList<>();
+                            int nextStart = expression.startIndex;
+                            for (int j = first + 1; j < stack.size(); j++) {
+                                OpenExpression nested = stack.get(j);
+                                toResolve.add(initialValue.substring(nextStart, nested.startIndex));
+                                toResolve.add(nested.resolution);
+                                nextStart = nested.endIndex + 1;
+                            }
+                            toResolve.add(initialValue.substring(nextStart, i + 1));
+                            // On failure, a top level expression with resolved nested expressions is handled as a nested one
+                            resolutions.add(new Resolution(toResolve.toArray(), expression.startIndex, i, first > 0,
+                                    first == 0 && stack.size() > 1));
+                            recordResolutionInStack(null, resolutions.size() - 1, stack);
+                            if (stack.isEmpty()) {
+                                if (builder.length() > 0) {
+                                    parts.add(builder.toString());
+                                    builder.setLength(0);
+                                }
+                                parts.add(resolutions.size() - 1);
+                                state = INITIAL;
+                            } else {
+                                state = GOT_OPEN_BRACE;
+                            }
+                        }
+                        continue;
+                    }
+                    default:
+                        throw new IllegalStateException();
+                }
+            }
+
+            boolean incomplete = false;
+            if (stack != null && !stack.isEmpty()) {
+                if (state == GOT_DOLLAR) {
+                    stack.pop();
+                }
+                if (!stack.isEmpty()) {
+                    incomplete = true;
+                } else {
+                    builder.append('$');
+                }
+            }
+            if (builder.length() > 0) {
+                parts.add(builder.toString());
+            }
+            return new ExpressionTemplate(resolutions, parts, modified, incomplete);
+        }
+    }
+
+    /** An expression of an {@link ExpressionTemplate} to resolve. */
+    private static final class Resolution {
+        /** {@code String} literals and {@code Integer} indexes of the resolutions of the nested expressions */
+        private final Object[] parts;
+        private final int startIndex;
+        private final int endIndex;
+        /** Whether the expression is nested in another one, whose resolution then uses it unresolved on failure */
+        private final boolean nested;
+        private final boolean reparseOnFailure;
+
+        private Resolution(Object[] parts, int startIndex, int endIndex, boolean nested, boolean reparseOnFailure) {
+            this.parts = parts;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.nested = nested;
+            this.reparseOnFailure = reparseOnFailure;
+        }
+
+        private String getStringToResolve(String[] values) {
+            if (parts.length == 1) {
+                return (String) parts[0];
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (Object part : parts) {
+                sb.append(part instanceof Integer ? values[(Integer) part] : part);
+            }
+            return sb.toString();
+        }
     }
 
 }
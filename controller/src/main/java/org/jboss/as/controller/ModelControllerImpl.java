@@ -17,6 +17,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAN
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MIME_TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_PROFILE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROCESS_STATE;
@@ -33,7 +34,9 @@ import static org.jboss.as.controller.operations.global.GlobalOperationHandlers.
 import java.io.IOException;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -47,6 +50,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -83,6 +87,7 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceRegistry;
 import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Default {@link ModelController} implementation.
@@ -121,6 +126,13 @@ class ModelControllerImpl implements ModelController {
     private final Supplier<SecurityIdentity> securityIdentitySupplier;
 
     private final ConcurrentMap<Integer, OperationContextImpl> activeOperations = new ConcurrentHashMap<>();
+    /** Incremented each time a modified resource tree is published */
+    private final AtomicLong modelRevision = new AtomicLong();
+    /** Summaries of the most recent operations executed with the operation-profile header set */
+    private final Deque<ModelNode> recentOperationProfiles = new ArrayDeque<>();
+    private volatile ModelNode bootOperationProfile = new ModelNode();
+    private final ServiceBootProfile serviceBootProfile = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged(ServiceBootProfile.BOOT_PROFILE_PROPERTY, "false")) ? new ServiceBootProfile() : null;
     private final Random random = new Random();
     private final ManagedAuditLogger auditLogger;
     private final BootErrorCollector bootErrorCollector;
@@ -134,6 +146,7 @@ class ModelControllerImpl implements ModelController {
 
     private final AbstractControllerService.PartialModelIndicator partialModelIndicator;
     private final AbstractControllerService.ControllerInstabilityListener instabilityListener;
+    private final AbstractControllerService.ModelChangeListener modelChangeListener;
 
     private volatile ModelControllerClientFactoryImpl clientFactory;
 
@@ -149,9 +162,11 @@ class ModelControllerImpl implements ModelController {
                         final BootErrorCollector bootErrorCollector, final OperationStepHandler extraValidationStepHandler,
                         final CapabilityRegistry capabilityRegistry,
                         final AbstractControllerService.PartialModelIndicator partialModelIndicator,
-                        final AbstractControllerService.ControllerInstabilityListener instabilityListener) {
+                        final AbstractControllerService.ControllerInstabilityListener instabilityListener,
+                        final AbstractControllerService.ModelChangeListener modelChangeListener) {
         this.partialModelIndicator = partialModelIndicator;
         this.instabilityListener = instabilityListener;
+        this.modelChangeListener = modelChangeListener;
         assert serviceRegistry != null;
         this.serviceRegistry = serviceRegistry;
         assert serviceTarget != null;
@@ -456,6 +471,13 @@ class ModelControllerImpl implements ModelController {
                         }
                     }
 
+                    OperationProfile profile = context.getOperationProfile();
+                    if (profile != null) {
+                        ModelNode profileNode = profile.toModelNode();
+                        responseNode.get(RESPONSE_HEADERS, OPERATION_PROFILE).set(profileNode);
+                        recordOperationProfile(operation, profileNode);
+                    }
+
                     if (shouldUnlock) {
                         controllerLock.unlock(operationID);
                     }
@@ -488,7 +510,10 @@ class ModelControllerImpl implements ModelController {
 
         final Integer operationID = random.nextInt();
 
-        OperationHeaders headers = OperationHeaders.forBoot(rollbackOnRuntimeFailure);
+        final boolean profileBoot = Boolean.parseBoolean(
+                WildFlySecurityManager.getPropertyPrivileged(OperationProfile.BOOT_PROFILE_PROPERTY, "false"));
+        OperationHeaders headers = OperationHeaders.forBoot(rollbackOnRuntimeFailure, profileBoot);
+        final OperationProfile bootProfile = profileBoot ? new OperationProfile() : null;
 
         //For the initial operations the model will not be complete, so defer the validation
         final AbstractOperationContext context = new OperationContextImpl(operationID, INITIAL_BOOT_OPERATION, EMPTY_ADDRESS,
@@ -508,6 +533,8 @@ class ModelControllerImpl implements ModelController {
             }
             try (context) {
                 resultAction = context.executeOperation();
+            } finally {
+                addBootProfile(bootProfile, context);
             }
         }
         //here the meta-model is available
@@ -546,6 +573,8 @@ class ModelControllerImpl implements ModelController {
             }
             try (postExtContext) {
                 resultAction = postExtContext.executeOperation();
+            } finally {
+                addBootProfile(bootProfile, postExtContext);
             }
 
             if (!skipModelValidation && resultAction == OperationContext.ResultAction.KEEP && bootOperations.postExtensionOps != null) {
@@ -561,12 +590,105 @@ class ModelControllerImpl implements ModelController {
                                 extraValidationStepHandler, partialModel, securityIdentitySupplier)) {
                     validateContext.addModifiedResourcesForModelValidation(validateAddresses);
                     resultAction = validateContext.executeOperation();
+                    addBootProfile(bootProfile, validateContext);
                 }
             }
         }
+        if (bootProfile != null) {
+            bootOperationProfile = bootProfile.toModelNode();
+            ROOT_LOGGER.bootOperationsProfiled(bootProfile.getStepCount(),
+                    TimeUnit.NANOSECONDS.toMillis(bootProfile.getExecutionTime()));
+        }
         return  resultAction == OperationContext.ResultAction.KEEP;
     }
 
+    private static void addBootProfile(OperationProfile bootProfile, AbstractOperationContext context) {
+        if (bootProfile != null) {
+            bootProfile.add(context.getOperationProfile());
+        }
+    }
+
+    private void recordOperationProfile(ModelNode operation, ModelNode profileNode) {
+        ModelNode summary = new ModelNode();
+        summary.get(OP).set(operation.get(OP));
+        summary.get(OP_ADDR).set(PathAddress.pathAddress(operation.get(OP_ADDR)).toModelNode());
+        summary.get(OPERATION_PROFILE).set(profileNode);
+        synchronized (recentOperationProfiles) {
+            if (recentOperationProfiles.size() == OperationProfile.RECENT_PROFILE_LIMIT) {
+                recentOperationProfiles.removeFirst();
+            }
+            recentOperationProfiles.addLast(summary);
+        }
+    }
+
+    /**
+     * Gets the profile to use to record the timing of services installed by the currently executing operation.
+     *
+     * @return the profile, or {@code null} if boot is complete or the {@link ServiceBootProfile#BOOT_PROFILE_PROPERTY}
+     *         system property was not set
+     */
+    ServiceBootProfile getServiceBootProfile() {
+        return bootingFlag.get() ? serviceBootProfile : null;
+    }
+
+    /**
+     * Gets the timing of services installed during boot, along with the critical path of service startup, if the
+     * {@link ServiceBootProfile#BOOT_PROFILE_PROPERTY} system property was set when the process booted.
+     *
+     * @return the profile. Will not be {@code null} but will be undefined if boot services were not profiled
+     */
+    ModelNode getServiceBootProfileReport() {
+        return serviceBootProfile == null ? new ModelNode() : serviceBootProfile.toModelNode();
+    }
+
+    /**
+     * Stops recording the timing of services installed during boot. Called once boot, including any
+     * {@link AbstractControllerService#postBoot() post-boot} work, is complete.
+     */
+    void freezeServiceBootProfile() {
+        if (serviceBootProfile != null) {
+            serviceBootProfile.freeze();
+        }
+    }
+
+    /**
+     * Gets the revision of the resource tree, which is incremented each time an operation that modified the
+     * resource tree commits. Callers holding the controller lock, exclusively or shared, can use the value to
+     * determine whether data derived from the model in an earlier operation is still current.
+     *
+     * @return the revision
+     */
+    long getModelRevision() {
+        return modelRevision.get();
+    }
+
+    /**
+     * Gets the profile of the boot operations, if the {@link OperationProfile#BOOT_PROFILE_PROPERTY} system
+     * property was set when the process booted.
+     *
+     * @return the profile. Will not be {@code null} but will be undefined if boot was not profiled
+     */
+    ModelNode getBootOperationProfile() {
+        return bootOperationProfile.clone();
+    }
+
+    /**
+     * Gets summaries of the most recent operations executed with the
+     * {@link org.jboss.as.controller.descriptions.ModelDescriptionConstants#OPERATION_PROFILE operation-profile}
+     * header set, oldest first.
+     *
+     * @return a list node. Will not be {@code null}
+     */
+    ModelNode getRecentOperationProfiles() {
+        ModelNode result = new ModelNode().setEmptyList();
+        synchronized (recentOperationProfiles) {
+            for (ModelNode summary : recentOperationProfiles) {
+                result.add(summary.clone());
+            }
+        }
+        return result;
+    }
+
     private void addAllAddresses(ImmutableManagementResourceRegistration mrr, PathAddress current, Resource resource, Set<PathAddress> addresses) {
         addresses.add(current);
         for (String name : getNonIgnoredChildTypes(mrr)) {
@@ -770,6 +892,9 @@ class ModelControllerImpl implements ModelController {
                 }
                 if (resourceTreeModified) {
                     model.publish();
+                    if (!bootingFlag.get()) {
+                        modelChangeListener.modelChanged(modelRevision.get(), affectedAddresses);
+                    }
                     if (delegate != null) {
                         delegate.commit();
                     }
@@ -1300,6 +1425,7 @@ class ModelControllerImpl implements ModelController {
         }
         private void publish() {
             ModelControllerImpl.this.managementModel.set(this);
+            modelRevision.incrementAndGet();
             published = true;
             ControllerLogger.MGMT_OP_LOGGER.tracef("published %s", this);
         }
@@ -790,7 +790,7 @@ final class OperationContextImpl extends AbstractOperationContext {
             }
         };
         ServiceTarget delegate = targetActiveStep.getScopedServiceTarget(modelController.getServiceTarget());
-        ContextServiceTarget cst = new ContextServiceTarget(delegate, supplier, targetActiveStep.address);
+        ContextServiceTarget cst = new ContextServiceTarget(delegate, supplier, targetActiveStep.address, modelController.getServiceBootProfile());
         serviceTargets.add(cst);
         return cst;
     }
@@ -806,6 +806,8 @@ final class OperationContextImpl extends AbstractOperationContext {
                 throw ControllerLogger.ROOT_LOGGER.invalidModificationAfterCompletedStep();
             }
             ExecutionStatus originalStatus = executionStatus;
+            final OperationProfile profile = getOperationProfile();
+            final long start = profile == null ? 0 : System.nanoTime();
             try {
                 executionStatus = ExecutionStatus.AWAITING_OTHER_OPERATION;
                 // BES 2014/04/22 Ignore blocking timeout here. We risk some bug causing the
@@ -824,6 +826,9 @@ final class OperationContextImpl extends AbstractOperationContext {
 //                    }
 //                }
                 exclusiveStartTime = System.nanoTime();
+                if (profile != null) {
+                    profile.recordLockWait(exclusiveStartTime - start);
+                }
                 recordWriteLock();
             } catch (InterruptedException e) {
                 cancelled = true;
@@ -846,9 +851,14 @@ final class OperationContextImpl extends AbstractOperationContext {
                 containerMonitorStep = activeStep.modifyServiceContainer();
                 int timeout = getBlockingTimeout().getLocalBlockingTimeout();
                 ExecutionStatus origStatus = executionStatus;
+                final OperationProfile profile = getOperationProfile();
+                final long start = profile == null ? 0 : System.nanoTime();
                 try {
                     executionStatus = ExecutionStatus.AWAITING_STABILITY;
                     modelController.awaitContainerStability(timeout, TimeUnit.MILLISECONDS, respectInterruption);
+                    if (profile != null) {
+                        profile.recordStabilityWait(System.nanoTime() - start);
+                    }
                     notifyModificationBegun();
                 } catch (InterruptedException e) {
                     if (resultAction != ResultAction.ROLLBACK) {
@@ -1966,7 +1976,12 @@ final class OperationContextImpl extends AbstractOperationContext {
     private synchronized void ensureLocalRootResource() {
         if (!affectsResourceTree) {
             takeWriteLock();
+            final OperationProfile profile = getOperationProfile();
+            final long start = profile == null ? 0 : System.nanoTime();
             managementModel = managementModel.cloneRootResource();
+            if (profile != null) {
+                profile.recordResourceClone(System.nanoTime() - start);
+            }
             affectsResourceTree = true;
         }
     }
@@ -2106,11 +2121,14 @@ final class OperationContextImpl extends AbstractOperationContext {
         private final Set<ContextServiceBuilder> builders = new HashSet<>();
         private volatile ContextServiceBuilderSupplier builderSupplier;
         private final PathAddress targetAddress;
+        private final ServiceBootProfile bootProfile;
 
-        ContextServiceTarget(final ServiceTarget delegate, final ContextServiceBuilderSupplier builderSupplier, final PathAddress targetAddress) {
+        ContextServiceTarget(final ServiceTarget delegate, final ContextServiceBuilderSupplier builderSupplier, final PathAddress targetAddress,
+                             final ServiceBootProfile bootProfile) {
             super(delegate);
             this.builderSupplier = builderSupplier;
             this.targetAddress = targetAddress;
+            this.bootProfile = bootProfile;
         }
 
         /**
@@ -2127,17 +2145,21 @@ final class OperationContextImpl extends AbstractOperationContext {
 
         @Override
         public CapabilityServiceBuilder<?> addService() {
-            return this.wrap(new ProvidedValuesTrackingServiceBuilder(super.getDelegate().addService()));
+            return this.wrap(new ProvidedValuesTrackingServiceBuilder(this.profile(super.getDelegate().addService())));
         }
 
         @Override
         public CapabilityServiceBuilder<?> addService(final ServiceName name) {
-            return this.wrap(new ProvidedValuesTrackingServiceBuilder(super.getDelegate().addService(name), name));
+            return this.wrap(new ProvidedValuesTrackingServiceBuilder(this.profile(super.getDelegate().addService(name)), name));
         }
 
         @Override
         public <T> CapabilityServiceBuilder<T> addService(final ServiceName name, final org.jboss.msc.service.Service<T> service) throws IllegalArgumentException {
-            return this.wrap(new ProvidedValuesTrackingServiceBuilder(super.getDelegate().addService(name, service), name));
+            return this.wrap(new ProvidedValuesTrackingServiceBuilder(this.profile(super.getDelegate().addService(name, service)), name));
+        }
+
+        private <T> ServiceBuilder<T> profile(ServiceBuilder<T> builder) {
+            return bootProfile != null ? bootProfile.profile(builder, targetAddress) : builder;
         }
 
         private <T> CapabilityServiceBuilder<T> wrap(ServiceBuilder<T> builder) {
@@ -2167,7 +2189,7 @@ final class OperationContextImpl extends AbstractOperationContext {
 
         @Override
         public CapabilityServiceTarget subTarget() {
-            return new ContextServiceTarget(super.subTarget(), this.builderSupplier, this.targetAddress);
+            return new ContextServiceTarget(super.subTarget(), this.builderSupplier, this.targetAddress, this.bootProfile);
         }
 
         private static final class ProvidedValuesTrackingServiceBuilder extends DelegatingServiceBuilder {
@@ -12,6 +12,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOM
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_PROFILE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WARNING_LEVEL;
@@ -43,6 +44,11 @@ final class OperationHeaders {
             .setDefaultValue(ModelNode.FALSE)
             .build();
 
+    private static final AttributeDefinition PROFILE = SimpleAttributeDefinitionBuilder.create(OPERATION_PROFILE, ModelType.BOOLEAN)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
     private static final AttributeDefinition BLOCKING = SimpleAttributeDefinitionBuilder.create(BLOCKING_TIMEOUT, ModelType.INT)
             .setRequired(false)
             .build();
@@ -74,6 +80,9 @@ final class OperationHeaders {
             if (restartResourceServices) {
                 contextFlags.add(AbstractOperationContext.ContextFlag.ALLOW_RESOURCE_SERVICE_RESTART);
             }
+            if (PROFILE.resolveModelAttribute(ExpressionResolver.REJECTING, headers).asBoolean()) {
+                contextFlags.add(AbstractOperationContext.ContextFlag.PROFILE);
+            }
 
             final ModelNode blockingTimeoutConfig = BLOCKING.resolveModelAttribute(ExpressionResolver.REJECTING, headers);
             if (blockingTimeoutConfig.isDefined()) {
@@ -97,9 +106,16 @@ final class OperationHeaders {
     }
 
     static OperationHeaders forBoot(boolean rollbackOnRuntimeFailure) {
+        return forBoot(rollbackOnRuntimeFailure, false);
+    }
+
+    static OperationHeaders forBoot(boolean rollbackOnRuntimeFailure, boolean profile) {
         EnumSet<OperationContextImpl.ContextFlag> contextFlags = rollbackOnRuntimeFailure
                 ? EnumSet.of(AbstractOperationContext.ContextFlag.ROLLBACK_ON_FAIL)
                 : EnumSet.noneOf(OperationContextImpl.ContextFlag.class);
+        if (profile) {
+            contextFlags.add(AbstractOperationContext.ContextFlag.PROFILE);
+        }
         return new OperationHeaders(contextFlags, null, null, null, null);
     }
 
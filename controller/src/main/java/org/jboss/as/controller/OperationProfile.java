@@ -0,0 +1,172 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Collects timing information about the execution of a management operation, for use in
+ * diagnosing slow operations. Recording is enabled per request via the
+ * {@link org.jboss.as.controller.descriptions.ModelDescriptionConstants#OPERATION_PROFILE operation-profile}
+ * operation header, or for boot via the {@link #BOOT_PROFILE_PROPERTY} system property.
+ * <p>
+ * All times are wall clock times in nanoseconds. Instances are thread safe, as steps executed by parallel boot
+ * threads record to the profile of the primary boot context.
+ */
+final class OperationProfile {
+
+    /** System property which, if set to {@code true}, enables profiling of the boot operations. */
+    static final String BOOT_PROFILE_PROPERTY = "jboss.as.management.boot.operation-profile";
+
+    /** Number of individual steps reported in the {@code slowest-steps} element. */
+    static final int SLOWEST_STEP_LIMIT = 20;
+
+    /** Number of profiled operations whose summaries are retained for the management-operations resource. */
+    static final int RECENT_PROFILE_LIMIT = 10;
+
+    private static final String EXECUTION_TIME = "execution-time";
+    private static final String HANDLER = "handler";
+    private static final String LOCK_WAIT_TIME = "lock-wait-time";
+    private static final String PERSIST_TIME = "persist-time";
+    private static final String RESOURCE_CLONE_TIME = "resource-clone-time";
+    private static final String SLOWEST_STEPS = "slowest-steps";
+    private static final String STABILITY_WAIT_TIME = "stability-wait-time";
+    private static final String STAGE = "stage";
+    private static final String STAGE_TIMES = "stage-times";
+    private static final String STEP_COUNT = "step-count";
+    private static final String TIME = "time";
+
+    private final Queue<StepTiming> steps = new ConcurrentLinkedQueue<>();
+    private final Map<OperationContext.Stage, LongAdder> stageTimes = new EnumMap<>(OperationContext.Stage.class);
+    private final LongAdder executionTime = new LongAdder();
+    private final LongAdder lockWaitTime = new LongAdder();
+    private final LongAdder stabilityWaitTime = new LongAdder();
+    private final LongAdder resourceCloneTime = new LongAdder();
+    private final LongAdder persistTime = new LongAdder();
+
+    OperationProfile() {
+        for (OperationContext.Stage stage : OperationContext.Stage.values()) {
+            stageTimes.put(stage, new LongAdder());
+        }
+    }
+
+    void recordStep(OperationContext.Stage stage, String operationName, PathAddress address, OperationStepHandler handler, long time) {
+        steps.add(new StepTiming(stage, operationName, address, handler.getClass().getName(), time));
+        stageTimes.get(stage).add(time);
+    }
+
+    void recordExecution(long time) {
+        executionTime.add(time);
+    }
+
+    void recordLockWait(long time) {
+        lockWaitTime.add(time);
+    }
+
+    void recordStabilityWait(long time) {
+        stabilityWaitTime.add(time);
+    }
+
+    void recordResourceClone(long time) {
+        resourceCloneTime.add(time);
+    }
+
+    void recordPersist(long time) {
+        persistTime.add(time);
+    }
+
+    long getExecutionTime() {
+        return executionTime.sum();
+    }
+
+    int getStepCount() {
+        return steps.size();
+    }
+
+    /**
+     * Adds the data recorded by another profile to this one. Used to aggregate the profiles of the
+     * several contexts used to execute the boot operations.
+     *
+     * @param other the other profile. Cannot be {@code null}
+     */
+    void add(OperationProfile other) {
+        steps.addAll(other.steps);
+        for (Map.Entry<OperationContext.Stage, LongAdder> entry : other.stageTimes.entrySet()) {
+            stageTimes.get(entry.getKey()).add(entry.getValue().sum());
+        }
+        executionTime.add(other.executionTime.sum());
+        lockWaitTime.add(other.lockWaitTime.sum());
+        stabilityWaitTime.add(other.stabilityWaitTime.sum());
+        resourceCloneTime.add(other.resourceCloneTime.sum());
+        persistTime.add(other.persistTime.sum());
+    }
+
+    ModelNode toModelNode() {
+        ModelNode result = new ModelNode();
+        result.get(EXECUTION_TIME).set(executionTime.sum());
+        result.get(LOCK_WAIT_TIME).set(lockWaitTime.sum());
+        result.get(STABILITY_WAIT_TIME).set(stabilityWaitTime.sum());
+        result.get(RESOURCE_CLONE_TIME).set(resourceCloneTime.sum());
+        result.get(PERSIST_TIME).set(persistTime.sum());
+
+        List<StepTiming> sorted = new ArrayList<>(steps);
+        result.get(STEP_COUNT).set(sorted.size());
+        ModelNode stageNode = result.get(STAGE_TIMES).setEmptyObject();
+        for (Map.Entry<OperationContext.Stage, LongAdder> entry : stageTimes.entrySet()) {
+            long time = entry.getValue().sum();
+            if (time > 0) {
+                stageNode.get(entry.getKey().toString()).set(time);
+            }
+        }
+
+        sorted.sort(Comparator.comparingLong((StepTiming st) -> st.time).reversed());
+        ModelNode slowest = result.get(SLOWEST_STEPS).setEmptyList();
+        for (int i = 0; i < sorted.size() && i < SLOWEST_STEP_LIMIT; i++) {
+            slowest.add(sorted.get(i).toModelNode());
+        }
+        return result;
+    }
+
+    private static final class StepTiming {
+        private final OperationContext.Stage stage;
+        private final String operationName;
+        private final PathAddress address;
+        private final String handler;
+        private final long time;
+
+        private StepTiming(OperationContext.Stage stage, String operationName, PathAddress address, String handler, long time) {
+            this.stage = stage;
+            this.operationName = operationName;
+            this.address = address;
+            this.handler = handler;
+            this.time = time;
+        }
+
+        private ModelNode toModelNode() {
+            ModelNode result = new ModelNode();
+            if (operationName != null) {
+                result.get(OP).set(operationName);
+            }
+            result.get(ADDRESS).set(address.toCLIStyleString());
+            result.get(STAGE).set(stage.toString());
+            result.get(HANDLER).set(handler);
+            result.get(TIME).set(time);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Reads the operation profiles retained by the {@link ModelController}, for use by the runtime attributes of
+ * the {@code core-service=management/service=management-operations} resource.
+ */
+public final class OperationProfileReadHandler implements OperationStepHandler {
+
+    /** Reads the profile of the boot operations, which is undefined unless boot profiling was enabled. */
+    public static final OperationStepHandler BOOT = new OperationProfileReadHandler(true);
+
+    /** Reads the summaries of the most recently executed operations that requested profiling. */
+    public static final OperationStepHandler RECENT = new OperationProfileReadHandler(false);
+
+    private final boolean boot;
+
+    private OperationProfileReadHandler(boolean boot) {
+        this.boot = boot;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ModelControllerImpl controller = context instanceof AbstractOperationContext
+                ? ((AbstractOperationContext) context).getModelController() : null;
+        if (controller != null) {
+            context.getResult().set(boot ? controller.getBootOperationProfile() : controller.getRecentOperationProfiles());
+        }
+    }
+}
@@ -194,8 +194,13 @@ class ParallelBootOperationContext extends AbstractOperationContext {
     @Override
     public void acquireControllerLock() {
         if(lockStep == null) {
+            final OperationProfile profile = getOperationProfile();
+            final long start = profile == null ? 0 : System.nanoTime();
             try {
                 controller.acquireWriteLock(operationId, true);
+                if (profile != null) {
+                    profile.recordLockWait(System.nanoTime() - start);
+                }
                 recordWriteLock();
             } catch (InterruptedException e) {
                 cancelled = true;
@@ -307,6 +312,12 @@ class ParallelBootOperationContext extends AbstractOperationContext {
         throw new UnsupportedOperationException("Resource restarting is not supported during boot");
     }
 
+    @Override
+    OperationProfile getOperationProfile() {
+        // Steps executed by the parallel boot threads are recorded in the primary context's profile
+        return primaryContext.getOperationProfile();
+    }
+
     @Override
     void awaitServiceContainerStability() throws InterruptedException {
         // ignored
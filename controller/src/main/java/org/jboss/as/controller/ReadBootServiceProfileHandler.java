@@ -0,0 +1,30 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Reports the timing of the services installed during boot and the critical path of their startup, as recorded if
+ * the {@code jboss.as.management.boot.service-profile} system property was set to {@code true} when the process booted.
+ * The result is undefined if boot services were not profiled.
+ */
+public final class ReadBootServiceProfileHandler implements OperationStepHandler {
+
+    public static final OperationStepHandler INSTANCE = new ReadBootServiceProfileHandler();
+
+    private ReadBootServiceProfileHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ModelControllerImpl controller = context instanceof AbstractOperationContext
+                ? ((AbstractOperationContext) context).getModelController() : null;
+        if (controller != null) {
+            context.getResult().set(controller.getServiceBootProfileReport());
+        }
+    }
+}
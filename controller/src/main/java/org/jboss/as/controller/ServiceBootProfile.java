@@ -0,0 +1,211 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.DelegatingServiceBuilder;
+import org.jboss.msc.service.LifecycleEvent;
+import org.jboss.msc.service.LifecycleListener;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Records when each service installed via a {@link CapabilityServiceTarget} during boot was installed and when
+ * it came up, and uses the dependencies of the services to determine the critical path of the boot, i.e. the
+ * chain of services whose start gated the start of the last service to come up.
+ * <p>
+ * Recording is enabled via the {@link #BOOT_PROFILE_PROPERTY} system property. All times are in nanoseconds,
+ * relative to the creation of the profile at the beginning of boot. Once boot is complete the profile is
+ * {@linkplain #freeze() frozen}, so services that only come up later, e.g. on demand, do not distort it.
+ */
+final class ServiceBootProfile {
+
+    /** System property which, if set to {@code true}, enables profiling of the services installed during boot. */
+    static final String BOOT_PROFILE_PROPERTY = "jboss.as.management.boot.service-profile";
+
+    /** Number of services reported in the {@code slowest-services} element. */
+    static final int SLOWEST_SERVICE_LIMIT = 20;
+
+    private static final String ANONYMOUS = "<anonymous>";
+    private static final String CRITICAL_PATH = "critical-path";
+    private static final String INSTALLED = "installed";
+    private static final String SELF_TIME = "self-time";
+    private static final String SERVICE_COUNT = "service-count";
+    private static final String SLOWEST_SERVICES = "slowest-services";
+    private static final String UP = "up";
+
+    private final long startTime = System.nanoTime();
+    private final Queue<ServiceTiming> timings = new ConcurrentLinkedQueue<>();
+    private final Map<ServiceName, ServiceTiming> timingsByName = new ConcurrentHashMap<>();
+    private final Set<TimingListener> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean frozen;
+
+    /**
+     * Wraps the builder of a service in order to record its timing.
+     *
+     * @param builder the builder of the service
+     * @param address the address of the resource whose management operation is installing the service
+     * @return the builder to use instead, recording when the service is installed. Will not be {@code null}
+     */
+    <T> ServiceBuilder<T> profile(ServiceBuilder<T> builder, PathAddress address) {
+        final TimingListener listener = new TimingListener(address);
+        builder.addListener(listener);
+        return new DelegatingServiceBuilder<T>(builder) {
+            @Override
+            public ServiceController<T> install() {
+                // Before delegating, as the service may come up before install returns
+                listener.installed = System.nanoTime();
+                pending.add(listener);
+                ServiceController<T> controller = super.install();
+                listener.controller = controller;
+                if (frozen) {
+                    listener.remove(controller);
+                }
+                return controller;
+            }
+        };
+    }
+
+    /**
+     * Stops recording, removing the listeners from any profiled services that have not come up yet.
+     * Events received afterwards are ignored.
+     */
+    void freeze() {
+        frozen = true;
+        for (TimingListener listener : pending) {
+            ServiceController<?> controller = listener.controller;
+            if (controller != null) {
+                listener.remove(controller);
+            }
+        }
+    }
+
+    ModelNode toModelNode() {
+        List<ServiceTiming> all = new ArrayList<>(timings);
+        ModelNode result = new ModelNode();
+        result.get(SERVICE_COUNT).set(all.size());
+
+        ServiceTiming last = null;
+        for (ServiceTiming timing : all) {
+            if (last == null || timing.up > last.up) {
+                last = timing;
+            }
+        }
+        List<ServiceTiming> path = new ArrayList<>();
+        for (ServiceTiming current = last; current != null; current = getGatingDependency(current)) {
+            path.add(0, current);
+        }
+        ModelNode pathNode = result.get(CRITICAL_PATH).setEmptyList();
+        for (ServiceTiming timing : path) {
+            pathNode.add(toModelNode(timing));
+        }
+
+        all.sort(Comparator.comparingLong(this::getSelfTime).reversed());
+        ModelNode slowest = result.get(SLOWEST_SERVICES).setEmptyList();
+        for (int i = 0; i < all.size() && i < SLOWEST_SERVICE_LIMIT; i++) {
+            slowest.add(toModelNode(all.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the dependency of the given service that came up last, if that happened after the service was installed,
+     * meaning the service could not start until that dependency was up.
+     */
+    private ServiceTiming getGatingDependency(ServiceTiming timing) {
+        ServiceTiming result = null;
+        for (ServiceName name : timing.requires) {
+            ServiceTiming dependency = timingsByName.get(name);
+            if (dependency != null && dependency != timing && dependency.up <= timing.up
+                    && (result == null || dependency.up > result.up)) {
+                result = dependency;
+            }
+        }
+        return result != null && result.up > timing.installed ? result : null;
+    }
+
+    /**
+     * Gets the time between the point at which the service could begin starting, i.e. when it was installed and all its
+     * dependencies were up, and when it came up.
+     */
+    private long getSelfTime(ServiceTiming timing) {
+        ServiceTiming gating = getGatingDependency(timing);
+        return timing.up - (gating == null ? timing.installed : gating.up);
+    }
+
+    private ModelNode toModelNode(ServiceTiming timing) {
+        ModelNode result = new ModelNode();
+        result.get(SERVICE).set(timing.name);
+        result.get(ADDRESS).set(timing.address.toCLIStyleString());
+        result.get(INSTALLED).set(timing.installed - startTime);
+        result.get(UP).set(timing.up - startTime);
+        result.get(SELF_TIME).set(getSelfTime(timing));
+        return result;
+    }
+
+    private final class TimingListener implements LifecycleListener {
+        private final PathAddress address;
+        private volatile long installed;
+        private volatile ServiceController<?> controller;
+
+        private TimingListener(PathAddress address) {
+            this.address = address;
+        }
+
+        @Override
+        public void handleEvent(ServiceController<?> controller, LifecycleEvent event) {
+            if (frozen || event == LifecycleEvent.REMOVED) {
+                remove(controller);
+            } else if (event == LifecycleEvent.UP) {
+                // Only the initial start is of interest
+                remove(controller);
+                Set<ServiceName> provides = controller.provides();
+                ServiceName name = controller.getName() != null ? controller.getName()
+                        : provides.isEmpty() ? null : provides.iterator().next();
+                ServiceTiming timing = new ServiceTiming(name == null ? ANONYMOUS : name.getCanonicalName(), address,
+                        controller.requires(), installed, System.nanoTime());
+                timings.add(timing);
+                for (ServiceName provided : provides) {
+                    timingsByName.put(provided, timing);
+                }
+            }
+        }
+
+        private void remove(ServiceController<?> controller) {
+            controller.removeListener(this);
+            pending.remove(this);
+        }
+    }
+
+    private static final class ServiceTiming {
+        private final String name;
+        private final PathAddress address;
+        private final Set<ServiceName> requires;
+        private final long installed;
+        private final long up;
+
+        private ServiceTiming(String name, PathAddress address, Set<ServiceName> requires, long installed, long up) {
+            this.name = name;
+            this.address = address;
+            this.requires = requires;
+            this.installed = installed;
+            this.up = up;
+        }
+    }
+}
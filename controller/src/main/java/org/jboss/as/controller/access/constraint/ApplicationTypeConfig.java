@@ -75,6 +75,7 @@ public class ApplicationTypeConfig {
 
     public void setConfiguredApplication(Boolean configuredApplication) {
         this.configuredApplication = configuredApplication;
+        ClassificationVersion.increment();
     }
 
     @Override
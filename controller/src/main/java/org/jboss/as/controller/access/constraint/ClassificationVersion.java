@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.constraint;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the configuration of the sensitivity and application type classifications, incremented whenever a
+ * configured value changes. Allows results that depend on how targets are classified to be cached and detected as
+ * stale.
+ */
+public final class ClassificationVersion {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private ClassificationVersion() {
+    }
+
+    /**
+     * Gets the current version of the classification configuration.
+     *
+     * @return the version
+     */
+    public static long get() {
+        return VERSION.get();
+    }
+
+    static void increment() {
+        VERSION.incrementAndGet();
+    }
+}
@@ -43,6 +43,22 @@ public class SensitiveVaultExpressionConstraint extends AllowAllowNotConstraint
         super(allowsSensitive, allowsNonSensitive);
     }
 
+    /**
+     * Gets whether a value contains a vault expression, and is therefore security sensitive if vault expressions are.
+     *
+     * @param value the value. Cannot be {@code null}
+     * @return {@code true} if the value contains a vault expression
+     */
+    public static boolean isVaultExpression(ModelNode value) {
+        if (value.getType() == ModelType.EXPRESSION
+                || value.getType() == ModelType.STRING) {
+            String valueString = value.asString();
+
+            return VAULT_EXPRESSION_PATTERN.matcher(valueString).matches();
+        }
+        return false;
+    }
+
     private static class Factory extends AbstractConstraintFactory {
 
         @Override
@@ -105,13 +121,7 @@ public class SensitiveVaultExpressionConstraint extends AllowAllowNotConstraint
         }
 
         private boolean isSensitiveValue(ModelNode value) {
-            if (value.getType() == ModelType.EXPRESSION
-                    || value.getType() == ModelType.STRING) {
-                String valueString = value.asString();
-
-                return VAULT_EXPRESSION_PATTERN.matcher(valueString).matches();
-            }
-            return false;
+            return isVaultExpression(value);
         }
 
         @Override
@@ -44,6 +44,15 @@ public final class DelegatingConfigurableAuthorizer implements JmxAuthorizer {
         return writableAuthorizerConfiguration;
     }
 
+    /**
+     * Gets the {@link Authorizer} currently delegated to.
+     *
+     * @return the delegate. Will not be {@code null}
+     */
+    public Authorizer getDelegate() {
+        return delegate;
+    }
+
     public void setDelegate(Authorizer delegate) {
         assert delegate != null : "null delegate";
         Authorizer currentDelegate = this.delegate;
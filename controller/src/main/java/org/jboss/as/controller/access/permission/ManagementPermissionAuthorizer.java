@@ -85,7 +85,7 @@ public class ManagementPermissionAuthorizer implements Authorizer {
         return operation == null || target.getResourceAddress().equals(PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR)));
     }
 
-    private AuthorizationResult authorize(PermissionCollection userPermissions, PermissionCollection requiredPermissions) {
+    protected AuthorizationResult authorize(PermissionCollection userPermissions, PermissionCollection requiredPermissions) {
 
         final Enumeration<Permission> enumeration = requiredPermissions.elements();
         while (enumeration.hasMoreElements()){
@@ -114,7 +114,7 @@ public class ManagementPermissionAuthorizer implements Authorizer {
         return null;
     }
 
-    private boolean isServerBooting(Environment callEnvironment) {
+    protected boolean isServerBooting(Environment callEnvironment) {
         return callEnvironment != null && callEnvironment.getProcessState() == ControlledProcessState.State.STARTING;
     }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.rbac;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHORIZATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.AuthorizationResult;
+import org.jboss.as.controller.access.AuthorizerConfiguration;
+import org.jboss.as.controller.access.CombinationPolicy;
+import org.jboss.as.controller.access.TargetAttribute;
+import org.jboss.as.controller.access.TargetResource;
+import org.jboss.as.controller.access.constraint.ClassificationVersion;
+import org.jboss.as.controller.access.constraint.SensitiveVaultExpressionConstraint;
+import org.jboss.as.controller.access.constraint.VaultExpressionSensitivityConfig;
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/**
+ * Cache of the decisions of a {@link StandardRBACAuthorizer}, keyed by the set of roles of the caller, the address of
+ * the {@link org.jboss.as.controller.registry.ManagementResourceRegistration registration} of the target, the target
+ * attribute, the operation and its action effects.
+ * <p>
+ * The decisions of the standard roles only depend on how the target and the operation are classified, which is
+ * defined by their registration, so a decision made for one resource holds for all resources of the same registration.
+ * When vault expressions are sensitive, whether the current or the written value is one is also part of the key.
+ * Decisions that depend on the address of the target are not cached. All cached decisions are discarded when the
+ * roles, the permission combination policy or the configuration of a sensitivity classification change.
+ * </p>
+ */
+final class AuthorizationDecisionCache {
+
+    /** Decisions are no longer cached once this many are, as the number of keys is only bounded by the model. */
+    static final int MAX_CACHED_DECISIONS = 16384;
+
+    private static final PathElement MGMT_ELEMENT = PathElement.pathElement(CORE_SERVICE, MANAGEMENT);
+    private static final PathElement AUTHZ_ELEMENT = PathElement.pathElement(ACCESS, AUTHORIZATION);
+
+    private final DefaultPermissionFactory permissionFactory;
+    private final AuthorizerConfiguration configuration;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Generation generation = new Generation(null, null, -1);
+
+    AuthorizationDecisionCache(DefaultPermissionFactory permissionFactory, AuthorizerConfiguration configuration) {
+        this.permissionFactory = permissionFactory;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Gets the decision for a key, making it if it is not cached.
+     *
+     * @param key the key, or {@code null} if the decision cannot be cached
+     * @param authorization makes the decision
+     * @return the result of the authorization
+     */
+    AuthorizationResult authorize(Key key, Supplier<AuthorizationResult> authorization) {
+        if (key == null) {
+            return authorization.get();
+        }
+        final Map<Key, AuthorizationResult.Decision> decisions = getDecisions();
+        final AuthorizationResult.Decision decision = decisions.get(key);
+        if (decision != null) {
+            hits.increment();
+            return decision == AuthorizationResult.Decision.PERMIT ? AuthorizationResult.PERMITTED
+                    : new AuthorizationResult(decision, new ModelNode(ControllerLogger.ROOT_LOGGER.permissionDenied()));
+        }
+        misses.increment();
+        final AuthorizationResult result = authorization.get();
+        if (decisions.size() < MAX_CACHED_DECISIONS) {
+            decisions.put(key, result.getDecision());
+        }
+        return result;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int getSize() {
+        return generation.decisions.size();
+    }
+
+    private Map<Key, AuthorizationResult.Decision> getDecisions() {
+        // Read what the decisions depend on before they are made, so a change while making one only affects a discarded generation
+        final Object rolePermissions = permissionFactory.getRolePermissionsVersion();
+        final CombinationPolicy combinationPolicy = configuration.getPermissionCombinationPolicy();
+        final long classificationVersion = ClassificationVersion.get();
+        Generation current = generation;
+        if (current.rolePermissions != rolePermissions || current.combinationPolicy != combinationPolicy
+                || current.classificationVersion != classificationVersion) {
+            current = new Generation(rolePermissions, combinationPolicy, classificationVersion);
+            generation = current;
+        }
+        return current.decisions;
+    }
+
+    /**
+     * Creates the key of the decision of an action on an attribute.
+     *
+     * @return the key, or {@code null} if the decision cannot be cached
+     */
+    static Key createKey(Set<String> roles, Action action, TargetAttribute target) {
+        final ModelNode operation = action.getOperation();
+        boolean vaultCurrentValue = false;
+        boolean vaultOperationValue = false;
+        if (operation != null && isVaultExpressionSensitive(action)) {
+            // Whether the current value or the written value is a vault expression is part of the decision
+            final ModelNode currentValue = target.getCurrentValue();
+            vaultCurrentValue = currentValue != null && SensitiveVaultExpressionConstraint.isVaultExpression(currentValue);
+            final String attributeName = target.getAttributeName();
+            vaultOperationValue = (operation.hasDefined(attributeName)
+                    && SensitiveVaultExpressionConstraint.isVaultExpression(operation.get(attributeName)))
+                    || (WRITE_ATTRIBUTE_OPERATION.equals(operation.get(OP).asStringOrNull()) && operation.hasDefined(VALUE)
+                    && SensitiveVaultExpressionConstraint.isVaultExpression(operation.get(VALUE)));
+        }
+        return createKey(roles, action, target.getTargetResource(), target.getAttributeName(), vaultCurrentValue, vaultOperationValue);
+    }
+
+    /**
+     * Creates the key of the decision of an action on a resource.
+     *
+     * @return the key, or {@code null} if the decision cannot be cached
+     */
+    static Key createKey(Set<String> roles, Action action, TargetResource target) {
+        final ModelNode operation = action.getOperation();
+        boolean vaultOperationValue = false;
+        if (operation != null && operation.getType() == ModelType.OBJECT && isVaultExpressionSensitive(action)) {
+            for (Property property : operation.asPropertyList()) {
+                if (SensitiveVaultExpressionConstraint.isVaultExpression(property.getValue())) {
+                    vaultOperationValue = true;
+                    break;
+                }
+            }
+        }
+        return createKey(roles, action, target, null, false, vaultOperationValue);
+    }
+
+    private static boolean isVaultExpressionSensitive(Action action) {
+        for (Action.ActionEffect actionEffect : action.getActionEffects()) {
+            if (actionEffect != Action.ActionEffect.ADDRESS && VaultExpressionSensitivityConfig.INSTANCE.isSensitive(actionEffect)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Key createKey(Set<String> roles, Action action, TargetResource target, String attribute,
+                                 boolean vaultCurrentValue, boolean vaultOperationValue) {
+        if (roles == null || roles.isEmpty()) {
+            return null;
+        }
+        for (String role : roles) {
+            // The decisions of scoped roles depend on the hosts and server groups affected by the target
+            if (!StandardRBACAuthorizer.isStandardRole(role)) {
+                return null;
+            }
+        }
+        final ModelNode operation = action.getOperation();
+        final ImmutableManagementResourceRegistration registration = target.getResourceRegistration();
+        if (operation == null || !operation.hasDefined(OP) || registration == null || registration.isRemote()) {
+            return null;
+        }
+        final PathAddress address = target.getResourceAddress();
+        final PathAddress registrationAddress = registration.getPathAddress();
+        if (registrationAddress.size() != address.size()) {
+            return null;
+        }
+        if (address.size() > 2 && MGMT_ELEMENT.equals(address.getElement(0)) && AUTHZ_ELEMENT.equals(address.getElement(1))) {
+            // The constraints of the role mappings depend on the name of the mapped role
+            return null;
+        }
+        return new Key(roles, registrationAddress, attribute, operation.get(OP).asString(), action.getActionEffects(),
+                vaultCurrentValue, vaultOperationValue);
+    }
+
+    static final class Key {
+        private final Set<String> roles;
+        private final PathAddress registrationAddress;
+        private final String attribute;
+        private final String operationName;
+        private final Set<Action.ActionEffect> actionEffects;
+        private final boolean vaultCurrentValue;
+        private final boolean vaultOperationValue;
+        private final int hash;
+
+        Key(Set<String> roles, PathAddress registrationAddress, String attribute, String operationName,
+            Set<Action.ActionEffect> actionEffects, boolean vaultCurrentValue, boolean vaultOperationValue) {
+            this.roles = roles;
+            this.registrationAddress = registrationAddress;
+            this.attribute = attribute;
+            this.operationName = operationName;
+            this.actionEffects = actionEffects;
+            this.vaultCurrentValue = vaultCurrentValue;
+            this.vaultOperationValue = vaultOperationValue;
+            this.hash = Objects.hash(roles, registrationAddress, attribute, operationName, actionEffects, vaultCurrentValue, vaultOperationValue);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash
+                    && vaultCurrentValue == key.vaultCurrentValue
+                    && vaultOperationValue == key.vaultOperationValue
+                    && operationName.equals(key.operationName)
+                    && Objects.equals(attribute, key.attribute)
+                    && registrationAddress.equals(key.registrationAddress)
+                    && actionEffects.equals(key.actionEffects)
+                    && roles.equals(key.roles);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Generation {
+        private final Object rolePermissions;
+        private final CombinationPolicy combinationPolicy;
+        private final long classificationVersion;
+        private final Map<Key, AuthorizationResult.Decision> decisions = new ConcurrentHashMap<>();
+
+        private Generation(Object rolePermissions, CombinationPolicy combinationPolicy, long classificationVersion) {
+            this.rolePermissions = rolePermissions;
+            this.combinationPolicy = combinationPolicy;
+            this.classificationVersion = classificationVersion;
+        }
+    }
+}
@@ -97,7 +97,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         return getUserPermissions(roleMapper.mapRoles(identity, callEnvironment, action, target));
     }
 
-    private PermissionCollection getUserPermissions(Set<String> roles) {
+    PermissionCollection getUserPermissions(Set<String> roles) {
         PermissionCollection result = checkAllPermissions(roles);
         if (result != null) {
             return result;
@@ -161,6 +161,16 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         return result;
     }
 
+    /**
+     * Gets an object identifying the current configuration of the permissions of the roles, which is replaced
+     * whenever a role is added or removed.
+     *
+     * @return the object. Will not be {@code null}
+     */
+    Object getRolePermissionsVersion() {
+        return configureRolePermissions();
+    }
+
     private PermissionCollection checkAllPermissions(Set<String> roles) {
         if (roles.contains(StandardRole.SUPERUSER.toString())
                 && (authorizerConfiguration.getPermissionCombinationPolicy() == CombinationPolicy.PERMISSIVE
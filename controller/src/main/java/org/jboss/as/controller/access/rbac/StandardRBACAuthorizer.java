@@ -5,6 +5,7 @@
 
 package org.jboss.as.controller.access.rbac;
 
+import java.security.PermissionCollection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,8 +14,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.AuthorizationResult;
 import org.jboss.as.controller.access.AuthorizerConfiguration;
 import org.jboss.as.controller.access.Environment;
+import org.jboss.as.controller.access.TargetAttribute;
+import org.jboss.as.controller.access.TargetResource;
+import org.jboss.as.controller.access.permission.AllPermissionsCollection;
 import org.jboss.as.controller.access.permission.ManagementPermissionAuthorizer;
 import org.wildfly.security.auth.server.SecurityIdentity;
 
@@ -36,13 +42,17 @@ import org.wildfly.security.auth.server.SecurityIdentity;
 public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer {
 
     private static final Set<String> STANDARD_ROLES;
+    private static final Set<String> STANDARD_ROLE_NAMES;
     static {
 
         Set<String> stdRoles = new LinkedHashSet<String>();
+        Set<String> stdRoleNames = new HashSet<String>();
         for (StandardRole stdRole : StandardRole.values()) {
             stdRoles.add(stdRole.getFormalName());
+            stdRoleNames.add(stdRole.name());
         }
         STANDARD_ROLES = stdRoles;
+        STANDARD_ROLE_NAMES = stdRoleNames;
     }
 
     public static final AuthorizerDescription AUTHORIZER_DESCRIPTION = new AuthorizerDescription() {
@@ -67,6 +77,7 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
     private final AuthorizerConfiguration configuration;
     private final DefaultPermissionFactory permissionFactory;
     private final RoleMapper roleMapper;
+    private final AuthorizationDecisionCache decisionCache;
     private final Map<String, String> mappedToOfficialForm = Collections.synchronizedMap(new HashMap<String, String>());
 
     private StandardRBACAuthorizer(final AuthorizerConfiguration configuration,
@@ -76,11 +87,64 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
         this.permissionFactory = permissionFactory;
         configuration.registerScopedRoleListener(permissionFactory);
         this.roleMapper = roleMapper;
+        this.decisionCache = new AuthorizationDecisionCache(permissionFactory, configuration);
         for (StandardRole std : StandardRole.values()) {
             mappedToOfficialForm.put(std.toString(), std.getFormalName());
         }
     }
 
+    @Override
+    public AuthorizationResult authorize(SecurityIdentity identity, Environment callEnvironment, Action action, TargetAttribute target) {
+        if (isServerBooting(callEnvironment)) {
+            return AuthorizationResult.PERMITTED;
+        }
+        final Set<String> roles = roleMapper.mapRoles(identity, callEnvironment, action, target);
+        return decisionCache.authorize(AuthorizationDecisionCache.createKey(roles, action, target),
+                () -> authorize(permissionFactory.getUserPermissions(roles), permissionFactory.getRequiredPermissions(action, target)));
+    }
+
+    @Override
+    public AuthorizationResult authorize(SecurityIdentity identity, Environment callEnvironment, Action action, TargetResource target) {
+        if (isServerBooting(callEnvironment)) {
+            return AuthorizationResult.PERMITTED;
+        }
+        final Set<String> roles = roleMapper.mapRoles(identity, callEnvironment, action, target);
+        return decisionCache.authorize(AuthorizationDecisionCache.createKey(roles, action, target), () -> {
+            PermissionCollection userPerms = permissionFactory.getUserPermissions(roles);
+            if (userPerms == AllPermissionsCollection.INSTANCE) {
+                return AuthorizationResult.PERMITTED;
+            }
+            return authorize(userPerms, permissionFactory.getRequiredPermissions(action, target));
+        });
+    }
+
+    /**
+     * Gets the number of authorization decisions that were read from the cache of decisions.
+     *
+     * @return the number of cache hits
+     */
+    public long getAuthorizationCacheHits() {
+        return decisionCache.getHits();
+    }
+
+    /**
+     * Gets the number of cacheable authorization decisions that had to be made as they were not cached.
+     *
+     * @return the number of cache misses
+     */
+    public long getAuthorizationCacheMisses() {
+        return decisionCache.getMisses();
+    }
+
+    /**
+     * Gets the number of authorization decisions currently cached.
+     *
+     * @return the size of the cache of decisions
+     */
+    public int getAuthorizationCacheSize() {
+        return decisionCache.getSize();
+    }
+
     @Override
     public Set<String> getCallerRoles(SecurityIdentity identity, Environment callEnvironment, Set<String> runAsRoles) {
         Set<String> mapped = roleMapper.mapRoles(identity, callEnvironment, runAsRoles);
@@ -122,6 +186,10 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
         return official;
     }
 
+    static boolean isStandardRole(String role) {
+        return STANDARD_ROLE_NAMES.contains(role.toUpperCase(Locale.ENGLISH));
+    }
+
     @Override
     public AuthorizerDescription getDescription() {
         return AUTHORIZER_DESCRIPTION;
@@ -75,6 +75,7 @@ public class ModelDescriptionConstants {
     public static final String BOOT_TIME = "boot-time";
     public static final String BOOT_ERROR = "boot-error";
     public static final String BOOT_ERRORS = "boot-errors";
+    public static final String BOOT_OPERATION_PROFILE = "boot-operation-profile";
     public static final String BOOT_COMPLETE_NOTIFICATION = "boot-complete";
     public static final String BROWSE_CONTENT = "browse-content";
     public static final String BYTES = "bytes";
@@ -346,6 +347,7 @@ public class ModelDescriptionConstants {
     public static final String OPERATION_HEADERS = "operation-headers";
     public static final String OPERATION_ID = "operation-id";
     public static final String OPERATION_NAME = "operation-name";
+    public static final String OPERATION_PROFILE = "operation-profile";
     public static final String OP_PARAMS = "op-params";
     public static final String OP_PARAMS_MAPPING = "op-params-mapping";
     public static final String OPERATIONS = "operations";
@@ -413,6 +415,7 @@ public class ModelDescriptionConstants {
     public static final String READ_RESOURCE_OPERATION = "read-resource";
     public static final String READ_TRANSFORMED_RESOURCE_OPERATION = "read-transformed-resource";
     public static final String REALM = "realm";
+    public static final String RECENT_OPERATION_PROFILES = "recent-operation-profiles";
     public static final String RECONNECT_TIMEOUT = "reconnect-timeout";
     public static final String RECURSIVE = "recursive";
     public static final String RECURSIVE_DEPTH = "recursive-depth";
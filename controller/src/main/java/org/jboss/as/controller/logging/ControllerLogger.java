@@ -3881,4 +3881,16 @@ public interface ControllerLogger extends BasicLogger {
 
     @Message(id = 536, value = "Value for parameter '%1$s' must be less than or equal to '%3$s': '%2$s'")
     OperationFailedException inclusiveUpperBoundExceeded(String name, Object value, Object upperBound);
+
+    @LogMessage(level = INFO)
+    @Message(id = 537, value = "Profiled %d boot operation steps executing in %d ms. See the boot-operation-profile attribute of the management-operations resource for details")
+    void bootOperationsProfiled(int stepCount, long time);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Failed to write the snapshot of the boot operations to %s; the configuration file will be parsed on the next boot")
+    void failedToWriteBootOperationsSnapshot(@Cause Throwable cause, File file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 539, value = "Failed to emit a batch of %d notifications")
+    void failedToEmitNotifications(int count, @Cause Throwable cause);
 }
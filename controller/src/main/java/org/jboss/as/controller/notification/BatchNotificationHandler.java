@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.notification;
+
+import java.util.List;
+
+/**
+ * A {@link NotificationHandler} that handles the notifications emitted asynchronously in batches.
+ *
+ * When notifications are not emitted on the calling thread, the notifications queued since the previous delivery are
+ * delivered together: each handler receives the list of the notifications that matched its registrations, in the
+ * order they were emitted. Other handlers have {@link #handleNotification(Notification)} called for each notification
+ * of the list.
+ */
+public interface BatchNotificationHandler extends NotificationHandler {
+
+    /**
+     * Handles a batch of notifications.
+     *
+     * @param notifications the notifications matching the registrations of this handler, in the order they were emitted.
+     *                      Never empty
+     */
+    void handleNotifications(List<Notification> notifications);
+
+    @Override
+    default void handleNotification(Notification notification) {
+        handleNotifications(List.of(notification));
+    }
+}
@@ -39,7 +39,7 @@ public class Notification {
         this(type, source, message, System.currentTimeMillis(), data);
     }
 
-    private Notification(String type, PathAddress source, String message, long timestamp, ModelNode data) {
+    Notification(String type, PathAddress source, String message, long timestamp, ModelNode data) {
         this.type = type;
         this.source = source;
         this.message = message;
@@ -5,15 +5,26 @@
 
 package org.jboss.as.controller.notification;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Provides implementation of the {@code NotificationSupport}.
@@ -23,7 +34,9 @@ import org.jboss.as.controller.registry.NotificationHandlerRegistration;
  *
  * The {@code NonBlockingNotificationSupport} will fire the notifications in a separate thread (provided by its {@code
  *  executorService}.
- * Its {@code emit()} method will return immediately and will not block the code execution.
+ * Its {@code emit()} method will return immediately and will not block the code execution. The notifications queued
+ * meanwhile are delivered in batches, each handler receiving the notifications of a batch that match its registrations
+ * in the order they were emitted (see {@link BatchNotificationHandler}).
  *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2014 Red Hat inc.
  */
@@ -50,8 +63,20 @@ class NotificationSupports {
 
     static class NonBlockingNotificationSupport implements  NotificationSupport {
 
+        /**
+         * System property setting the window, in milliseconds, within which the {@code attribute-value-written}
+         * notifications of the same attribute of a resource are coalesced into one. Coalescing is disabled by default.
+         */
+        static final String COALESCING_WINDOW_PROPERTY = "jboss.controller.notifications.coalescing-window";
+
+        /**
+         * The maximum number of notifications delivered together.
+         */
+        static final int MAX_BATCH_SIZE = 1024;
+
         private final NotificationHandlerRegistration registry;
         private final ExecutorService executor;
+        private final long coalescingWindow;
 
         /**
          * Use a concurrent queue to put the notifications in it when {@code emit()} is called.
@@ -62,36 +87,60 @@ class NotificationSupports {
         private final Queue<Notification> queue = new ConcurrentLinkedQueue<Notification>();
 
         /**
-         * use the lock's exclusive writeLock to ensure only one thread can drain the queue at a given time.
+         * Whether a task draining the queue is scheduled. Ensures only one thread drains the queue at a given time,
+         * and that bursts of notifications do not schedule a task each.
          */
-        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicBoolean draining = new AtomicBoolean();
 
         public NonBlockingNotificationSupport(NotificationHandlerRegistration registry, ExecutorService executor) {
+            this(registry, executor, getCoalescingWindow());
+        }
+
+        NonBlockingNotificationSupport(NotificationHandlerRegistration registry, ExecutorService executor, long coalescingWindow) {
             this.registry = registry;
             this.executor = executor;
+            this.coalescingWindow = coalescingWindow;
+        }
+
+        private static long getCoalescingWindow() {
+            try {
+                return Long.parseLong(WildFlySecurityManager.getPropertyPrivileged(COALESCING_WINDOW_PROPERTY, "0"));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
         }
 
         @Override
         public synchronized void emit(Notification... notifications) {
             queue.addAll(Arrays.asList(notifications));
 
-            executor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    lock.writeLock().lock();
-                    try {
-                        while (true) {
-                            Notification notification = queue.poll();
-                            if (notification == null) {
-                                break;
-                            }
-                            fireNotifications(registry, notification);
-                        }
-                    } finally {
-                        lock.writeLock().unlock();
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            final List<Notification> batch = new ArrayList<>();
+            do {
+                while (true) {
+                    Notification notification;
+                    while (batch.size() < MAX_BATCH_SIZE && (notification = queue.poll()) != null) {
+                        batch.add(notification);
                     }
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    fireNotificationBatch(registry, coalescingWindow > 0 ? coalesce(batch, coalescingWindow) : batch);
+                    batch.clear();
                 }
-            });
+                draining.set(false);
+                // a notification emitted after the queue was found empty but before the flag was reset is ours to deliver
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
         }
 
         @Override
@@ -100,6 +149,74 @@ class NotificationSupports {
         }
     }
 
+    /**
+     * Coalesces the {@code attribute-value-written} notifications of the same attribute of a resource emitted within
+     * the window into one, which has the old value of the first and the new value of the last and takes the place of
+     * the first. Notifications are not coalesced across a notification of another type from the same resource, e.g. its
+     * removal.
+     */
+    static List<Notification> coalesce(List<Notification> notifications, long window) {
+        final List<Notification> result = new ArrayList<>(notifications.size());
+        // the position in the result of the notification of an attribute that later ones may be coalesced into, by resource and attribute name
+        final Map<PathAddress, Map<String, Integer>> written = new HashMap<>();
+        for (Notification notification : notifications) {
+            final PathAddress source = notification.getSource();
+            final ModelNode data = notification.getData();
+            if (!ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION.equals(notification.getType()) || data == null || !data.hasDefined(NAME)) {
+                written.remove(source);
+                result.add(notification);
+                continue;
+            }
+            final String attribute = data.get(NAME).asString();
+            final Map<String, Integer> attributes = written.computeIfAbsent(source, k -> new HashMap<>());
+            final Integer index = attributes.get(attribute);
+            final Notification previous = index != null ? result.get(index) : null;
+            if (previous != null && notification.getTimestamp() - previous.getTimestamp() <= window) {
+                final ModelNode coalesced = data.clone();
+                coalesced.get(GlobalNotifications.OLD_VALUE).set(previous.getData().get(GlobalNotifications.OLD_VALUE));
+                result.set(index, new Notification(notification.getType(), source,
+                        ControllerLogger.ROOT_LOGGER.attributeValueWritten(attribute, coalesced.get(GlobalNotifications.OLD_VALUE),
+                                coalesced.get(GlobalNotifications.NEW_VALUE)),
+                        previous.getTimestamp(), coalesced));
+            } else {
+                attributes.put(attribute, result.size());
+                result.add(notification);
+            }
+        }
+        return result;
+    }
+
+    private static void fireNotificationBatch(NotificationHandlerRegistration registry, final List<Notification> notifications) {
+        // group the notifications by handler, keeping the order in which they were emitted
+        final Map<NotificationHandler, List<Notification>> batches = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            try {
+                for (NotificationHandler handler : registry.findMatchingNotificationHandlers(notification)) {
+                    batches.computeIfAbsent(handler, k -> new ArrayList<>()).add(notification);
+                }
+            } catch (Throwable t) {
+                ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
+            }
+        }
+        for (Map.Entry<NotificationHandler, List<Notification>> entry : batches.entrySet()) {
+            final NotificationHandler handler = entry.getKey();
+            if (handler instanceof BatchNotificationHandler) {
+                try {
+                    ((BatchNotificationHandler) handler).handleNotifications(entry.getValue());
+                } catch (Throwable t) {
+                    ControllerLogger.ROOT_LOGGER.failedToEmitNotifications(entry.getValue().size(), t);
+                }
+            } else {
+                for (Notification notification : entry.getValue()) {
+                    try {
+                        handler.handleNotification(notification);
+                    } catch (Throwable t) {
+                        ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
+                    }
+                }
+            }
+        }
+    }
 
     private static void fireNotifications(NotificationHandlerRegistration registry, final Notification... notifications) {
         for (Notification notification : notifications) {
@@ -0,0 +1,204 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MODULE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+
+/**
+ * A binary snapshot of the boot operations parsed from a configuration file, which allows a later boot to skip
+ * parsing the file when neither the file nor the environment it was parsed in changed.
+ * <p>
+ * The snapshot is keyed by a digest of the content of the configuration file and of an environment string provided
+ * by the process (e.g. its version and stability level), and records the versions of the extension modules referenced
+ * by the boot operations. A snapshot whose key or extension module versions no longer match is ignored and replaced
+ * by the operations of the next parse.
+ */
+public final class BootOperationsSnapshot {
+
+    private static final int MAGIC = 0x57464253;
+    private static final int FORMAT_VERSION = 1;
+    private static final String KEY = "key";
+    private static final String MODULES = "modules";
+
+    private final File file;
+    private final String environment;
+    private final Function<String, String> moduleVersions;
+    private final Consumer<List<ModelNode>> loadedCallback;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param file the file holding the snapshot
+     * @param environment a string identifying the environment the operations were parsed in. Any change to it invalidates the snapshot
+     * @param moduleVersions function returning the version of an extension module, or {@code null} if the module cannot be found
+     * @param loadedCallback callback invoked with the operations read from the snapshot, to replay side effects of parsing
+     *                       the configuration file. May be {@code null}
+     */
+    public BootOperationsSnapshot(final File file, final String environment, final Function<String, String> moduleVersions,
+                                  final Consumer<List<ModelNode>> loadedCallback) {
+        this.file = file;
+        this.environment = environment;
+        this.moduleVersions = moduleVersions;
+        this.loadedCallback = loadedCallback;
+    }
+
+    /**
+     * Reads the boot operations of a configuration file from the snapshot.
+     *
+     * @param configuration the content of the configuration file
+     * @return the boot operations, or {@code null} if there is no valid snapshot of that configuration
+     */
+    List<ModelNode> read(final byte[] configuration) {
+        if (!file.exists()) {
+            return null;
+        }
+        final ModelNode operations;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                ROOT_LOGGER.debugf("Ignoring boot operations snapshot %s with an unknown format", file);
+                return null;
+            }
+            final ModelNode header = new ModelNode();
+            header.readExternal(input);
+            if (!createKey(configuration).equals(header.get(KEY).asStringOrNull())) {
+                ROOT_LOGGER.debugf("Ignoring boot operations snapshot %s of a different configuration", file);
+                return null;
+            }
+            for (Property module : header.get(MODULES).asPropertyListOrEmpty()) {
+                final String version = moduleVersions.apply(module.getName());
+                if (version == null || !version.equals(module.getValue().asString())) {
+                    ROOT_LOGGER.debugf("Ignoring boot operations snapshot %s as the version of extension module %s changed", file, module.getName());
+                    return null;
+                }
+            }
+            operations = new ModelNode();
+            operations.readExternal(input);
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Ignoring unreadable boot operations snapshot %s", file);
+            return null;
+        }
+        final List<ModelNode> result = new ArrayList<>(operations.asListOrEmpty());
+        if (loadedCallback != null) {
+            loadedCallback.accept(result);
+        }
+        ROOT_LOGGER.debugf("Read %d boot operations from snapshot %s", result.size(), file);
+        return result;
+    }
+
+    /**
+     * Replaces the snapshot with the boot operations parsed from a configuration file. Failures are logged and do not
+     * affect the boot.
+     *
+     * @param configuration the content of the configuration file
+     * @param operations the boot operations parsed from it
+     */
+    void write(final byte[] configuration, final List<ModelNode> operations) {
+        final ModelNode header = new ModelNode();
+        header.get(KEY).set(createKey(configuration));
+        final ModelNode modules = header.get(MODULES).setEmptyObject();
+        final ModelNode list = new ModelNode().setEmptyList();
+        try {
+            for (Map.Entry<String, String> entry : getExtensionModules(operations).entrySet()) {
+                final String version = moduleVersions.apply(entry.getValue());
+                if (version == null) {
+                    // Should not happen as the extension was loaded while parsing, but do not cache what cannot be validated
+                    ROOT_LOGGER.debugf("Not writing boot operations snapshot as the version of extension module %s is unknown", entry.getValue());
+                    return;
+                }
+                modules.get(entry.getValue()).set(version);
+            }
+            for (ModelNode operation : operations) {
+                list.add(operation);
+            }
+            final Path target = file.toPath();
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            final Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), file.getName(), ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    output.writeInt(MAGIC);
+                    output.writeInt(FORMAT_VERSION);
+                    header.writeExternal(output);
+                    list.writeExternal(output);
+                }
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            ROOT_LOGGER.debugf("Wrote %d boot operations to snapshot %s", operations.size(), file);
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.failedToWriteBootOperationsSnapshot(e, file);
+        }
+    }
+
+    private String createKey(final byte[] configuration) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(environment.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        final byte[] hash = digest.digest(configuration);
+        final StringBuilder key = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Gets the modules of the extensions added by the boot operations.
+     *
+     * @return map of extension names to module names, in a stable order
+     */
+    static Map<String, String> getExtensionModules(final List<ModelNode> operations) {
+        final Map<String, String> modules = new TreeMap<>();
+        for (ModelNode operation : operations) {
+            if (ADD.equals(operation.get(OP).asStringOrNull()) && operation.hasDefined(OP_ADDR)) {
+                final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+                if (address.size() == 1 && EXTENSION.equals(address.getElement(0).getKey())) {
+                    final String name = address.getElement(0).getValue();
+                    modules.put(name, operation.hasDefined(MODULE) ? operation.get(MODULE).asString() : name);
+                }
+            }
+        }
+        return modules;
+    }
+}
@@ -8,10 +8,13 @@ package org.jboss.as.controller.persistence;
 import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +47,7 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     private final XMLElementReader<List<ModelNode>> rootParser;
     private final Map<QName, XMLElementReader<List<ModelNode>>> additionalParsers;
     private final boolean suppressLoad;
+    private volatile BootOperationsSnapshot bootOperationsSnapshot;
     protected volatile boolean stored = false;
 
     /**
@@ -82,6 +86,16 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         }
     }
 
+    /**
+     * Sets the snapshot of the boot operations to read instead of parsing the configuration file when it is still
+     * valid, and to update after parsing the file otherwise.
+     *
+     * @param snapshot the snapshot, or {@code null} to always parse the configuration file
+     */
+    public void setBootOperationsSnapshot(final BootOperationsSnapshot snapshot) {
+        this.bootOperationsSnapshot = snapshot;
+    }
+
     /** {@inheritDoc} */
     @Override
     public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
@@ -96,6 +110,20 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             return new ArrayList<>();
         }
 
+        final BootOperationsSnapshot snapshot = this.bootOperationsSnapshot;
+        byte[] configuration = null;
+        if (snapshot != null) {
+            try {
+                configuration = Files.readAllBytes(fileName.toPath());
+            } catch (Exception e) {
+                throw ControllerLogger.ROOT_LOGGER.failedToParseConfiguration(e);
+            }
+            final List<ModelNode> operations = snapshot.read(configuration);
+            if (operations != null) {
+                return operations;
+            }
+        }
+
         final XMLMapper mapper = XMLMapper.Factory.create();
         mapper.registerRootElement(rootElement, rootParser);
         synchronized (additionalParsers) {
@@ -104,10 +132,10 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             }
         }
         final List<ModelNode> updates = new ArrayList<ModelNode>();
-        BufferedInputStream input = null;
+        InputStream input = null;
         XMLStreamReader streamReader = null;
         try {
-            input = new BufferedInputStream(new FileInputStream(fileName));
+            input = configuration != null ? new ByteArrayInputStream(configuration) : new BufferedInputStream(new FileInputStream(fileName));
             streamReader = XMLInputFactoryUtil.create().createXMLStreamReader(input, StandardCharsets.UTF_8.toString());
             mapper.parseDocument(updates, streamReader);
         } catch (XMLStreamException e) {
@@ -128,6 +156,9 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             safeClose(input);
         }
 
+        if (snapshot != null) {
+            snapshot.write(configuration, updates);
+        }
         return updates;
     }
 
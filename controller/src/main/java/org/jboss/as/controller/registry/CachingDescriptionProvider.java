@@ -0,0 +1,55 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.registry;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * {@link DescriptionProvider} caching the descriptions of another provider in the default locale, so resolving the text
+ * of a resource description from its resource bundle happens once rather than once per request. Descriptions in other
+ * locales, which callers can request with any locale string, are not cached.
+ * <p>
+ * Only suitable for providers whose description is derived from the state of a resource registration, which must
+ * {@link #invalidate() invalidate} this cache whenever that state changes.
+ * </p>
+ */
+final class CachingDescriptionProvider implements DescriptionProvider {
+
+    private final DescriptionProvider delegate;
+    private volatile Map<Locale, ModelNode> descriptions = new ConcurrentHashMap<>();
+
+    CachingDescriptionProvider(DescriptionProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ModelNode getModelDescription(Locale locale) {
+        // Resource description resolvers use the default locale when none is given
+        final Locale key = locale == null ? Locale.getDefault() : locale;
+        if (!key.equals(Locale.getDefault())) {
+            return delegate.getModelDescription(locale);
+        }
+        // A description computed while the cache is invalidated only ends up in the discarded map
+        final Map<Locale, ModelNode> descriptions = this.descriptions;
+        ModelNode description = descriptions.get(key);
+        if (description == null) {
+            description = delegate.getModelDescription(locale);
+            description.protect();
+            descriptions.put(key, description);
+        }
+        // Callers are free to modify the description they get
+        return description.clone();
+    }
+
+    void invalidate() {
+        descriptions = new ConcurrentHashMap<>();
+    }
+}
@@ -5,10 +5,13 @@
 
 package org.jboss.as.controller.registry;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.jboss.as.controller.PathAddress;
@@ -24,6 +27,11 @@ import org.jboss.as.controller.notification.NotificationHandler;
 */
 class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegistration {
 
+    /**
+     * Source addresses are no longer indexed once this many are, as their number is only bounded by the model.
+     */
+    private static final int MAX_INDEXED_SOURCES = 4096;
+
     /**
      * The root registry.
      */
@@ -35,6 +43,12 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
      */
     Set<NotificationHandlerEntry> anyAddressEntries = new CopyOnWriteArraySet<NotificationHandlerEntry>();
 
+    /**
+     * Index of the entries registered for the address patterns matching a concrete source address, so that the registry
+     * tree is only traversed once per source address. It is replaced whenever an entry is registered or unregistered.
+     */
+    private volatile Map<PathAddress, NotificationHandlerEntry[]> entriesBySource = new ConcurrentHashMap<>();
+
     @Override
     public void registerNotificationHandler(PathAddress source, NotificationHandler handler, NotificationFilter filter) {
         NotificationHandlerEntry entry = new NotificationHandlerEntry(handler, filter);
@@ -45,6 +59,7 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
 
         ListIterator<PathElement> iterator = source.iterator();
         rootRegistry.registerEntry(iterator, entry);
+        entriesBySource = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -57,14 +72,18 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
 
         ListIterator<PathElement> iterator = source.iterator();
         rootRegistry.unregisterEntry(iterator, entry);
+        entriesBySource = new ConcurrentHashMap<>();
     }
 
     @Override
     public Collection<NotificationHandler> findMatchingNotificationHandlers(Notification notification) {
         Collection<NotificationHandler> handlers = new HashSet<>();
         // collect all the handlers that match the notifications for the registry tree...
-        ListIterator<PathElement> iterator = notification.getSource().iterator();
-        rootRegistry.findEntries(iterator, handlers, notification);
+        for (NotificationHandlerEntry entry : getEntries(notification.getSource())) {
+            if (entry.getFilter().isNotificationEnabled(notification)) {
+                handlers.add(entry.getHandler());
+            }
+        }
 
         // ... and also the filtered handlers registered against ANY_ADRESS
         for (NotificationHandlerEntry anyAddressEntry : anyAddressEntries) {
@@ -75,6 +94,21 @@ class ConcreteNotificationHandlerRegistration implements NotificationHandlerRegi
         return handlers;
     }
 
+    private NotificationHandlerEntry[] getEntries(PathAddress source) {
+        // Entries found in the tree are stored in the index read before traversing it, which is discarded if the tree changed meanwhile
+        final Map<PathAddress, NotificationHandlerEntry[]> index = entriesBySource;
+        NotificationHandlerEntry[] entries = index.get(source);
+        if (entries == null) {
+            Collection<NotificationHandlerEntry> collected = new ArrayList<>();
+            rootRegistry.findEntries(source.iterator(), collected);
+            entries = collected.toArray(new NotificationHandlerEntry[collected.size()]);
+            if (index.size() < MAX_INDEXED_SOURCES) {
+                index.put(source, entries);
+            }
+        }
+        return entries;
+    }
+
     /**
      * A class to represent a single entry for both a notification handler and filter.
      */
@@ -38,6 +38,7 @@ import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.AccessConstraintUtilizationRegistry;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.DefaultResourceDescriptionProvider;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.AttributeAccess.AccessType;
@@ -77,6 +78,9 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
     private Map<String, RuntimePackageDependency> additionalPackages;
 
+    /** Caches the description of this registration, when derived solely from it */
+    private volatile CachingDescriptionProvider descriptionProvider;
+
     /** Constructor for a root MRR */
     ConcreteResourceRegistration(final ResourceDefinition definition,
                                  final AccessConstraintUtilizationRegistry constraintUtilizationRegistry,
@@ -218,12 +222,14 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         Stability childStability = resourceDefinition.getStability();
         Stability parentStability = this.resourceDefinition.getStability();
         // Propagate parent stability-level to child, if necessary
-        return child.registerChild(address.getValue(), (childStability != parentStability) && !childStability.enables(parentStability) ? new ProvidedResourceDefinition(resourceDefinition) {
+        final ManagementResourceRegistration registration = child.registerChild(address.getValue(), (childStability != parentStability) && !childStability.enables(parentStability) ? new ProvidedResourceDefinition(resourceDefinition) {
             @Override
             public Stability getStability() {
                 return parentStability;
             }
         } : resourceDefinition);
+        invalidateDescription();
+        return registration;
     }
 
     @Override
@@ -292,6 +298,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
                     }
                 }
                 subregistry.unregisterSubModel(address.getValue());
+                invalidateDescription();
             }
             if (constraintUtilizationRegistry != null) {
                 constraintUtilizationRegistry.unregisterAccessConstraintUtilizations(getPathAddress().append(address));
@@ -440,6 +447,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         writeLock.lock();
         try {
             attributes.remove(attributeName);
+            invalidateDescription();
         } finally {
             writeLock.unlock();
         }
@@ -529,6 +537,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             }
             attributes.put(attributeName, aa);
             registerAttributeAccessConstraints(definition);
+            invalidateDescription();
         } finally {
             writeLock.unlock();
         }
@@ -670,6 +679,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             throw ControllerLogger.ROOT_LOGGER.nodeAlreadyRegistered(existing.getPathAddress().toCLIStyleString());
         }
         getOrCreateSubregistry(address.getKey()).registerProxyController(address.getValue(), controller);
+        invalidateDescription();
     }
 
     @Override
@@ -677,12 +687,14 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         final NodeSubregistry subregistry = getSubregistry(address.getKey());
         if (subregistry != null) {
             subregistry.unregisterProxyController(address.getValue());
+            invalidateDescription();
         }
     }
 
     @Override
     public void registerAlias(PathElement address, AliasEntry alias, AbstractResourceRegistration target) {
         getOrCreateSubregistry(address.getKey()).registerAlias(address.getValue(), alias, target);
+        invalidateDescription();
     }
 
     @Override
@@ -690,6 +702,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         final NodeSubregistry subregistry = getSubregistry(address.getKey());
         if (subregistry != null) {
             subregistry.unregisterAlias(address.getValue());
+            invalidateDescription();
         }
     }
 
@@ -705,6 +718,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
                 if (capabilityRegistry != null) {
                     capabilityRegistry.registerPossibleCapability(capability, getPathAddress());
                 }
+                invalidateDescription();
             } finally {
                 writeLock.unlock();
             }
@@ -736,6 +750,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             } else {
                 this.requirements = requirements.stream().filter(this::enables).collect(Collectors.toUnmodifiableSet());
             }
+            invalidateDescription();
         } finally {
             writeLock.unlock();
         }
@@ -797,7 +812,24 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             return subregistry.getModelDescription(iterator, next.getValue());
         } else {
             checkPermission();
-            return resourceDefinition.getDescriptionProvider(this);
+            CachingDescriptionProvider cached = this.descriptionProvider;
+            if (cached == null) {
+                DescriptionProvider provider = resourceDefinition.getDescriptionProvider(this);
+                // Other providers may describe state outside of this registration, so can't be cached
+                if (!(provider instanceof DefaultResourceDescriptionProvider)) {
+                    return provider;
+                }
+                cached = new CachingDescriptionProvider(provider);
+                this.descriptionProvider = cached;
+            }
+            return cached;
+        }
+    }
+
+    private void invalidateDescription() {
+        CachingDescriptionProvider cached = this.descriptionProvider;
+        if (cached != null) {
+            cached.invalidate();
         }
     }
 
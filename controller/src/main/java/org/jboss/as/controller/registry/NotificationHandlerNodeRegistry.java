@@ -12,8 +12,6 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.jboss.as.controller.PathElement;
-import org.jboss.as.controller.notification.Notification;
-import org.jboss.as.controller.notification.NotificationHandler;
 
 /**
  * A registry of {@code NotificationHandlerEntry} (in a tree) corresponding to a {@link PathElement#getValue()}.
@@ -82,16 +80,12 @@ class NotificationHandlerNodeRegistry {
     }
 
     /**
-     * Collect all the entries in the {@code handler} notifications (if the registry is the leaf node) or continue to traverse the tree
-     * Only entries that are not filtered out after calling {@link org.jboss.as.controller.notification.NotificationFilter#isNotificationEnabled(org.jboss.as.controller.notification.Notification)} for the given {@code notification} are collected
+     * Collect all the entries registered for the address (if the registry is the leaf node) or continue to traverse the tree.
+     * The entries are not filtered, as the filters depend on the notification and not only on its source address.
      */
-    void findEntries(ListIterator<PathElement> iterator, Collection<NotificationHandler> handlers, Notification notification) {
+    void findEntries(ListIterator<PathElement> iterator, Collection<ConcreteNotificationHandlerRegistration.NotificationHandlerEntry> collected) {
         if (!iterator.hasNext()) {
-            for (ConcreteNotificationHandlerRegistration.NotificationHandlerEntry entry : entries) {
-                if (entry.getFilter().isNotificationEnabled(notification)) {
-                    handlers.add(entry.getHandler());
-                }
-            }
+            collected.addAll(entries);
             return;
         }
 
@@ -101,7 +95,7 @@ class NotificationHandlerNodeRegistry {
             if (subregistry == null) {
                 return;
             }
-            subregistry.findHandlers(iterator, next.getValue(), notification, handlers);
+            subregistry.findEntries(iterator, next.getValue(), collected);
         } finally {
             iterator.previous();
         }
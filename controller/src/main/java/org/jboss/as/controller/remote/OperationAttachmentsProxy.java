@@ -79,7 +79,7 @@ class OperationAttachmentsProxy implements Operation {
     }
 
     private static class ProxiedInputStream extends InputStream {
-        static final int BUFFER_SIZE = 8192;
+        static final int BUFFER_SIZE = 64 * 1024;
 
         private final int index;
         private final int batchId;
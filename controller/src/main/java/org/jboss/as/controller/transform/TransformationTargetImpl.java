@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
@@ -24,6 +26,9 @@ import org.jboss.as.controller.registry.OperationTransformerRegistry.Placeholder
  */
 public class TransformationTargetImpl implements TransformationTarget {
 
+    /** The maximum number of resolved transformers cached per target. */
+    static final int MAX_CACHED_TRANSFORMERS = 4096;
+
     private final String hostName;
     private final ModelVersion version;
     private final TransformerRegistry transformerRegistry;
@@ -32,6 +37,9 @@ public class TransformationTargetImpl implements TransformationTarget {
     private final TransformationTargetType type;
     private final PlaceholderResolver placeholderResolver;
     private final Transformers.OperationExcludedTransformationRegistry operationIgnoredRegistry;
+    // The transformers resolved from the registry, replaced whenever the registry changes. Only used without a
+    // placeholder resolver, as the targets using one are short-lived copies created for each transformation
+    private volatile ResolvedTransformers resolvedTransformers = new ResolvedTransformers();
 
     private TransformationTargetImpl(final String hostName, final TransformerRegistry transformerRegistry, final ModelVersion version,
                                      final Map<PathAddress, ModelVersion> subsystemVersions, final OperationTransformerRegistry transformers,
@@ -110,6 +118,17 @@ public class TransformationTargetImpl implements TransformationTarget {
         return subsystemVersions.get(subsystemName);
     }
 
+    /**
+     * Gets a snapshot of the versions of all subsystems known to the target.
+     *
+     * @return the subsystem versions, keyed by subsystem name. Will not be {@code null}
+     */
+    public Map<String, ModelVersion> getSubsystemVersions() {
+        synchronized (subsystemVersions) {
+            return new HashMap<>(subsystemVersions);
+        }
+    }
+
     @Override
     public ResourceTransformer resolveTransformer(ResourceTransformationContext context, final PathAddress address ) {
         if (ignoreResourceTransformation(context, address)) {
@@ -132,7 +151,16 @@ public class TransformationTargetImpl implements TransformationTarget {
 
     @Override
     public List<PathAddressTransformer> getPathTransformation(final PathAddress address) {
-        return registry.getPathTransformations(address, placeholderResolver);
+        if (placeholderResolver != null) {
+            return registry.getPathTransformations(address, placeholderResolver);
+        }
+        final ResolvedTransformers resolved = this.resolvedTransformers;
+        List<PathAddressTransformer> transformers = resolved.pathTransformations.get(address);
+        if (transformers == null) {
+            transformers = Collections.unmodifiableList(registry.getPathTransformations(address, null));
+            resolved.cache(resolved.pathTransformations, address, transformers);
+        }
+        return transformers;
     }
 
     @Override
@@ -150,8 +178,21 @@ public class TransformationTargetImpl implements TransformationTarget {
         if (version.getMajor() < 3 && ModelDescriptionConstants.QUERY.equals(operationName)) { // TODO use transformer inheritance and register this normally
             return QueryOperationHandler.TRANSFORMER;
         }
-        final OperationTransformerRegistry.OperationTransformerEntry entry = registry.resolveOperationTransformer(address, operationName, placeholderResolver);
-        return entry.getTransformer();
+        return resolveOperationTransformerEntry(address, operationName).getTransformer();
+    }
+
+    private OperationTransformerRegistry.OperationTransformerEntry resolveOperationTransformerEntry(final PathAddress address, final String operationName) {
+        if (placeholderResolver != null) {
+            return registry.resolveOperationTransformer(address, operationName, placeholderResolver);
+        }
+        final ResolvedTransformers resolved = this.resolvedTransformers;
+        final OperationKey key = new OperationKey(address, operationName);
+        OperationTransformerRegistry.OperationTransformerEntry entry = resolved.operationTransformers.get(key);
+        if (entry == null) {
+            entry = registry.resolveOperationTransformer(address, operationName, null);
+            resolved.cache(resolved.operationTransformers, key, entry);
+        }
+        return entry;
     }
 
     @Override
@@ -163,6 +204,8 @@ public class TransformationTargetImpl implements TransformationTarget {
     public void addSubsystemVersion(final String subsystemName, final ModelVersion version) {
         this.subsystemVersions.put(subsystemName, version);
         transformerRegistry.addSubsystem(registry, subsystemName, version);
+        // Transformers resolved before the registry changed may be outdated
+        resolvedTransformers = new ResolvedTransformers();
     }
 
     @Override
@@ -191,4 +234,45 @@ public class TransformationTargetImpl implements TransformationTarget {
         }
         return false;
     }
+
+    private static final class ResolvedTransformers {
+        private final Map<OperationKey, OperationTransformerRegistry.OperationTransformerEntry> operationTransformers = new ConcurrentHashMap<>();
+        private final Map<PathAddress, List<PathAddressTransformer>> pathTransformations = new ConcurrentHashMap<>();
+
+        private <K, V> void cache(Map<K, V> map, K key, V value) {
+            // Resources with arbitrary names, e.g. deployments, make the number of addresses unbounded
+            if (map.size() < MAX_CACHED_TRANSFORMERS) {
+                map.put(key, value);
+            }
+        }
+    }
+
+    private static final class OperationKey {
+        private final PathAddress address;
+        private final String operationName;
+        private final int hashCode;
+
+        private OperationKey(PathAddress address, String operationName) {
+            this.address = address;
+            this.operationName = operationName;
+            this.hashCode = 31 * address.hashCode() + operationName.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof OperationKey)) {
+                return false;
+            }
+            final OperationKey other = (OperationKey) obj;
+            return hashCode == other.hashCode && operationName.equals(other.operationName) && Objects.equals(address, other.address);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.capability.registry.CapabilityId;
+import org.jboss.as.controller.capability.registry.CapabilityRegistration;
+import org.jboss.as.controller.capability.registry.CapabilityScope;
+import org.jboss.as.controller.capability.registry.RegistrationPoint;
+import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistration;
+import org.jboss.as.controller.capability.registry.RuntimeRequirementRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of publishing and rolling back the changes of a shadow copy of a {@link CapabilityRegistry}.
+ */
+public class CapabilityRegistryPublishTestCase {
+
+    private static final RuntimeCapability<Void> ROOT = RuntimeCapability.Builder.of("org.wildfly.test.root", false).build();
+    private static final RuntimeCapability<Void> MULTIPLE = RuntimeCapability.Builder.of("org.wildfly.test.multiple", false)
+            .setAllowMultipleRegistrations(true).build();
+    private static final RuntimeCapability<Void> DEPENDENT = RuntimeCapability.Builder.of("org.wildfly.test.dependent", false)
+            .addRequirements(ROOT.getName()).build();
+    private static final PathAddress ADDRESS1 = PathAddress.pathAddress("subsystem", "test1");
+    private static final PathAddress ADDRESS2 = PathAddress.pathAddress("subsystem", "test2");
+
+    private final CapabilityRegistry published = new CapabilityRegistry(true);
+    private CapabilityRegistry shadow;
+
+    @Before
+    public void setup() {
+        shadow = published.createShadowCopy();
+        for (int i = 0; i < 100; i++) {
+            register(RuntimeCapability.Builder.of("org.wildfly.test.unchanged." + i, false).build(), ADDRESS1);
+        }
+        register(ROOT, ADDRESS1);
+        shadow.publish();
+    }
+
+    @Test
+    public void testPublish() {
+        Assert.assertEquals(101, published.getCapabilities().size());
+        register(DEPENDENT, ADDRESS2);
+        Assert.assertFalse(published.hasCapability(DEPENDENT.getName(), CapabilityScope.GLOBAL));
+        shadow.publish();
+        Assert.assertEquals(102, published.getCapabilities().size());
+        Assert.assertTrue(published.hasCapability(DEPENDENT.getName(), CapabilityScope.GLOBAL));
+
+        shadow.removeCapability(DEPENDENT.getName(), CapabilityScope.GLOBAL, ADDRESS2);
+        shadow.removeCapability(ROOT.getName(), CapabilityScope.GLOBAL, ADDRESS1);
+        shadow.publish();
+        Assert.assertEquals(100, published.getCapabilities().size());
+        Assert.assertFalse(published.hasCapability(ROOT.getName(), CapabilityScope.GLOBAL));
+        Assert.assertFalse(published.hasCapability(DEPENDENT.getName(), CapabilityScope.GLOBAL));
+    }
+
+    @Test
+    public void testRollback() {
+        register(DEPENDENT, ADDRESS2);
+        shadow.removeCapability(ROOT.getName(), CapabilityScope.GLOBAL, ADDRESS1);
+        shadow.rollback();
+        Assert.assertFalse(shadow.isModified());
+        Assert.assertEquals(101, shadow.getCapabilities().size());
+        Assert.assertTrue(shadow.hasCapability(ROOT.getName(), CapabilityScope.GLOBAL));
+        Assert.assertFalse(shadow.hasCapability(DEPENDENT.getName(), CapabilityScope.GLOBAL));
+        Assert.assertTrue(shadow.resolveCapabilities(Resource.Factory.create(), false).isValid());
+    }
+
+    @Test
+    public void testRegistrationsNotShared() {
+        register(MULTIPLE, ADDRESS1);
+        shadow.publish();
+        register(MULTIPLE, ADDRESS2);
+        CapabilityId id = new CapabilityId(MULTIPLE.getName(), CapabilityScope.GLOBAL);
+        Assert.assertEquals(1, published.getCapability(id).getRegistrationPointCount());
+        shadow.publish();
+        Assert.assertEquals(2, published.getCapability(id).getRegistrationPointCount());
+
+        // Removing a registration point of the shadow copy must not affect the published registration
+        shadow.removeCapability(MULTIPLE.getName(), CapabilityScope.GLOBAL, ADDRESS2);
+        Assert.assertEquals(2, published.getCapability(id).getRegistrationPointCount());
+        shadow.rollback();
+        Assert.assertEquals(2, shadow.getCapability(id).getRegistrationPointCount());
+    }
+
+    @Test
+    public void testRequirements() {
+        register(DEPENDENT, ADDRESS2);
+        shadow.registerAdditionalCapabilityRequirement(new RuntimeRequirementRegistration("org.wildfly.test.missing",
+                DEPENDENT.getName(), CapabilityScope.GLOBAL, new RegistrationPoint(ADDRESS2, null)));
+        shadow.publish();
+        Assert.assertFalse(published.createShadowCopy().resolveCapabilities(Resource.Factory.create(), false).isValid());
+
+        shadow.removeCapabilityRequirement(new RuntimeRequirementRegistration("org.wildfly.test.missing",
+                DEPENDENT.getName(), CapabilityScope.GLOBAL, new RegistrationPoint(ADDRESS2, null)));
+        shadow.publish();
+        Assert.assertTrue(published.createShadowCopy().resolveCapabilities(Resource.Factory.create(), false).isValid());
+    }
+
+    @Test
+    public void testPossibleCapabilities() {
+        shadow.registerPossibleCapability(MULTIPLE, ADDRESS1);
+        shadow.publish();
+        Assert.assertEquals(1, published.getPossibleCapabilities().size());
+        shadow.removePossibleCapability(MULTIPLE, ADDRESS1);
+        shadow.rollback();
+        Assert.assertEquals(1, shadow.getPossibleCapabilities().size());
+        shadow.removePossibleCapability(MULTIPLE, ADDRESS1);
+        shadow.publish();
+        Assert.assertTrue(published.getPossibleCapabilities().isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        shadow.clear();
+        shadow.publish();
+        Assert.assertTrue(published.getCapabilities().isEmpty());
+    }
+
+    @Test
+    public void testPublishedRegistryModifiedDirectly() {
+        published.registerCapability(new RuntimeCapabilityRegistration(MULTIPLE, CapabilityScope.GLOBAL, new RegistrationPoint(ADDRESS1, null)));
+        register(DEPENDENT, ADDRESS2);
+        shadow.rollback();
+        // The shadow copy must now reflect the published registry, including changes not made through it
+        Assert.assertTrue(shadow.hasCapability(MULTIPLE.getName(), CapabilityScope.GLOBAL));
+        Assert.assertFalse(shadow.hasCapability(DEPENDENT.getName(), CapabilityScope.GLOBAL));
+        for (CapabilityRegistration<?> registration : published.getCapabilities()) {
+            Assert.assertNotNull(shadow.getCapability(new CapabilityId(registration.getCapabilityName(), CapabilityScope.GLOBAL)));
+        }
+    }
+
+    private void register(RuntimeCapability<?> capability, PathAddress address) {
+        shadow.registerCapability(new RuntimeCapabilityRegistration(capability, CapabilityScope.GLOBAL, new RegistrationPoint(address, null)));
+    }
+}
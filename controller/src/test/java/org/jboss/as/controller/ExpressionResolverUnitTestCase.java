@@ -427,6 +427,88 @@ public class ExpressionResolverUnitTestCase {
         }
     }
 
+    @Test
+    public void testRepeatedResolution() throws OperationFailedException {
+        // The parsed expression string is reused, but its expressions must be resolved again
+        String expression = "a-$${x}-${test.prop.repeated:${test.prop.repeated.default:none}}-${test.prop.repeated.other:$}";
+        assertEquals("a-${x}-none-$", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+        System.setProperty("test.prop.repeated.default", "default");
+        try {
+            assertEquals("a-${x}-default-$", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+            System.setProperty("test.prop.repeated", "value");
+            assertEquals("a-${x}-value-$", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+            System.setProperty("test.prop.repeated", "${test.prop.repeated.default}");
+            assertEquals("a-${x}-default-$", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+        } finally {
+            System.clearProperty("test.prop.repeated");
+            System.clearProperty("test.prop.repeated.default");
+        }
+
+        // Whether the outer expression resolves changes how the rest of the string is parsed
+        expression = "${${test.prop.repeated.name}}-x";
+        System.setProperty("test.prop.repeated.name", "test.prop.repeated");
+        try {
+            System.setProperty("test.prop.repeated", "value");
+            assertEquals("value-x", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+            System.clearProperty("test.prop.repeated");
+            assertEquals("", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+        } finally {
+            System.clearProperty("test.prop.repeated.name");
+        }
+    }
+
+    @Test
+    public void testTemplatesMatchParser() throws OperationFailedException {
+        String[] expressions = {
+                // nested
+                "${test.prop.tmpl.${test.prop.tmpl.suffix}}",
+                "${${test.prop.tmpl.name}}-x-${${test.prop.tmpl.missing}:y}",
+                "a${test.prop.tmpl.a:${test.prop.tmpl.b:${test.prop.tmpl.c:deep}}}b",
+                // escaped
+                "$${test.prop.tmpl.a}", "$$$${test.prop.tmpl.a}", "$$${test.prop.tmpl.a}", "a$$b$", "${test.prop.tmpl.a:$$}",
+                "${test.prop.tmpl.missing:$${x}}",
+                // default values
+                "${test.prop.tmpl.missing:default}", "${test.prop.tmpl.a:default}", "${test.prop.tmpl.missing:}",
+                "${test.prop.tmpl.missing,test.prop.tmpl.a}", "${test.prop.tmpl.missing:{a}}",
+                // resolving to another expression
+                "${test.prop.tmpl.recursive}-${test.prop.tmpl.a}", "$$-${test.prop.tmpl.recursive}",
+                // unresolvable or incomplete
+                "${test.prop.tmpl.missing}", "x-${test.prop.tmpl.a}-${test.prop.tmpl.missing}", "${test.prop.tmpl.a",
+                "${${test.prop.tmpl.missing}", "${}", "$", "${test.prop.tmpl.a}}",
+        };
+        System.setProperty("test.prop.tmpl.a", "A");
+        System.setProperty("test.prop.tmpl.b", "B");
+        System.setProperty("test.prop.tmpl.suffix", "a");
+        System.setProperty("test.prop.tmpl.name", "test.prop.tmpl.b");
+        System.setProperty("test.prop.tmpl.recursive", "${test.prop.tmpl.b}");
+        try {
+            for (boolean lenient : new boolean[] {false, true}) {
+                ExpressionResolver cached = new ExpressionResolverImpl(lenient, true) { };
+                ExpressionResolver uncached = new ExpressionResolverImpl(lenient, false) { };
+                for (String expression : expressions) {
+                    String expected = resolveOutcome(uncached, expression);
+                    // The second resolution uses the cached template
+                    assertEquals(expression, expected, resolveOutcome(cached, expression));
+                    assertEquals(expression, expected, resolveOutcome(cached, expression));
+                }
+            }
+        } finally {
+            System.clearProperty("test.prop.tmpl.a");
+            System.clearProperty("test.prop.tmpl.b");
+            System.clearProperty("test.prop.tmpl.suffix");
+            System.clearProperty("test.prop.tmpl.name");
+            System.clearProperty("test.prop.tmpl.recursive");
+        }
+    }
+
+    private static String resolveOutcome(ExpressionResolver resolver, String expression) {
+        try {
+            return resolver.resolveExpressions(new ModelNode(new ValueExpression(expression))).toString();
+        } catch (OperationFailedException | RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
     private ModelNode expression(String str) {
         return new ModelNode(new ValueExpression(str));
     }
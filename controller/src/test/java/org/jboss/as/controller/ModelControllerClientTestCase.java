@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -72,6 +73,10 @@ public class ModelControllerClientTestCase {
     }
 
     private ModelControllerClient setupTestClient(final ModelController controller) {
+        return setupTestClient(controller, 0);
+    }
+
+    private ModelControllerClient setupTestClient(final ModelController controller, final int maxInFlightOperations) {
         try {
             channels.setupRemoting(new ManagementChannelInitialization() {
                 @Override
@@ -103,7 +108,7 @@ public class ModelControllerClientTestCase {
             throw new RuntimeException(e);
         }
         final Channel clientChannel = channels.getClientChannel();
-        return ExistingChannelModelControllerClient.createReceiving(clientChannel, channels.getExecutorService());
+        return ExistingChannelModelControllerClient.createReceiving(clientChannel, channels.getExecutorService(), maxInFlightOperations);
     }
 
     @Test @Ignore("WFCORE-1125")
@@ -344,6 +349,79 @@ public class ModelControllerClientTestCase {
         }
     }
 
+    @Test
+    public void testPipelinedOperations() throws Exception {
+        // Each operation only completes once all of them are executing concurrently
+        final CountDownLatch allExecuting = new CountDownLatch(4);
+        final MockModelController controller = new MockModelController() {
+            @Override
+            public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+                allExecuting.countDown();
+                try {
+                    Assert.assertTrue(allExecuting.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                ModelNode result = new ModelNode();
+                result.get("testing").set(operation.get("test"));
+                return result;
+            }
+        };
+        final ModelControllerClient client = setupTestClient(controller);
+        try {
+            final List<Future<ModelNode>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                final ModelNode operation = new ModelNode();
+                operation.get("operation").set("fake");
+                operation.get("test").set(i);
+                results.add(client.executeAsync(operation, OperationMessageHandler.DISCARD));
+            }
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS).get("testing").asInt());
+            }
+        } finally {
+            IoUtils.safeClose(client);
+        }
+    }
+
+    @Test
+    public void testMaxInFlightOperations() throws Exception {
+        final AtomicInteger executing = new AtomicInteger();
+        final AtomicInteger maxExecuting = new AtomicInteger();
+        final MockModelController controller = new MockModelController() {
+            @Override
+            public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+                maxExecuting.accumulateAndGet(executing.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    executing.decrementAndGet();
+                }
+                ModelNode result = new ModelNode();
+                result.get("testing").set(operation.get("test"));
+                return result;
+            }
+        };
+        final ModelControllerClient client = setupTestClient(controller, 2);
+        try {
+            final List<Future<ModelNode>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                final ModelNode operation = new ModelNode();
+                operation.get("operation").set("fake");
+                operation.get("test").set(i);
+                results.add(client.executeAsync(operation, OperationMessageHandler.DISCARD));
+            }
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS).get("testing").asInt());
+            }
+            Assert.assertTrue(String.valueOf(maxExecuting.get()), maxExecuting.get() <= 2);
+        } finally {
+            IoUtils.safeClose(client);
+        }
+    }
+
     private void assertArrays(byte[] expected, byte[] actual) {
         assertEquals(expected.length, actual.length);
         for (int i = 0 ; i < expected.length ; i++) {
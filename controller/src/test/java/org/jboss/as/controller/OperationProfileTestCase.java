@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link OperationProfile}.
+ */
+public class OperationProfileTestCase {
+
+    private static final OperationStepHandler HANDLER = (context, operation) -> {};
+
+    @Test
+    public void testSlowestStepsOrderedAndLimited() {
+        OperationProfile profile = new OperationProfile();
+        int count = OperationProfile.SLOWEST_STEP_LIMIT + 5;
+        for (int i = 0; i < count; i++) {
+            profile.recordStep(OperationContext.Stage.MODEL, "add", PathAddress.pathAddress("subsystem", "s" + i), HANDLER, i);
+        }
+        profile.recordStep(OperationContext.Stage.RUNTIME, "add", PathAddress.pathAddress("subsystem", "slow"), HANDLER, 1000);
+
+        ModelNode node = profile.toModelNode();
+        assertEquals(count + 1, node.get("step-count").asInt());
+        List<ModelNode> slowest = node.get("slowest-steps").asList();
+        assertEquals(OperationProfile.SLOWEST_STEP_LIMIT, slowest.size());
+        assertEquals("/subsystem=slow", slowest.get(0).get("address").asString());
+        assertEquals("RUNTIME", slowest.get(0).get("stage").asString());
+        assertEquals(count - 1, slowest.get(1).get("time").asLong());
+        assertEquals(1000, node.get("stage-times", "RUNTIME").asLong());
+        assertEquals((long) count * (count - 1) / 2, node.get("stage-times", "MODEL").asLong());
+        assertFalse(node.get("stage-times").has("VERIFY"));
+    }
+
+    @Test
+    public void testAdd() {
+        OperationProfile first = new OperationProfile();
+        first.recordStep(OperationContext.Stage.MODEL, "add", PathAddress.EMPTY_ADDRESS, HANDLER, 10);
+        first.recordExecution(100);
+        first.recordLockWait(1);
+        first.recordPersist(2);
+
+        OperationProfile second = new OperationProfile();
+        second.recordStep(OperationContext.Stage.MODEL, "add", PathAddress.EMPTY_ADDRESS, HANDLER, 20);
+        second.recordExecution(200);
+        second.recordStabilityWait(3);
+        second.recordResourceClone(4);
+
+        first.add(second);
+        assertEquals(2, first.getStepCount());
+        assertEquals(300, first.getExecutionTime());
+
+        ModelNode node = first.toModelNode();
+        assertEquals(30, node.get("stage-times", "MODEL").asLong());
+        assertEquals(1, node.get("lock-wait-time").asLong());
+        assertEquals(2, node.get("persist-time").asLong());
+        assertEquals(3, node.get("stability-wait-time").asLong());
+        assertEquals(4, node.get("resource-clone-time").asLong());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ServiceBootProfile}.
+ */
+public class ServiceBootProfileTestCase {
+
+    private static final ServiceName SLOW = ServiceName.of("test", "slow");
+    private static final ServiceName DEPENDENT = ServiceName.of("test", "dependent");
+    private static final ServiceName INDEPENDENT = ServiceName.of("test", "independent");
+
+    private ServiceContainer container;
+
+    @Before
+    public void setup() {
+        container = ServiceContainer.Factory.create("test");
+    }
+
+    @After
+    public void shutdown() {
+        container.shutdown();
+    }
+
+    @Test
+    public void testCriticalPath() throws Exception {
+        ServiceBootProfile profile = new ServiceBootProfile();
+        PathAddress address = PathAddress.pathAddress("subsystem", "test");
+
+        install(profile, address, SLOW, null, 100);
+        install(profile, address, INDEPENDENT, null, 0);
+        install(profile, address, DEPENDENT, SLOW, 0);
+        container.awaitStability();
+
+        ModelNode node = profile.toModelNode();
+        assertEquals(3, node.get("service-count").asInt());
+
+        List<ModelNode> path = node.get("critical-path").asList();
+        assertEquals(node.toString(), 2, path.size());
+        assertEquals(SLOW.getCanonicalName(), path.get(0).get("service").asString());
+        assertEquals(DEPENDENT.getCanonicalName(), path.get(1).get("service").asString());
+        assertEquals("/subsystem=test", path.get(0).get("address").asString());
+
+        List<ModelNode> slowest = node.get("slowest-services").asList();
+        assertEquals(SLOW.getCanonicalName(), slowest.get(0).get("service").asString());
+        assertTrue(slowest.get(0).get("self-time").asLong() >= 100_000_000L);
+        // The dependent service's self time excludes the time spent waiting for its dependency
+        for (ModelNode service : slowest) {
+            if (DEPENDENT.getCanonicalName().equals(service.get("service").asString())) {
+                assertTrue(service.get("self-time").asLong() < 100_000_000L);
+            }
+        }
+    }
+
+    @Test
+    public void testInstalledWhenInstalled() throws Exception {
+        ServiceBootProfile profile = new ServiceBootProfile();
+        ServiceBuilder<?> builder = profile.profile(container.addService(), PathAddress.EMPTY_ADDRESS);
+        builder.provides(INDEPENDENT);
+        builder.setInstance(Service.NULL);
+        Thread.sleep(100);
+        builder.install();
+        container.awaitStability();
+
+        // The service counts as installed when installed, not when its builder was created
+        ModelNode service = profile.toModelNode().get("slowest-services").asList().get(0);
+        assertTrue(service.toString(), service.get("installed").asLong() >= 100_000_000L);
+        assertTrue(service.toString(), service.get("self-time").asLong() < 100_000_000L);
+    }
+
+    @Test
+    public void testFrozen() throws Exception {
+        ServiceBootProfile profile = new ServiceBootProfile();
+        PathAddress address = PathAddress.pathAddress("subsystem", "test");
+
+        install(profile, address, INDEPENDENT, null, 0);
+        // Waits for a dependency that only comes up after boot
+        install(profile, address, DEPENDENT, SLOW, 0);
+        container.awaitStability();
+        profile.freeze();
+
+        install(profile, address, SLOW, null, 0);
+        container.awaitStability();
+        assertEquals(ServiceController.State.UP, container.getRequiredService(DEPENDENT).getState());
+
+        // Only the service that came up before the profile was frozen is recorded
+        ModelNode node = profile.toModelNode();
+        assertEquals(node.toString(), 1, node.get("service-count").asInt());
+        assertEquals(INDEPENDENT.getCanonicalName(), node.get("critical-path").asList().get(0).get("service").asString());
+    }
+
+    private void install(ServiceBootProfile profile, PathAddress address, ServiceName name, ServiceName dependency, long sleep) {
+        ServiceBuilder<?> builder = profile.profile(container.addService(), address);
+        builder.provides(name);
+        if (dependency != null) {
+            builder.requires(dependency);
+        }
+        builder.setInstance(new Service() {
+            @Override
+            public void start(StartContext context) {
+                if (sleep > 0) {
+                    try {
+                        Thread.sleep(sleep);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            @Override
+            public void stop(StopContext context) {
+            }
+        });
+        builder.install();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.rbac;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.jboss.as.controller.ControlledProcessState;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.AuthorizationResult;
+import org.jboss.as.controller.access.Environment;
+import org.jboss.as.controller.access.JmxAction;
+import org.jboss.as.controller.access.JmxTarget;
+import org.jboss.as.controller.access.TargetAttribute;
+import org.jboss.as.controller.access.TargetResource;
+import org.jboss.as.controller.access.constraint.SensitivityClassification;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.access.management.WritableAuthorizerConfiguration;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.security.auth.server.SecurityDomain;
+import org.wildfly.security.auth.server.SecurityIdentity;
+
+/**
+ * Unit tests of the cache of authorization decisions of the {@link StandardRBACAuthorizer}.
+ */
+public class AuthorizationDecisionCacheTestCase {
+
+    private static final SensitivityClassification CLASSIFICATION = new SensitivityClassification("test", "authorization-cache", false, false, false);
+    private static final ManagementResourceRegistration ROOT_RR = ManagementResourceRegistration.Factory.forProcessType(ProcessType.EMBEDDED_SERVER)
+            .createRegistration(new SimpleResourceDefinition(null, NonResolvingResourceDescriptionResolver.INSTANCE));
+    static {
+        ROOT_RR.registerSubModel(new SimpleResourceDefinition(new SimpleResourceDefinition.Parameters(PathElement.pathElement("child"),
+                NonResolvingResourceDescriptionResolver.INSTANCE).setAccessConstraints(new SensitiveTargetAccessConstraintDefinition(CLASSIFICATION))));
+    }
+
+    private final Set<String> roles = Collections.singleton(StandardRole.MONITOR.name());
+    private final WritableAuthorizerConfiguration configuration = new WritableAuthorizerConfiguration(StandardRBACAuthorizer.AUTHORIZER_DESCRIPTION);
+    private StandardRBACAuthorizer authorizer;
+    private SecurityIdentity identity;
+    private Environment environment;
+
+    @Before
+    public void setUp() {
+        authorizer = StandardRBACAuthorizer.create(configuration, new TestRoleMapper());
+        identity = SecurityDomain.builder().build().getAnonymousSecurityIdentity();
+        ControlledProcessState processState = new ControlledProcessState(false);
+        processState.setRunning();
+        environment = new Environment(processState, ProcessType.EMBEDDED_SERVER);
+    }
+
+    @After
+    public void tearDown() {
+        CLASSIFICATION.setConfiguredRequiresReadPermission(null);
+        authorizer.shutdown();
+    }
+
+    @Test
+    public void testDecisionSharedByRegistration() {
+        Assert.assertEquals(AuthorizationResult.Decision.PERMIT, authorizeRead("a"));
+        Assert.assertEquals(0, authorizer.getAuthorizationCacheHits());
+        Assert.assertEquals(1, authorizer.getAuthorizationCacheMisses());
+
+        Assert.assertEquals(AuthorizationResult.Decision.PERMIT, authorizeRead("b"));
+        Assert.assertEquals(1, authorizer.getAuthorizationCacheHits());
+        Assert.assertEquals(1, authorizer.getAuthorizationCacheSize());
+
+        // A write is a different action
+        Assert.assertEquals(AuthorizationResult.Decision.DENY, authorizeWrite("a"));
+        Assert.assertEquals(AuthorizationResult.Decision.DENY, authorizeWrite("b"));
+        Assert.assertEquals(2, authorizer.getAuthorizationCacheHits());
+        Assert.assertEquals(2, authorizer.getAuthorizationCacheMisses());
+    }
+
+    @Test
+    public void testClassificationChangeInvalidates() {
+        Assert.assertEquals(AuthorizationResult.Decision.PERMIT, authorizeRead("a"));
+        CLASSIFICATION.setConfiguredRequiresReadPermission(true);
+        Assert.assertEquals(AuthorizationResult.Decision.DENY, authorizeRead("a"));
+        Assert.assertEquals(0, authorizer.getAuthorizationCacheHits());
+        CLASSIFICATION.setConfiguredRequiresReadPermission(false);
+        Assert.assertEquals(AuthorizationResult.Decision.PERMIT, authorizeRead("a"));
+    }
+
+    @Test
+    public void testScopedRoleNotCached() {
+        Action action = new Action(Util.createEmptyOperation(READ_ATTRIBUTE_OPERATION, address("a")), null, EnumSet.of(Action.ActionEffect.READ_CONFIG));
+        TargetResource target = TargetResource.forStandalone(address("a"), ROOT_RR.getSubModel(address("a")), null);
+        Assert.assertNotNull(AuthorizationDecisionCache.createKey(roles, action, target));
+        Assert.assertNull(AuthorizationDecisionCache.createKey(Collections.singleton("main-server-group-monitor"), action, target));
+    }
+
+    private AuthorizationResult.Decision authorizeRead(String name) {
+        return authorize(READ_ATTRIBUTE_OPERATION, name, EnumSet.of(Action.ActionEffect.ADDRESS, Action.ActionEffect.READ_CONFIG));
+    }
+
+    private AuthorizationResult.Decision authorizeWrite(String name) {
+        return authorize(WRITE_ATTRIBUTE_OPERATION, name, EnumSet.of(Action.ActionEffect.ADDRESS, Action.ActionEffect.WRITE_CONFIG));
+    }
+
+    private AuthorizationResult.Decision authorize(String operationName, String name, Set<Action.ActionEffect> effects) {
+        PathAddress address = address(name);
+        Action action = new Action(Util.createEmptyOperation(operationName, address), null, effects);
+        TargetResource resource = TargetResource.forStandalone(address, ROOT_RR.getSubModel(address), null);
+        return authorizer.authorize(identity, environment, action, new TargetAttribute("test", null, new ModelNode("value"), resource)).getDecision();
+    }
+
+    private static PathAddress address(String name) {
+        return PathAddress.pathAddress("child", name);
+    }
+
+    private final class TestRoleMapper implements RoleMapper {
+
+        @Override
+        public Set<String> mapRoles(SecurityIdentity identity, Environment callEnvironment, Action action, TargetAttribute attribute) {
+            return roles;
+        }
+
+        @Override
+        public Set<String> mapRoles(SecurityIdentity identity, Environment callEnvironment, Action action, TargetResource resource) {
+            return roles;
+        }
+
+        @Override
+        public Set<String> mapRoles(SecurityIdentity identity, Environment callEnvironment, JmxAction action, JmxTarget target) {
+            return roles;
+        }
+
+        @Override
+        public Set<String> mapRoles(SecurityIdentity identity, Environment callEnvironment, Set<String> operationHeaderRoles) {
+            return roles;
+        }
+
+        @Override
+        public boolean canRunAs(Set<String> mappedRoles, String runAsRole) {
+            return false;
+        }
+    }
+}
@@ -211,6 +211,38 @@ public class NotificationRegistryTestCase {
         assertTrue(handlers.contains(handler3));
     }
 
+    @Test
+    public void testRegistrationAfterLookup() {
+        NotificationHandlerRegistration registry = NotificationHandlerRegistration.Factory.create();
+
+        NotificationHandler handler1 = new SimpleNotificationHandler();
+        NotificationHandler handler2 = new SimpleNotificationHandler();
+        NotificationFilter filter = ALL;
+
+        PathAddress source = PathAddress.pathAddress("subsystem", "messaging").append("foo", "bar");
+        registry.registerNotificationHandler(PathAddress.pathAddress("subsystem", "*").append("foo", "*"), handler1, filter);
+
+        Notification notification = new Notification("foo", source, "bar");
+        // the handlers found for the source are indexed by the first lookup...
+        assertEquals(1, registry.findMatchingNotificationHandlers(notification).size());
+
+        // ... and the index must not hide handlers registered or unregistered later
+        registry.registerNotificationHandler(source, handler2, filter);
+        Collection<NotificationHandler> handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(2, handlers.size());
+        assertTrue(handlers.contains(handler2));
+
+        registry.unregisterNotificationHandler(PathAddress.pathAddress("subsystem", "*").append("foo", "*"), handler1, filter);
+        handlers = registry.findMatchingNotificationHandlers(notification);
+        assertEquals(1, handlers.size());
+        assertTrue(handlers.contains(handler2));
+
+        // filters still apply to each notification
+        registry.registerNotificationHandler(source, handler1, n -> n.getType().equals("other"));
+        assertFalse(registry.findMatchingNotificationHandlers(notification).contains(handler1));
+        assertTrue(registry.findMatchingNotificationHandlers(new Notification("other", source, "bar")).contains(handler1));
+    }
+
     private static class SimpleNotificationHandler implements NotificationHandler {
 
         @Override
@@ -6,6 +6,9 @@
 package org.jboss.as.controller.notification;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
 import static org.jboss.as.controller.PathAddress.pathAddress;
 import static org.jboss.as.controller.notification.NotificationFilter.ALL;
 import static org.junit.Assert.assertEquals;
@@ -14,11 +17,15 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.jboss.dmr.ModelNode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -90,4 +97,75 @@ public class NotificationSupportImplTestCase {
         // handled the 2nd notifications2 that were emitted
         assertEquals(notifications2, handler.getNotifications().subList(9, 12));
     }
+
+    @Test
+    public void testBatchDelivery() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            NotificationSupport notificationSupport = new NotificationSupports.NonBlockingNotificationSupport(NotificationHandlerRegistration.Factory.create(), executor, 0);
+            List<List<Notification>> batches = new CopyOnWriteArrayList<>();
+            notificationSupport.getNotificationRegistry().registerNotificationHandler(pathAddress("resource", "*"),
+                    (BatchNotificationHandler) batches::add, ALL);
+
+            // block the executor while the notifications are emitted so that they are delivered together
+            CountDownLatch blocked = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            List<Notification> notifications = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Notification notification = new Notification("foo", pathAddress("resource", "r" + i), "foo" + i);
+                notifications.add(notification);
+                notificationSupport.emit(notification);
+            }
+            notificationSupport.emit(new Notification("foo", pathAddress("other", "foo"), "ignored"));
+            blocked.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, SECONDS));
+
+            assertEquals(1, batches.size());
+            assertEquals(notifications, batches.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalescing() {
+        PathAddress address = pathAddress("resource", "foo");
+        List<Notification> notifications = new ArrayList<>();
+        notifications.add(written(address, "a", 1, 2));
+        notifications.add(written(address, "b", 1, 2));
+        notifications.add(written(address, "a", 2, 3));
+        notifications.add(written(pathAddress("resource", "bar"), "a", 1, 2));
+        notifications.add(written(address, "a", 3, 4));
+
+        List<Notification> coalesced = NotificationSupports.coalesce(notifications, 1000);
+        assertEquals(3, coalesced.size());
+        assertEquals(address, coalesced.get(0).getSource());
+        assertEquals(1, coalesced.get(0).getData().get(GlobalNotifications.OLD_VALUE).asInt());
+        assertEquals(4, coalesced.get(0).getData().get(GlobalNotifications.NEW_VALUE).asInt());
+        assertEquals(notifications.get(1), coalesced.get(1));
+        assertEquals(notifications.get(3), coalesced.get(2));
+
+        // not coalesced across another notification of the resource
+        notifications.add(2, new Notification(RESOURCE_REMOVED_NOTIFICATION, address, "removed"));
+        coalesced = NotificationSupports.coalesce(notifications, 1000);
+        assertEquals(5, coalesced.size());
+        assertEquals(2, coalesced.get(0).getData().get(GlobalNotifications.NEW_VALUE).asInt());
+        assertEquals(2, coalesced.get(3).getData().get(GlobalNotifications.OLD_VALUE).asInt());
+        assertEquals(4, coalesced.get(3).getData().get(GlobalNotifications.NEW_VALUE).asInt());
+    }
+
+    private static Notification written(PathAddress address, String attribute, int oldValue, int newValue) {
+        ModelNode data = new ModelNode();
+        data.get(NAME).set(attribute);
+        data.get(GlobalNotifications.OLD_VALUE).set(oldValue);
+        data.get(GlobalNotifications.NEW_VALUE).set(newValue);
+        return new Notification(ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION, address, "written", data);
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MODULE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SYSTEM_PROPERTY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ValueExpression;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link BootOperationsSnapshot}.
+ */
+public class BootOperationsSnapshotTestCase {
+
+    private static final byte[] CONFIGURATION = "<server/>".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, String> moduleVersions = new HashMap<>();
+    private final List<List<ModelNode>> loaded = new ArrayList<>();
+    private File file;
+
+    @Before
+    public void setup() throws IOException {
+        file = File.createTempFile("boot-operations", ".dmr");
+        Assert.assertTrue(file.delete());
+        moduleVersions.put("org.jboss.as.logging", "1.0");
+        moduleVersions.put("org.jboss.as.jmx", "");
+    }
+
+    @After
+    public void cleanup() {
+        file.delete();
+    }
+
+    @Test
+    public void testRoundTrip() {
+        List<ModelNode> operations = operations();
+        Assert.assertNull(snapshot("env").read(CONFIGURATION));
+        snapshot("env").write(CONFIGURATION, operations);
+        Assert.assertTrue(loaded.isEmpty());
+
+        Assert.assertEquals(operations, snapshot("env").read(CONFIGURATION));
+        Assert.assertEquals(1, loaded.size());
+        Assert.assertEquals(operations, loaded.get(0));
+    }
+
+    @Test
+    public void testConfigurationChanged() {
+        snapshot("env").write(CONFIGURATION, operations());
+        Assert.assertNull(snapshot("env").read("<server></server>".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertTrue(loaded.isEmpty());
+    }
+
+    @Test
+    public void testEnvironmentChanged() {
+        snapshot("env").write(CONFIGURATION, operations());
+        Assert.assertNull(snapshot("other").read(CONFIGURATION));
+    }
+
+    @Test
+    public void testExtensionModuleChanged() {
+        snapshot("env").write(CONFIGURATION, operations());
+        moduleVersions.put("org.jboss.as.logging", "2.0");
+        Assert.assertNull(snapshot("env").read(CONFIGURATION));
+        moduleVersions.remove("org.jboss.as.logging");
+        Assert.assertNull(snapshot("env").read(CONFIGURATION));
+    }
+
+    @Test
+    public void testUnknownModuleNotWritten() {
+        moduleVersions.remove("org.jboss.as.jmx");
+        snapshot("env").write(CONFIGURATION, operations());
+        Assert.assertFalse(file.exists());
+    }
+
+    @Test
+    public void testCorruptSnapshotIgnored() throws IOException {
+        snapshot("env").write(CONFIGURATION, operations());
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        Assert.assertNull(snapshot("env").read(CONFIGURATION));
+
+        // Replaced by the next write
+        snapshot("env").write(CONFIGURATION, operations());
+        Assert.assertEquals(operations(), snapshot("env").read(CONFIGURATION));
+    }
+
+    @Test
+    public void testExtensionModules() {
+        Map<String, String> modules = BootOperationsSnapshot.getExtensionModules(operations());
+        Assert.assertEquals(2, modules.size());
+        Assert.assertEquals("org.jboss.as.logging", modules.get("org.jboss.as.logging"));
+        Assert.assertEquals("org.jboss.as.jmx", modules.get("jmx"));
+    }
+
+    private BootOperationsSnapshot snapshot(String environment) {
+        return new BootOperationsSnapshot(file, environment, moduleVersions::get, loaded::add);
+    }
+
+    private static List<ModelNode> operations() {
+        List<ModelNode> operations = new ArrayList<>();
+        operations.add(Util.createAddOperation(PathAddress.pathAddress(EXTENSION, "org.jboss.as.logging")));
+        ModelNode jmx = Util.createAddOperation(PathAddress.pathAddress(EXTENSION, "jmx"));
+        jmx.get(MODULE).set("org.jboss.as.jmx");
+        operations.add(jmx);
+        ModelNode property = Util.createOperation(ADD, PathAddress.pathAddress(SYSTEM_PROPERTY, "test"));
+        property.get(VALUE).set(new ValueExpression("${test.value:default}"));
+        operations.add(property);
+        return operations;
+    }
+}
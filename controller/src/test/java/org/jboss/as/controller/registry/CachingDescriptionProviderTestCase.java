@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.registry;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link CachingDescriptionProvider}.
+ */
+public class CachingDescriptionProviderTestCase {
+
+    private final AtomicInteger resolved = new AtomicInteger();
+    private final CachingDescriptionProvider provider = new CachingDescriptionProvider(locale -> {
+        resolved.incrementAndGet();
+        return new ModelNode(String.valueOf(locale));
+    });
+
+    @Test
+    public void testDefaultLocaleCached() {
+        assertEquals("null", provider.getModelDescription(null).asString());
+        assertEquals("null", provider.getModelDescription(Locale.getDefault()).asString());
+        assertEquals(1, resolved.get());
+
+        provider.invalidate();
+        provider.getModelDescription(null);
+        assertEquals(2, resolved.get());
+    }
+
+    @Test
+    public void testOtherLocalesNotCached() {
+        final Locale other = Locale.getDefault().equals(Locale.JAPANESE) ? Locale.KOREAN : Locale.JAPANESE;
+        assertEquals(other.toString(), provider.getModelDescription(other).asString());
+        provider.getModelDescription(other);
+        provider.getModelDescription(new Locale("xx", "YY"));
+        assertEquals(3, resolved.get());
+    }
+}
@@ -5,7 +5,10 @@
 
 package org.jboss.as.controller.registry;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -399,6 +402,30 @@ public class CoreManagementResourceRegistrationUnitTestCase {
         assertSame(stableReplyParameter, registeredOperation.getReplyParameters()[0]);
     }
 
+    @Test
+    public void testModelDescriptionCache() {
+        ModelNode description = this.rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertFalse(description.get(ATTRIBUTES).has("attr"));
+        assertFalse(description.get(CHILDREN).has("child"));
+
+        // Changes to a returned description don't leak into the cached one
+        description.get(ATTRIBUTES, "modified").set(true);
+        assertFalse(this.rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null).get(ATTRIBUTES).has("modified"));
+
+        // Changes to the registration invalidate the cached description
+        this.rootRegistration.registerReadOnlyAttribute(new SimpleAttributeDefinitionBuilder("attr", ModelType.STRING).build(), null);
+        this.rootRegistration.registerSubModel(new SimpleResourceDefinition(childElement, NonResolvingResourceDescriptionResolver.INSTANCE));
+        description = this.rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertTrue(description.get(ATTRIBUTES).has("attr"));
+        assertTrue(description.get(CHILDREN).has("child"));
+
+        this.rootRegistration.unregisterAttribute("attr");
+        this.rootRegistration.unregisterSubModel(childElement);
+        description = this.rootRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertFalse(description.get(ATTRIBUTES).has("attr"));
+        assertFalse(description.get(CHILDREN).has("child"));
+    }
+
     private static class TestHandler implements OperationStepHandler {
 
         private static final TestHandler INSTANCE = new TestHandler();
@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.transform;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.ModelVersionRange;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of the transformers resolved by {@link TransformationTargetImpl}.
+ */
+public class TransformationTargetImplTestCase {
+
+    private static final ModelVersion VERSION = ModelVersion.create(1, 0, 0);
+    private static final PathElement PROFILE_ELEMENT = PathElement.pathElement(PROFILE, "default");
+    private static final PathAddress SUBSYSTEM_A = PathAddress.pathAddress(PROFILE_ELEMENT, PathElement.pathElement(SUBSYSTEM, "a"));
+    private static final PathAddress SUBSYSTEM_B = PathAddress.pathAddress(PROFILE_ELEMENT, PathElement.pathElement(SUBSYSTEM, "b"));
+
+    private final OperationTransformer transformerA = (context, address, operation) -> null;
+    private final OperationTransformer transformerB = (context, address, operation) -> null;
+    private TransformationTargetImpl target;
+
+    @Before
+    public void setup() {
+        TransformerRegistry registry = TransformerRegistry.Factory.create();
+        registry.registerSubsystemTransformers("a", ModelVersionRange.Versions.range(VERSION), ResourceTransformer.DEFAULT)
+                .registerOperationTransformer("test", transformerA);
+        registry.registerSubsystemTransformers("b", ModelVersionRange.Versions.range(VERSION), ResourceTransformer.DEFAULT)
+                .registerOperationTransformer("test", transformerB);
+        target = TransformationTargetImpl.createForHost("host", registry, ModelVersion.create(1, 0, 0),
+                Collections.singletonMap(PathAddress.pathAddress(SUBSYSTEM, "a"), VERSION),
+                Transformers.OperationExcludedTransformationRegistry.DEFAULT);
+    }
+
+    @Test
+    public void testResolvedOperationTransformer() {
+        Assert.assertSame(transformerA, target.resolveTransformer(null, SUBSYSTEM_A, "test"));
+        Assert.assertSame(transformerA, target.resolveTransformer(null, SUBSYSTEM_A, "test"));
+        Assert.assertNotSame(transformerA, target.resolveTransformer(null, SUBSYSTEM_A, "other"));
+    }
+
+    @Test
+    public void testAddedSubsystemResolved() {
+        // Not known to the target yet
+        Assert.assertNotSame(transformerB, target.resolveTransformer(null, SUBSYSTEM_B, "test"));
+        target.addSubsystemVersion("b", VERSION);
+        Assert.assertSame(transformerB, target.resolveTransformer(null, SUBSYSTEM_B, "test"));
+        Assert.assertSame(transformerA, target.resolveTransformer(null, SUBSYSTEM_A, "test"));
+    }
+
+    @Test
+    public void testResolvedPathTransformation() {
+        List<PathAddressTransformer> transformers = target.getPathTransformation(SUBSYSTEM_A);
+        Assert.assertEquals(SUBSYSTEM_A.size(), transformers.size());
+        Assert.assertSame(transformers, target.getPathTransformation(SUBSYSTEM_A));
+        Assert.assertEquals(SUBSYSTEM_A, TransformersImpl.transformAddress(SUBSYSTEM_A, target));
+    }
+}
@@ -7,15 +7,23 @@ package org.jboss.as.domain.http.server;
 import static io.undertow.server.handlers.ResponseCodeHandler.HANDLE_404;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import io.undertow.io.IoCallback;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.RequestTooBigException;
 import io.undertow.server.handlers.ResponseCodeHandler;
+import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import org.jboss.as.domain.http.server.logging.HttpServerLogger;
 import org.jboss.dmr.ModelNode;
 
 /**
@@ -32,6 +40,7 @@ public class Common {
     public static final ResponseCodeHandler INTERNAL_SERVER_ERROR = new ResponseCodeHandler(500);
     public static final ResponseCodeHandler SERVICE_UNAVAIABLE = new ResponseCodeHandler(503);
 
+    static final String APPLICATION_DMR = "application/dmr";
     static final String APPLICATION_DMR_ENCODED = "application/dmr-encoded";
     static final String APPLICATION_JSON = "application/json";
     static final String TEXT_PLAIN = "text/plain";
@@ -39,6 +48,7 @@ public class Common {
     static final int ONE_WEEK = 7 * 24 * 60 * 60;
 
     static final String UTF_8 = "utf-8";
+    static final String GZIP = "gzip";
 
     static void sendError(HttpServerExchange exchange, boolean encode, String msg) {
         int errorCode = getErrorResponseCode(msg);
@@ -50,6 +60,37 @@ public class Common {
         sendError(exchange, encode, msg, errorCode);
     }
 
+    static void sendError(HttpServerExchange exchange, OperationParameter operationParameter, String msg) {
+        int errorCode = getErrorResponseCode(msg);
+        sendError(exchange, operationParameter, new ModelNode(msg == null ? "" : msg), errorCode);
+    }
+
+    static void sendError(HttpServerExchange exchange, OperationParameter operationParameter, ModelNode msg) {
+        int errorCode = getErrorResponseCode(msg.asString());
+        sendError(exchange, operationParameter, msg, errorCode);
+    }
+
+    static void sendError(HttpServerExchange exchange, OperationParameter operationParameter, ModelNode msg, int errorCode) {
+        if (operationParameter.isBinary()) {
+            try {
+                ByteArrayOutputStream bout = new ByteArrayOutputStream();
+                msg.writeExternal(bout);
+                byte[] bytes = bout.toByteArray();
+
+                exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, APPLICATION_DMR);
+                exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, String.valueOf(bytes.length));
+                exchange.setStatusCode(errorCode);
+
+                exchange.getResponseSender().send(ByteBuffer.wrap(bytes), IoCallback.END_EXCHANGE);
+            } catch (IOException e) {
+                // fallback, should not happen
+                sendError(exchange, false, msg);
+            }
+        } else {
+            sendError(exchange, operationParameter.isEncode(), msg, errorCode);
+        }
+    }
+
     static void sendError(HttpServerExchange exchange, boolean encode, ModelNode msg, int errorCode) {
         if(encode) {
 
@@ -102,6 +143,69 @@ public class Common {
         exchange.getResponseSender().send(msgString, IoCallback.END_EXCHANGE);
     }
 
+    /**
+     * Reads a model node from a request body in one of the DMR formats.
+     *
+     * @param in the request body
+     * @param binary {@code true} if the body is {@code application/dmr}, {@code false} if it is {@code application/dmr-encoded}
+     * @param contentEncoding the value of the {@code Content-Encoding} header of the body. May be {@code null}
+     * @param maxSize the maximum size of the decompressed body, or a value less than 1 for no limit
+     * @return the model node
+     * @throws RequestTooBigException if the decompressed body exceeds {@code maxSize}
+     * @throws IOException if the body cannot be read
+     */
+    static ModelNode readDmr(InputStream in, boolean binary, String contentEncoding, long maxSize) throws IOException {
+        InputStream stream = in;
+        if (GZIP.equalsIgnoreCase(contentEncoding)) {
+            // The upload limit only applies to the compressed bytes
+            stream = new GZIPInputStream(in);
+            if (maxSize > 0) {
+                stream = new LimitedInputStream(stream, maxSize);
+            }
+        }
+        if (binary) {
+            ModelNode result = new ModelNode();
+            result.readExternal(stream);
+            return result;
+        }
+        return ModelNode.fromBase64(stream);
+    }
+
+    /**
+     * Gets whether the {@code Accept-Encoding} header of a request allows a gzip compressed response.
+     *
+     * @param acceptEncoding the values of the header. May be {@code null}
+     * @return {@code true} if gzip is acceptable
+     */
+    static boolean isGzipAccepted(HeaderValues acceptEncoding) {
+        if (acceptEncoding != null) {
+            for (String value : acceptEncoding) {
+                for (String element : value.split(",")) {
+                    String[] parts = element.split(";");
+                    if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                        // Treat an explicit q=0 as a refusal
+                        return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sends the response for a request whose body could not be read.
+     *
+     * @param exchange the exchange
+     * @param e the failure reading the body
+     */
+    static void sendRequestError(HttpServerExchange exchange, Exception e) {
+        if (e instanceof RequestTooBigException) {
+            sendError(exchange, false, new ModelNode(e.getLocalizedMessage()), StatusCodes.REQUEST_ENTITY_TOO_LARGE);
+        } else {
+            sendError(exchange, false, e.toString());
+        }
+    }
+
     private static int getErrorResponseCode(String failureMsg) {
         // WFLY-2037. This is very hacky; better would be something like an internal failure-http-code that
         // is set on the response from the OperationFailedException and stripped from non-HTTP interfaces.
@@ -113,4 +217,55 @@ public class Common {
         return result;
     }
 
+    /**
+     * Stream failing once more than a maximum number of bytes were read from it.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long count;
+
+        LimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long read) throws RequestTooBigException {
+            count += read;
+            if (count > maxSize) {
+                throw HttpServerLogger.ROOT_LOGGER.decompressedRequestTooLarge(maxSize);
+            }
+        }
+    }
+
 }
@@ -30,6 +30,7 @@ import java.util.Set;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.RequestTooBigException;
 import io.undertow.server.handlers.form.FormData;
 import io.undertow.server.handlers.form.FormDataParser;
 import io.undertow.server.handlers.form.FormParserFactory;
@@ -51,7 +52,8 @@ import org.xnio.IoUtils;
  * a {@code multipart/form-data} message. The operation is required, the attachment streams are optional.
  *
  * Content-Disposition: form-data; name="operation"
- * (optional) Content-Type: application/dmr-encoded
+ * (optional) Content-Type: application/dmr-encoded or application/dmr
+ * (optional) Content-Encoding: gzip
  *
  * Content-Disposition: form-data; name="..."; filename="..."
  *
@@ -95,27 +97,35 @@ class DomainApiGenericOperationHandler implements HttpHandler {
 
         // Parse the form data
         final FormData data = parser.parseBlocking();
-        final OperationParameter.Builder operationParameterBuilder = new OperationParameter.Builder(false);
+        final OperationParameter.Builder operationParameterBuilder = new OperationParameter.Builder(false)
+                .binary(Common.APPLICATION_DMR.equals(headers.getFirst(Headers.ACCEPT)))
+                .compress(Common.isGzipAccepted(headers.get(Headers.ACCEPT_ENCODING)));
 
         // Process the operation
         final FormData.FormValue op = data.getFirst(OPERATION);
         final ModelNode operation;
         try {
             String type = op.getHeaders().getFirst(Headers.CONTENT_TYPE);
-            if (Common.APPLICATION_DMR_ENCODED.equals(type)) {
-                try (InputStream stream = convertToStream(op)) {
-                    operation = ModelNode.fromBase64(stream);
+            if (Common.APPLICATION_DMR_ENCODED.equals(type) || Common.APPLICATION_DMR.equals(type)) {
+                final boolean binary = Common.APPLICATION_DMR.equals(type);
+                try (InputStream stream = convertToStream(op, binary)) {
+                    operation = Common.readDmr(stream, binary, op.getHeaders().getFirst(Headers.CONTENT_ENCODING),
+                            exchange.getMaxEntitySize());
                 }
                 operationParameterBuilder.encode(true);
             } else if (Common.APPLICATION_JSON.equals(stripSuffix(type))) {
-                try (InputStream stream = convertToStream(op)) {
+                try (InputStream stream = convertToStream(op, false)) {
                     operation = ModelNode.fromJSONStream(stream);
                 }
             } else {
-                ROOT_LOGGER.debug("Content-type must be application/dmr-encoded or application/json");
+                ROOT_LOGGER.debug("Content-type must be application/dmr-encoded, application/dmr or application/json");
                 Common.UNAUTHORIZED.handleRequest(exchange);
                 return;
             }
+        } catch (RequestTooBigException e) {
+            ROOT_LOGGER.debugf("Unable to construct ModelNode '%s'", e.getMessage());
+            Common.sendRequestError(exchange, e);
+            return;
         } catch (Exception e) {
             ROOT_LOGGER.errorf("Unable to construct ModelNode '%s'", e.getMessage());
             Common.sendError(exchange, false, e.getLocalizedMessage());
@@ -154,7 +164,7 @@ class DomainApiGenericOperationHandler implements HttpHandler {
             void doSendResponse(final OperationResponse operationResponse) {
                 ModelNode response = operationResponse.getResponseNode();
                 if (response.hasDefined(OUTCOME) && FAILED.equals(response.get(OUTCOME).asString())) {
-                    Common.sendError(exchange, opParam.isEncode(), response);
+                    Common.sendError(exchange, opParam, response);
                     return;
                 }
                 writeResponse(exchange, 200, response, opParam);
@@ -172,7 +182,7 @@ class DomainApiGenericOperationHandler implements HttpHandler {
             response = modelController.execute(builtOp, OperationMessageHandler.DISCARD, control);
         } catch (Throwable t) {
             ROOT_LOGGER.modelRequestError(t);
-            Common.sendError(exchange, opParam.isEncode(), t.getLocalizedMessage());
+            Common.sendError(exchange, opParam, t.getLocalizedMessage());
             return;
         } finally {
             // Close any input streams that were open
@@ -186,9 +196,14 @@ class DomainApiGenericOperationHandler implements HttpHandler {
         callback.sendResponse(response);
     }
 
-    private InputStream convertToStream(FormData.FormValue op) throws IOException {
+    private InputStream convertToStream(FormData.FormValue op, boolean binary) throws IOException {
         if (op.isFile()) {
             return Files.newInputStream(op.getPath());
+        } else if (op.isFileItem()) {
+            return op.getFileItem().getInputStream();
+        } else if (binary) {
+            // The form parser only keeps the bytes of parts sent as files, and decodes the others as text
+            throw ROOT_LOGGER.binaryOperationNotSentAsFile();
         } else {
             return new ByteArrayInputStream(op.getValue().getBytes(StandardCharsets.UTF_8));
         }
@@ -119,9 +119,18 @@ class DomainApiHandler implements HttpHandler {
         final HeaderMap requestHeaders = exchange.getRequestHeaders();
         final boolean cachable;
         final boolean get = exchange.getRequestMethod().equals(Methods.GET);
-        final boolean encode = Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.ACCEPT))
-                || Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.CONTENT_TYPE));
-        final OperationParameter.Builder operationParameterBuilder = new OperationParameter.Builder(get).encode(encode);
+        final String accept = requestHeaders.getFirst(Headers.ACCEPT);
+        final String contentType = requestHeaders.getFirst(Headers.CONTENT_TYPE);
+        // The request body is read according to its Content-Type, and the binary response format is only chosen
+        // through Accept. application/dmr-encoded is still selected by either header for both, as it always was.
+        final boolean binaryRequest = Common.APPLICATION_DMR.equals(contentType);
+        final boolean encodedRequest = binaryRequest || Common.APPLICATION_DMR_ENCODED.equals(contentType)
+                || Common.APPLICATION_DMR_ENCODED.equals(accept);
+        final boolean binaryResponse = Common.APPLICATION_DMR.equals(accept);
+        final boolean encodedResponse = Common.APPLICATION_DMR_ENCODED.equals(accept) || Common.APPLICATION_DMR_ENCODED.equals(contentType);
+        final OperationParameter.Builder operationParameterBuilder = new OperationParameter.Builder(get).encode(encodedResponse)
+                .binary(binaryResponse)
+                .compress(Common.isGzipAccepted(requestHeaders.get(Headers.ACCEPT_ENCODING)));
         final int streamIndex = getStreamIndex(exchange, requestHeaders);
 
         try {
@@ -131,7 +140,7 @@ class DomainApiHandler implements HttpHandler {
                 dmr = convertGetRequest(exchange, operation);
                 cachable = operation.getMaxAge() > 0;
             } else {
-                dmr = convertPostRequest(exchange, encode);
+                dmr = convertPostRequest(exchange, encodedRequest, binaryRequest);
                 cachable = false;
             }
             //operationParameterBuilder.pretty(dmr.hasDefined("json.pretty") && dmr.get("json.pretty").asBoolean());
@@ -144,7 +153,7 @@ class DomainApiHandler implements HttpHandler {
 
         } catch (Exception e) {
             ROOT_LOGGER.debugf("Unable to construct ModelNode '%s'", e.getMessage());
-            Common.sendError(exchange, false, e.toString());
+            Common.sendRequestError(exchange, e);
             return;
         }
 
@@ -155,7 +164,7 @@ class DomainApiHandler implements HttpHandler {
                 try {
                     ModelNode responseNode = response.getResponseNode();
                     if (responseNode.hasDefined(OUTCOME) && FAILED.equals(responseNode.get(OUTCOME).asString())) {
-                        Common.sendError(exchange, encode, responseNode);
+                        Common.sendError(exchange, operationParameterBuilder.build(), responseNode);
                         return;
                     }
                     if (streamIndex < 0) {
@@ -164,7 +173,7 @@ class DomainApiHandler implements HttpHandler {
                         List<OperationResponse.StreamEntry> streamEntries = response.getInputStreams();
                         if (streamIndex >= streamEntries.size()) {
                             // invalid index
-                            Common.sendError(exchange, encode, new ModelNode(HttpServerLogger.ROOT_LOGGER.invalidUseStreamAsResponseIndex(streamIndex, streamEntries.size())), 400);
+                            Common.sendError(exchange, operationParameterBuilder.build(), new ModelNode(HttpServerLogger.ROOT_LOGGER.invalidUseStreamAsResponseIndex(streamIndex, streamEntries.size())), 400);
                         } else {
                             // writeStreamResponse will close the response
                             closeResponse = false;
@@ -210,7 +219,7 @@ class DomainApiHandler implements HttpHandler {
             }
         } catch (Throwable t) {
             ROOT_LOGGER.modelRequestError(t);
-            Common.sendError(exchange, encode, t.getLocalizedMessage());
+            Common.sendError(exchange, operationParameterBuilder.build(), t.getLocalizedMessage());
             return;
         }
 
@@ -271,10 +280,12 @@ class DomainApiHandler implements HttpHandler {
         return dmr;
     }
 
-    private ModelNode convertPostRequest(HttpServerExchange exchange, boolean encode) throws IOException {
+    private ModelNode convertPostRequest(HttpServerExchange exchange, boolean encode, boolean binary) throws IOException {
         InputStream in = new ChannelInputStream(exchange.getRequestChannel());
         try {
-            return encode ? ModelNode.fromBase64(in) : ModelNode.fromJSONStream(in);
+            return encode
+                    ? Common.readDmr(in, binary, exchange.getRequestHeaders().getFirst(Headers.CONTENT_ENCODING), exchange.getMaxEntitySize())
+                    : ModelNode.fromJSONStream(in);
         } finally {
             IoUtils.safeClose(in);
         }
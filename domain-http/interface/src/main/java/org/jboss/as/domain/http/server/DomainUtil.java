@@ -14,10 +14,12 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import io.undertow.attribute.ExchangeAttributes;
 import io.undertow.io.IoCallback;
@@ -56,8 +58,15 @@ public class DomainUtil {
         exchange.setStatusCode(status);
 
         final HeaderMap responseHeaders = exchange.getResponseHeaders();
-        final String contentType = operationParameter.isEncode() ? Common.APPLICATION_DMR_ENCODED : Common.APPLICATION_JSON;
-        responseHeaders.put(Headers.CONTENT_TYPE, contentType + "; charset=" + Common.UTF_8);
+        if (operationParameter.isBinary()) {
+            responseHeaders.put(Headers.CONTENT_TYPE, Common.APPLICATION_DMR);
+        } else {
+            final String contentType = operationParameter.isEncode() ? Common.APPLICATION_DMR_ENCODED : Common.APPLICATION_JSON;
+            responseHeaders.put(Headers.CONTENT_TYPE, contentType + "; charset=" + Common.UTF_8);
+        }
+        if (operationParameter.isCompress()) {
+            responseHeaders.put(Headers.CONTENT_ENCODING, Common.GZIP);
+        }
 
         writeCacheHeaders(exchange, status, operationParameter);
 
@@ -155,9 +164,14 @@ public class DomainUtil {
     private static byte[] getResponseBytes(final ModelNode modelNode, final OperationParameter operationParameter) throws IOException {
         if (operationParameter.isEncode()) {
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            BufferedOutputStream out = new BufferedOutputStream(baos);
-            modelNode.writeBase64(out);
-            out.flush();
+            try (OutputStream out = operationParameter.isCompress()
+                    ? new GZIPOutputStream(baos) : new BufferedOutputStream(baos)) {
+                if (operationParameter.isBinary()) {
+                    modelNode.writeExternal(out);
+                } else {
+                    modelNode.writeBase64(out);
+                }
+            }
             return baos.toByteArray();
         } else {
             String json = modelNode.toJSONString(!operationParameter.isPretty());
@@ -176,6 +190,10 @@ public class DomainUtil {
         if (operationParameter.getEtag() != null) {
             responseHeaders.put(Headers.ETAG, operationParameter.getEtag().toString());
         }
+        if (operationParameter.isBinary()) {
+            // Whether a binary response is compressed depends on the Accept-Encoding of the request
+            responseHeaders.put(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+        }
     }
 
     /**
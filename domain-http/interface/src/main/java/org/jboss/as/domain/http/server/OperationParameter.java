@@ -19,13 +19,18 @@ public class OperationParameter {
     private final int maxAge;
     private final ETag etag;
     private final boolean encode;
+    private final boolean binary;
+    private final boolean compress;
     private final boolean pretty;
 
     private OperationParameter(Builder builder) {
         this.get = builder.get;
         this.maxAge = builder.maxAge;
         this.etag = builder.etag;
-        this.encode = builder.encode;
+        this.encode = builder.encode || builder.binary;
+        this.binary = builder.binary;
+        // Only the binary format is compressed, other responses are left as they always were
+        this.compress = builder.binary && builder.compress;
         this.pretty = builder.pretty;
     }
 
@@ -45,6 +50,24 @@ public class OperationParameter {
         return encode;
     }
 
+    /**
+     * Whether an encoded response should use the raw binary DMR format rather than Base64.
+     *
+     * @return {@code true} if the response should be {@code application/dmr}
+     */
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Whether a binary response should be sent with {@code Content-Encoding: gzip}.
+     *
+     * @return {@code true} if the response is binary and should be compressed
+     */
+    public boolean isCompress() {
+        return compress;
+    }
+
     public boolean isPretty() {
         return pretty;
     }
@@ -56,6 +79,8 @@ public class OperationParameter {
         sb.append(", maxAge=").append(maxAge);
         sb.append(", etag=").append(etag);
         sb.append(", encode=").append(encode);
+        sb.append(", binary=").append(binary);
+        sb.append(", compress=").append(compress);
         sb.append(", pretty=").append(pretty);
         sb.append('}');
         return sb.toString();
@@ -72,6 +97,8 @@ public class OperationParameter {
         private ETag etag;
         private boolean pretty;
         private boolean encode;
+        private boolean binary;
+        private boolean compress;
 
         /**
          * Creates a new builder.
@@ -84,6 +111,8 @@ public class OperationParameter {
          *     <li>maxAge (0)</li>
          *     <li>etag (null)</li>
          *     <li>encode (false)</li>
+         *     <li>binary (false)</li>
+         *     <li>compress (false)</li>
          *     <li>pretty (false)</li>
          * </ul>
          *
@@ -111,6 +140,16 @@ public class OperationParameter {
             return this;
         }
 
+        public Builder binary(boolean binary) {
+            this.binary = binary;
+            return this;
+        }
+
+        public Builder compress(boolean compress) {
+            this.compress = compress;
+            return this;
+        }
+
         public Builder pretty(boolean pretty) {
             this.pretty = pretty;
             return this;
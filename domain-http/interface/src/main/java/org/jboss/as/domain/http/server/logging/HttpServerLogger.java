@@ -8,9 +8,11 @@ import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.net.InetAddress;
 
+import io.undertow.server.RequestTooBigException;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
 import org.jboss.logging.annotations.Cause;
@@ -93,4 +95,10 @@ public interface HttpServerLogger extends BasicLogger {
 
     @Message(id = 17, value = "The context name conflicts with an already registered context: %s")
     IllegalStateException conflictingContextNames(String contextName);
+
+    @Message(id = 18, value = "An application/dmr operation part must be sent as a file.")
+    IOException binaryOperationNotSentAsFile();
+
+    @Message(id = 19, value = "The decompressed request exceeds the maximum size of %d bytes.")
+    RequestTooBigException decompressedRequestTooLarge(long maxSize);
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.undertow.server.RequestTooBigException;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit tests of the DMR encoding support in {@link Common}.
+ */
+public class CommonTestCase {
+
+    @Test
+    public void testReadDmr() throws Exception {
+        ModelNode op = new ModelNode();
+        op.get("operation").set("read-resource");
+        op.get("address").setEmptyList();
+        op.get("recursive").set(true);
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        op.writeExternal(binary);
+        assertEquals(op, Common.readDmr(new ByteArrayInputStream(binary.toByteArray()), true, null, -1));
+
+        ByteArrayOutputStream base64 = new ByteArrayOutputStream();
+        op.writeBase64(base64);
+        assertEquals(op, Common.readDmr(new ByteArrayInputStream(base64.toByteArray()), false, null, -1));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            op.writeExternal(out);
+        }
+        assertEquals(op, Common.readDmr(new ByteArrayInputStream(compressed.toByteArray()), true, "gzip", 1024));
+    }
+
+    @Test
+    public void testDecompressedSizeLimit() throws Exception {
+        ModelNode op = new ModelNode();
+        op.get("operation").set("write-attribute");
+        op.get("value").set(new byte[1024 * 1024]);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            op.writeExternal(out);
+        }
+        int limit = 64 * 1024;
+        assertTrue(compressed.size() < limit);
+        try {
+            Common.readDmr(new ByteArrayInputStream(compressed.toByteArray()), true, "gzip", limit);
+            fail("The decompressed request exceeds the limit");
+        } catch (RequestTooBigException expected) {
+            // expected
+        }
+        assertEquals(op, Common.readDmr(new ByteArrayInputStream(compressed.toByteArray()), true, "gzip", 2 * 1024 * 1024));
+    }
+
+    @Test
+    public void testGzipAccepted() {
+        assertFalse(Common.isGzipAccepted(null));
+        assertTrue(isGzipAccepted("gzip"));
+        assertTrue(isGzipAccepted("deflate, GZIP;q=0.8"));
+        assertFalse(isGzipAccepted("deflate, br"));
+        assertFalse(isGzipAccepted("gzip;q=0"));
+        assertFalse(isGzipAccepted("gzip; q=0.0"));
+    }
+
+    private static boolean isGzipAccepted(String value) {
+        HeaderMap headers = new HeaderMap();
+        headers.put(Headers.ACCEPT_ENCODING, value);
+        return Common.isGzipAccepted(headers.get(Headers.ACCEPT_ENCODING));
+    }
+}
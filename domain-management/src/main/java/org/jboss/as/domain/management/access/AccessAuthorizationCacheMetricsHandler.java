@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.management.access;
+
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.access.Authorizer;
+import org.jboss.as.controller.access.management.DelegatingConfigurableAuthorizer;
+import org.jboss.as.controller.access.rbac.StandardRBACAuthorizer;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Handlers for reading the metrics of the cache of authorization decisions of the {@link StandardRBACAuthorizer}.
+ * The metrics are zero if another authorizer is in use.
+ */
+class AccessAuthorizationCacheMetricsHandler implements OperationStepHandler {
+
+    static AccessAuthorizationCacheMetricsHandler getHitsHandler(DelegatingConfigurableAuthorizer configurableAuthorizer) {
+        return new AccessAuthorizationCacheMetricsHandler(configurableAuthorizer, StandardRBACAuthorizer::getAuthorizationCacheHits);
+    }
+
+    static AccessAuthorizationCacheMetricsHandler getMissesHandler(DelegatingConfigurableAuthorizer configurableAuthorizer) {
+        return new AccessAuthorizationCacheMetricsHandler(configurableAuthorizer, StandardRBACAuthorizer::getAuthorizationCacheMisses);
+    }
+
+    static AccessAuthorizationCacheMetricsHandler getSizeHandler(DelegatingConfigurableAuthorizer configurableAuthorizer) {
+        return new AccessAuthorizationCacheMetricsHandler(configurableAuthorizer, StandardRBACAuthorizer::getAuthorizationCacheSize);
+    }
+
+    private final DelegatingConfigurableAuthorizer configurableAuthorizer;
+    private final ToLongFunction<StandardRBACAuthorizer> metric;
+
+    private AccessAuthorizationCacheMetricsHandler(DelegatingConfigurableAuthorizer configurableAuthorizer,
+                                                   ToLongFunction<StandardRBACAuthorizer> metric) {
+        this.configurableAuthorizer = configurableAuthorizer;
+        this.metric = metric;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        Authorizer delegate = configurableAuthorizer.getDelegate();
+        long value = delegate instanceof StandardRBACAuthorizer ? metric.applyAsLong((StandardRBACAuthorizer) delegate) : 0;
+        context.getResult().set(value);
+    }
+}
@@ -81,6 +81,21 @@ public class AccessAuthorizationResourceDefinition extends SimpleResourceDefinit
             .setRuntimeServiceNotRequired()
             .build();
 
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_HITS = new SimpleAttributeDefinitionBuilder("authorization-cache-hits", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("authorization-cache-misses", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_SIZE = new SimpleAttributeDefinitionBuilder("authorization-cache-size", ModelType.INT)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
     public static final List<AttributeDefinition> CONFIG_ATTRIBUTES = Arrays.<AttributeDefinition>asList(PROVIDER, PERMISSION_COMBINATION_POLICY);
 
     public static AccessAuthorizationResourceDefinition forDomain(DelegatingConfigurableAuthorizer configurableAuthorizer) {
@@ -119,6 +134,10 @@ public class AccessAuthorizationResourceDefinition extends SimpleResourceDefinit
                 AccessAuthorizationRolesHandler.getStandardRolesHandler(authorizerConfiguration));
         resourceRegistration.registerReadOnlyAttribute(ALL_ROLE_NAMES,
                 AccessAuthorizationRolesHandler.getAllRolesHandler(authorizerConfiguration));
+
+        resourceRegistration.registerMetric(AUTHORIZATION_CACHE_HITS, AccessAuthorizationCacheMetricsHandler.getHitsHandler(configurableAuthorizer));
+        resourceRegistration.registerMetric(AUTHORIZATION_CACHE_MISSES, AccessAuthorizationCacheMetricsHandler.getMissesHandler(configurableAuthorizer));
+        resourceRegistration.registerMetric(AUTHORIZATION_CACHE_SIZE, AccessAuthorizationCacheMetricsHandler.getSizeHandler(configurableAuthorizer));
     }
 
     @Override
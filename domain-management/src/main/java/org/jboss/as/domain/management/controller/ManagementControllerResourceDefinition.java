@@ -6,19 +6,30 @@
 package org.jboss.as.domain.management.controller;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_COMPLETE_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_OPERATION_PROFILE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECENT_OPERATION_PROFILES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_BEGUN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_COMPLETE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.NotificationDefinition;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationProfileReadHandler;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReadBootServiceProfileHandler;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelType;
 
 /**
  * {@code ResourceDefinition} for the management of operation execution.
@@ -35,6 +46,28 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
     private static final NotificationDefinition NOTIFICATION_COMPLETE_RUNTIME_MODIFICATION = NotificationDefinition.Builder.create(RUNTIME_MODIFICATION_COMPLETE, RESOLVER).build();
     private static final NotificationDefinition NOTIFICATION_BOOT_COMPLETE = NotificationDefinition.Builder.create(BOOT_COMPLETE_NOTIFICATION, RESOLVER).build();
 
+    // The profiles name the operations, addresses and services executed or installed by any caller, so only roles
+    // allowed to read the whole configuration may read them
+    private static final AttributeDefinition BOOT_PROFILE = SimpleAttributeDefinitionBuilder.create(BOOT_OPERATION_PROFILE, ModelType.OBJECT)
+            .setRequired(false)
+            .setStorageRuntime()
+            .addAccessConstraint(SensitiveTargetAccessConstraintDefinition.READ_WHOLE_CONFIG)
+            .build();
+
+    private static final AttributeDefinition RECENT_PROFILES = new SimpleListAttributeDefinition.Builder(RECENT_OPERATION_PROFILES,
+            SimpleAttributeDefinitionBuilder.create(RECENT_OPERATION_PROFILES, ModelType.OBJECT).build())
+            .setRequired(false)
+            .setStorageRuntime()
+            .addAccessConstraint(SensitiveTargetAccessConstraintDefinition.READ_WHOLE_CONFIG)
+            .build();
+
+    private static final OperationDefinition READ_BOOT_SERVICE_PROFILE = new SimpleOperationDefinitionBuilder("read-boot-service-profile", RESOLVER)
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .addAccessConstraint(SensitiveTargetAccessConstraintDefinition.READ_WHOLE_CONFIG)
+            .build();
+
     public static final ResourceDefinition INSTANCE = new ManagementControllerResourceDefinition();
 
     private ManagementControllerResourceDefinition() {
@@ -48,6 +81,14 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
         super.registerOperations(resourceRegistration);
         resourceRegistration.registerOperationHandler(FindNonProgressingOperationHandler.DEFINITION, FindNonProgressingOperationHandler.INSTANCE);
         resourceRegistration.registerOperationHandler(CancelNonProgressingOperationHandler.DEFINITION, CancelNonProgressingOperationHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(READ_BOOT_SERVICE_PROFILE, ReadBootServiceProfileHandler.INSTANCE);
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerReadOnlyAttribute(BOOT_PROFILE, OperationProfileReadHandler.BOOT);
+        resourceRegistration.registerReadOnlyAttribute(RECENT_PROFILES, OperationProfileReadHandler.RECENT);
     }
 
     @Override
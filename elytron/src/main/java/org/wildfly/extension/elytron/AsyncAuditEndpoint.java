@@ -0,0 +1,187 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.security.audit.AuditEndpoint;
+import org.wildfly.security.audit.EventPriority;
+
+/**
+ * An {@link AuditEndpoint} handing the audit events over to a single writer thread through a bounded queue, so the
+ * threads raising security events do not wait for the disk I/O of the endpoint it delegates to.
+ * <p>
+ * The writer thread drains the queue in batches of up to the batch size. When the queue is full, the thread raising
+ * the event either waits for the writer thread to make room, or the event is discarded, depending on the
+ * {@link OverflowPolicy}. Closing the endpoint writes all the events already queued before closing the delegate.
+ * </p>
+ */
+final class AsyncAuditEndpoint implements AuditEndpoint {
+
+    private static final long POLL_TIMEOUT = 100;
+
+    enum OverflowPolicy {
+        /** The thread raising the event waits until the queue has room for it. */
+        BLOCK,
+        /** The event is discarded. */
+        DISCARD
+    }
+
+    private final String name;
+    private final AuditEndpoint delegate;
+    private final BlockingQueue<Event> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread writer;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final AtomicBoolean discarding = new AtomicBoolean();
+    private volatile boolean accepting = true;
+
+    /**
+     * Construct a new instance, starting its writer thread.
+     *
+     * @param name the name of the audit log resource
+     * @param threadFactory the factory of the writer thread
+     * @param delegate the endpoint the events are written to
+     * @param queueSize the maximum number of events waiting to be written
+     * @param batchSize the maximum number of events written per pass of the writer thread
+     * @param overflowPolicy what to do with an event when the queue is full
+     */
+    AsyncAuditEndpoint(String name, ThreadFactory threadFactory, AuditEndpoint delegate, int queueSize, int batchSize, OverflowPolicy overflowPolicy) {
+        this.name = name;
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        writer = threadFactory.newThread(this::run);
+        writer.start();
+    }
+
+    @Override
+    public void accept(EventPriority priority, String message) throws IOException {
+        if (!accepting) {
+            return;
+        }
+        final Event event = new Event(priority, message);
+        if (queue.offer(event)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DISCARD) {
+            discard();
+            return;
+        }
+        try {
+            while (!queue.offer(event, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                if (!accepting) {
+                    // The writer thread may already have stopped
+                    discard();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    /**
+     * Stops accepting events, waits for the events already queued to be written and closes the delegate. Called when
+     * the service of the audit log stops, which ends the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        accepting = false;
+        try {
+            writer.join();
+            // Events offered concurrently with the writer thread stopping
+            final List<Event> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            write(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            delegate.close();
+        }
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    long getWrittenEvents() {
+        return written.sum();
+    }
+
+    long getDiscardedEvents() {
+        return discarded.sum();
+    }
+
+    private void discard() {
+        discarded.increment();
+        if (discarding.compareAndSet(false, true)) {
+            ROOT_LOGGER.auditQueueFull(name);
+        }
+    }
+
+    private void run() {
+        final List<Event> batch = new ArrayList<>(batchSize);
+        while (true) {
+            final Event first;
+            try {
+                first = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                if (!accepting) {
+                    // Anything offered from now on is written by close()
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+            if (queue.isEmpty()) {
+                discarding.set(false);
+            }
+        }
+    }
+
+    private void write(List<Event> batch) {
+        for (Event event : batch) {
+            try {
+                delegate.accept(event.priority, event.message);
+                written.increment();
+            } catch (IOException | RuntimeException e) {
+                ROOT_LOGGER.unableToWriteAuditEvent(name, e);
+            }
+        }
+    }
+
+    private static final class Event {
+        private final EventPriority priority;
+        private final String message;
+
+        private Event(EventPriority priority, String message) {
+            this.priority = priority;
+            this.message = message;
+        }
+    }
+}
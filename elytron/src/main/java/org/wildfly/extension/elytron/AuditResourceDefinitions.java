@@ -4,6 +4,7 @@
  */
 package org.wildfly.extension.elytron;
 
+import static java.security.AccessController.doPrivileged;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_EVENT_LISTENER_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.SSL_CONTEXT_CAPABILITY;
@@ -15,6 +16,7 @@ import static org.wildfly.extension.elytron.FileAttributeDefinitions.RELATIVE_TO
 import static org.wildfly.extension.elytron.FileAttributeDefinitions.pathName;
 import static org.wildfly.extension.elytron.FileAttributeDefinitions.pathResolver;
 import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+import static org.wildfly.security.manager.WildFlySecurityManager.getPropertyPrivileged;
 
 import java.io.File;
 import java.io.IOException;
@@ -23,6 +25,9 @@ import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,6 +35,7 @@ import java.util.regex.Pattern;
 import javax.net.ssl.SSLContext;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ListAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -38,6 +44,7 @@ import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ModelTypeValidator;
 import org.jboss.as.controller.services.path.PathManager;
@@ -46,9 +53,11 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.logmanager.handlers.SyslogHandler;
 import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.value.InjectedValue;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.extension.elytron.FileAttributeDefinitions.PathResolver;
 import org.wildfly.extension.elytron.TrivialService.ValueSupplier;
 import org.wildfly.extension.elytron._private.ElytronSubsystemMessages;
@@ -174,6 +183,30 @@ class AuditResourceDefinitions {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition QUEUE_DEPTH = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.QUEUE_DEPTH, ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition DISCARDED_EVENTS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.DISCARDED_EVENTS, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition WRITTEN_EVENTS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.WRITTEN_EVENTS, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    /*
+     * System properties enabling the asynchronous writing of the events of a file based audit log, the %s is replaced
+     * with the name of the audit log resource.
+     */
+    private static final String ASYNC = "wildfly.elytron.audit.%s.async";
+    private static final String QUEUE_SIZE = "wildfly.elytron.audit.%s.queue-size";
+    private static final String BATCH_SIZE = "wildfly.elytron.audit.%s.batch-size";
+    private static final String OVERFLOW_POLICY = "wildfly.elytron.audit.%s.overflow-policy";
+
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
     private static final AggregateComponentDefinition<SecurityEventListener> AGGREGATE_SECURITY_EVENT_LISTENER = AggregateComponentDefinition.create(SecurityEventListener.class,
             ElytronDescriptionConstants.AGGREGATE_SECURITY_EVENT_LISTENER, ElytronDescriptionConstants.SECURITY_EVENT_LISTENERS, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY, SecurityEventListener::aggregate, false);
 
@@ -186,7 +219,30 @@ class AuditResourceDefinitions {
     static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
 
     private abstract static class EndpointClosingEventListenerSupplier implements ValueSupplier<SecurityEventListener> {
-        AuditEndpoint endpoint;
+        volatile AuditEndpoint endpoint;
+
+        /**
+         * Wraps the endpoint of an audit log in an {@link AsyncAuditEndpoint} if enabled for the resource.
+         */
+        AuditEndpoint asynchronous(String name, AuditEndpoint endpoint) {
+            if (!Boolean.parseBoolean(getPropertyPrivileged(String.format(ASYNC, name), "false"))) {
+                return endpoint;
+            }
+            final int queueSize = getIntProperty(QUEUE_SIZE, name, DEFAULT_QUEUE_SIZE);
+            final int batchSize = getIntProperty(BATCH_SIZE, name, DEFAULT_BATCH_SIZE);
+            AsyncAuditEndpoint.OverflowPolicy overflowPolicy;
+            try {
+                overflowPolicy = AsyncAuditEndpoint.OverflowPolicy.valueOf(getPropertyPrivileged(String.format(OVERFLOW_POLICY, name),
+                        AsyncAuditEndpoint.OverflowPolicy.BLOCK.name()).toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                overflowPolicy = AsyncAuditEndpoint.OverflowPolicy.BLOCK;
+            }
+            // The writer thread is stopped by dispose() when the service stops
+            final String namePattern = "Elytron audit writer -- " + name.replace("%", "%%");
+            final ThreadFactory threadFactory = doPrivileged((PrivilegedAction<ThreadFactory>) () ->
+                    new JBossThreadFactory(new ThreadGroup("Elytron audit writer"), Boolean.TRUE, null, namePattern, null, null));
+            return new AsyncAuditEndpoint(name, threadFactory, endpoint, queueSize, batchSize, overflowPolicy);
+        }
 
         @Override
         public void dispose() {
@@ -197,9 +253,35 @@ class AuditResourceDefinitions {
                 ROOT_LOGGER.trace("Unable to close audit endpoint", e);
             }
         }
+
+        private static int getIntProperty(String systemPropertyTemplate, String name, int defaultValue) {
+            try {
+                final int value = Integer.parseInt(getPropertyPrivileged(String.format(systemPropertyTemplate, name), Integer.toString(defaultValue)));
+                return value > 0 ? value : defaultValue;
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
     }
 
-    static ResourceDefinition getFileAuditLogResourceDefinition() {
+    private static ResourceDefinition createFileAuditLogDefinition(String pathKey, AbstractAddStepHandler add, AttributeDefinition[] attributes, boolean serverOrHostController) {
+        TrivialResourceDefinition.Builder builder = TrivialResourceDefinition.builder()
+                .setPathKey(pathKey)
+                .setAddHandler(add)
+                .setAttributes(attributes)
+                .setRuntimeCapabilities(SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+
+        if (serverOrHostController) {
+            AsyncAuditStatisticsHandler handler = new AsyncAuditStatisticsHandler();
+            builder.addReadOnlyAttribute(QUEUE_DEPTH, handler)
+                    .addReadOnlyAttribute(DISCARDED_EVENTS, handler)
+                    .addReadOnlyAttribute(WRITTEN_EVENTS, handler);
+        }
+
+        return builder.build();
+    }
+
+    static ResourceDefinition getFileAuditLogResourceDefinition(boolean serverOrHostController) {
         AttributeDefinition[] attributes = new AttributeDefinition[] { PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING };
         AbstractAddStepHandler add = new TrivialAddHandler<SecurityEventListener>(SecurityEventListener.class, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY) {
 
@@ -212,6 +294,7 @@ class AuditResourceDefinitions {
                 final boolean autoflush = AUTOFLUSH.resolveModelAttribute(context, model).asBoolean(synv);
                 final Format format = Format.valueOf(FORMAT.resolveModelAttribute(context, model).asString());
 
+                final String name = context.getCurrentAddressValue();
                 final InjectedValue<PathManager> pathManager = new InjectedValue<PathManager>();
 
                 final String path = PATH.resolveModelAttribute(context, model).asString();
@@ -236,11 +319,11 @@ class AuditResourceDefinitions {
                         final Supplier<DateTimeFormatter> dateTimeFormatterSupplier = () -> DateTimeFormatter.ofPattern(DATE_FORMAT).withZone(ZoneId.systemDefault());
                         final SecurityEventVisitor<?, String> formatter = Format.JSON == format ? JsonSecurityEventFormatter.builder().setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build() : SimpleSecurityEventFormatter.builder().setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build();
                         try {
-                            endpoint = FileAuditEndpoint.builder().setLocation(resolvedPath.toPath())
+                            endpoint = asynchronous(name, FileAuditEndpoint.builder().setLocation(resolvedPath.toPath())
                                     .setSyncOnAccept(synv)
                                     .setFlushOnAccept(autoflush)
                                     .setCharset(encoding != null ? Charset.forName(encoding) : null)
-                                    .setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build();
+                                    .setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build());
                         } catch (IOException e) {
                             throw ROOT_LOGGER.unableToStartService(e);
                         }
@@ -255,10 +338,10 @@ class AuditResourceDefinitions {
             }
         };
 
-        return new TrivialResourceDefinition(FILE_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+        return createFileAuditLogDefinition(FILE_AUDIT_LOG, add, attributes, serverOrHostController);
     }
 
-    static ResourceDefinition getPeriodicRotatingFileAuditLogResourceDefinition() {
+    static ResourceDefinition getPeriodicRotatingFileAuditLogResourceDefinition(boolean serverOrHostController) {
         AttributeDefinition[] attributes = new AttributeDefinition[] {PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, PERIODIC_SUFFIX };
         AbstractAddStepHandler add = new TrivialAddHandler<SecurityEventListener>(SecurityEventListener.class, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY) {
 
@@ -272,6 +355,7 @@ class AuditResourceDefinitions {
                 final Format format = Format.valueOf(FORMAT.resolveModelAttribute(context, model).asString());
                 final String suffix = PERIODIC_SUFFIX.resolveModelAttribute(context, model).asString();
 
+                final String name = context.getCurrentAddressValue();
                 final InjectedValue<PathManager> pathManager = new InjectedValue<>();
 
                 final String path = PATH.resolveModelAttribute(context, model).asString();
@@ -304,7 +388,7 @@ class AuditResourceDefinitions {
                                     .setCharset(encoding != null ? Charset.forName(encoding) : null)
                                     .setDateTimeFormatterSupplier(dateTimeFormatterSupplier);
 
-                            endpoint = builder.build();
+                            endpoint = asynchronous(name, builder.build());
                         } catch (IOException e) {
                             throw ROOT_LOGGER.unableToStartService(e);
                         }
@@ -319,10 +403,10 @@ class AuditResourceDefinitions {
             }
         };
 
-        return new TrivialResourceDefinition(PERIODIC_ROTATING_FILE_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+        return createFileAuditLogDefinition(PERIODIC_ROTATING_FILE_AUDIT_LOG, add, attributes, serverOrHostController);
     }
 
-    static ResourceDefinition getSizeRotatingFileAuditLogResourceDefinition() {
+    static ResourceDefinition getSizeRotatingFileAuditLogResourceDefinition(boolean serverOrHostController) {
         AttributeDefinition[] attributes = new AttributeDefinition[] { PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, MAX_BACKUP_INDEX, ROTATE_ON_BOOT, ROTATE_SIZE, SIZE_SUFFIX };
         AbstractAddStepHandler add = new TrivialAddHandler<SecurityEventListener>(SecurityEventListener.class, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY) {
 
@@ -339,6 +423,7 @@ class AuditResourceDefinitions {
                 final long rotateSize = SizeValidator.parseSize(ROTATE_SIZE.resolveModelAttribute(context, model));
                 final ModelNode suffix = SIZE_SUFFIX.resolveModelAttribute(context, model);
 
+                final String name = context.getCurrentAddressValue();
                 final InjectedValue<PathManager> pathManager = new InjectedValue<>();
 
                 final String path = PATH.resolveModelAttribute(context, model).asString();
@@ -376,7 +461,7 @@ class AuditResourceDefinitions {
                                     .setCharset(encoding != null ? Charset.forName(encoding) : null)
                                     .setDateTimeFormatterSupplier(dateTimeFormatterSupplier);
 
-                            endpoint = builder.build();
+                            endpoint = asynchronous(name, builder.build());
                         } catch (IOException e) {
                             throw ROOT_LOGGER.unableToStartService(e);
                         }
@@ -391,7 +476,7 @@ class AuditResourceDefinitions {
             }
         };
 
-        return new TrivialResourceDefinition(SIZE_ROTATING_FILE_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+        return createFileAuditLogDefinition(SIZE_ROTATING_FILE_AUDIT_LOG, add, attributes, serverOrHostController);
     }
 
     static ResourceDefinition getSyslogAuditLogResourceDefinition() {
@@ -458,6 +543,37 @@ class AuditResourceDefinitions {
         return new TrivialResourceDefinition(SYSLOG_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
     }
 
+    private static class AsyncAuditStatisticsHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceName serviceName = SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY.fromBaseCapability(context.getCurrentAddressValue()).getCapabilityServiceName();
+            ServiceController<?> serviceController = context.getServiceRegistry(false).getService(serviceName);
+            if (serviceController == null || !(serviceController.getService() instanceof TrivialService)) {
+                return;
+            }
+            // The endpoint is held by the service of the audit log, for as long as it is started
+            ValueSupplier<?> supplier = ((TrivialService<?>) serviceController.getService()).getValueSupplier();
+            AuditEndpoint auditEndpoint = supplier instanceof EndpointClosingEventListenerSupplier ? ((EndpointClosingEventListenerSupplier) supplier).endpoint : null;
+            if (!(auditEndpoint instanceof AsyncAuditEndpoint)) {
+                // The events are written synchronously
+                return;
+            }
+            AsyncAuditEndpoint endpoint = (AsyncAuditEndpoint) auditEndpoint;
+            switch (operation.require(ModelDescriptionConstants.NAME).asString()) {
+                case ElytronDescriptionConstants.QUEUE_DEPTH:
+                    context.getResult().set(endpoint.getQueueDepth());
+                    break;
+                case ElytronDescriptionConstants.DISCARDED_EVENTS:
+                    context.getResult().set(endpoint.getDiscardedEvents());
+                    break;
+                case ElytronDescriptionConstants.WRITTEN_EVENTS:
+                    context.getResult().set(endpoint.getWrittenEvents());
+                    break;
+            }
+        }
+    }
+
     private enum Format {
         SIMPLE, JSON
     }
@@ -7,14 +7,19 @@ package org.wildfly.extension.elytron;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronDefinition.commonDependencies;
+import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
 import static org.wildfly.extension.elytron.RealmDefinitions.createBruteForceRealmTransformer;
+import static org.wildfly.security.manager.WildFlySecurityManager.getPropertyPrivileged;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -28,8 +33,11 @@ import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.server.Services;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.inject.Injector;
@@ -77,9 +85,40 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
 
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {REALM_NAME, MAXIMUM_ENTRIES, MAXIMUM_AGE};
 
+    static final SimpleAttributeDefinition HITS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.HITS, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static final SimpleAttributeDefinition MISSES = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MISSES, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static final SimpleAttributeDefinition EVICTIONS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.EVICTIONS, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static final SimpleAttributeDefinition AVERAGE_REALM_LATENCY = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_REALM_LATENCY, ModelType.DOUBLE)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setUndefinedMetricValue(new ModelNode(0.0))
+            .build();
+
+    /*
+     * The concurrent cache and negative caching are enabled per caching realm with system properties, in the same way
+     * as the brute force protection of the realms.
+     */
+    private static final String CONCURRENT_CACHE = "wildfly.elytron.realm.%s.cache.concurrent";
+    private static final String NEGATIVE_MAXIMUM_AGE = "wildfly.elytron.realm.%s.cache.negative-maximum-age";
+    private static final String REFRESH_AHEAD = "wildfly.elytron.realm.%s.cache.refresh-ahead";
+
     // Callers are expected to just use a single method get / put / remove not multiple calls so we don't
     // need complex locking beyond the Map itself..
     private static final Map<String, CachingSecurityRealm> REALMS = new ConcurrentHashMap<>();
+    private static final Map<String, MonitoredCacheableRealm> MONITORED_REALMS = new ConcurrentHashMap<>();
+    private static final Map<String, RealmCacheStatistics> STATISTICS = new ConcurrentHashMap<>();
 
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, SECURITY_REALM_RUNTIME_CAPABILITY);
@@ -98,6 +137,9 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition current : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(current, null, ElytronReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+        if (isServerOrHostController(resourceRegistration)) {
+            CacheStatisticsHandler.register(resourceRegistration);
+        }
     }
 
     @Override
@@ -129,13 +171,29 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             final Function<SecurityRealm, SecurityRealm> realmTransformer =
                 createBruteForceRealmTransformer(context.getCurrentAddressValue(), SecurityRealm.class, serviceBuilder);
 
-            serviceBuilder.setInstance(createService(context.getCurrentAddressValue(), cacheableRealm, maxEntries, maxAge, cacheableRealmValue, realmTransformer, valueConsumer));
+            final String name = context.getCurrentAddressValue();
+            final boolean concurrent = Boolean.parseBoolean(getPropertyPrivileged(String.format(CONCURRENT_CACHE, name), "false"));
+            final long negativeMaxAge = getLongProperty(NEGATIVE_MAXIMUM_AGE, name);
+            final long refreshAhead = concurrent ? getLongProperty(REFRESH_AHEAD, name) : 0;
+            final Supplier<ExecutorService> executor = refreshAhead > 0 ? Services.requireServerExecutor(serviceBuilder) : null;
+
+            serviceBuilder.setInstance(createService(context.getCurrentAddressValue(), cacheableRealm, maxEntries, maxAge, concurrent, negativeMaxAge,
+                    refreshAhead, executor, cacheableRealmValue, realmTransformer, valueConsumer));
 
             addRealmDependency(context, serviceBuilder, cacheableRealm, cacheableRealmValue);
             commonDependencies(serviceBuilder).setInitialMode(context.getRunningMode() == RunningMode.ADMIN_ONLY ? ServiceController.Mode.LAZY : ServiceController.Mode.ACTIVE).install();
         }
 
+        private static long getLongProperty(String systemPropertyTemplate, String realmName) {
+            try {
+                return Long.parseLong(getPropertyPrivileged(String.format(systemPropertyTemplate, realmName), "0"));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
         private TrivialService<SecurityRealm> createService(String ourRealmName, String wrappedRealmName, int maxEntries, long maxAge,
+            boolean concurrent, long negativeMaxAge, long refreshAhead, Supplier<ExecutorService> executor,
             InjectedValue<SecurityRealm> injector, Function<SecurityRealm, SecurityRealm> realmTransformer, Consumer<SecurityRealm> valueConsumer) {
             return new TrivialService<>(new TrivialService.ValueSupplier<SecurityRealm>() {
 
@@ -144,13 +202,23 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
                     SecurityRealm securityRealm = injector.getValue();
 
                     if (securityRealm instanceof CacheableSecurityRealm) {
-                        RealmIdentityCache cache = createRealmIdentityCache(maxEntries, maxAge);
-                        CacheableSecurityRealm cacheableRealm = CacheableSecurityRealm.class.cast(securityRealm);
+                        RealmCacheStatistics statistics = new RealmCacheStatistics();
+                        ConcurrentRealmIdentityCache concurrentCache = concurrent ? new ConcurrentRealmIdentityCache(maxEntries, maxAge,
+                                refreshAhead, executor != null ? executor.get() : null, statistics) : null;
+                        RealmIdentityCache cache = new StatisticsRealmIdentityCache(concurrentCache != null ? concurrentCache
+                                : createRealmIdentityCache(maxEntries, maxAge), statistics);
+                        MonitoredCacheableRealm cacheableRealm = (MonitoredCacheableRealm) MonitoredCacheableRealm.wrap(
+                                CacheableSecurityRealm.class.cast(securityRealm), statistics, negativeMaxAge, maxEntries);
 
                         CachingSecurityRealm cachingRealm = securityRealm instanceof ModifiableSecurityRealm ?
                             new CachingModifiableSecurityRealm(cacheableRealm, cache) : new CachingSecurityRealm(cacheableRealm, cache);
+                        if (concurrentCache != null) {
+                            concurrentCache.setRealm(cachingRealm);
+                        }
 
                         REALMS.put(ourRealmName, cachingRealm);
+                        MONITORED_REALMS.put(ourRealmName, cacheableRealm);
+                        STATISTICS.put(ourRealmName, statistics);
 
                         return realmTransformer.apply(cachingRealm);
                     }
@@ -161,6 +229,8 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
                 @Override
                 public void dispose() {
                     REALMS.remove(ourRealmName);
+                    MONITORED_REALMS.remove(ourRealmName);
+                    STATISTICS.remove(ourRealmName);
                 }
 
             }, valueConsumer);
@@ -198,6 +268,47 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             }
 
             securityRealm.removeAllFromCache();
+            MonitoredCacheableRealm monitoredRealm = MONITORED_REALMS.get(context.getCurrentAddressValue());
+            if (monitoredRealm != null) {
+                monitoredRealm.clearNegativeCache();
+            }
+        }
+    }
+
+    private static class CacheStatisticsHandler extends AbstractRuntimeOnlyHandler {
+
+        static void register(ManagementResourceRegistration resourceRegistration) {
+            CacheStatisticsHandler handler = new CacheStatisticsHandler();
+            resourceRegistration.registerMetric(HITS, handler);
+            resourceRegistration.registerMetric(MISSES, handler);
+            resourceRegistration.registerMetric(EVICTIONS, handler);
+            resourceRegistration.registerMetric(AVERAGE_REALM_LATENCY, handler);
+        }
+
+        private CacheStatisticsHandler() {
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            RealmCacheStatistics statistics = STATISTICS.get(context.getCurrentAddressValue());
+            if (statistics == null) {
+                // The realm was not started yet, e.g. as it is lazily started in admin-only mode
+                return;
+            }
+            switch (operation.require(ModelDescriptionConstants.NAME).asString()) {
+                case ElytronDescriptionConstants.HITS:
+                    context.getResult().set(statistics.getHits());
+                    break;
+                case ElytronDescriptionConstants.MISSES:
+                    context.getResult().set(statistics.getMisses());
+                    break;
+                case ElytronDescriptionConstants.EVICTIONS:
+                    context.getResult().set(statistics.getEvictions());
+                    break;
+                case ElytronDescriptionConstants.AVERAGE_REALM_LATENCY:
+                    context.getResult().set(statistics.getAverageRealmLatency());
+                    break;
+            }
         }
     }
 }
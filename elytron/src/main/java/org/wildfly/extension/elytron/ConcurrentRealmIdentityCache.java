@@ -0,0 +1,228 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.cache.RealmIdentityCache;
+
+/**
+ * A {@link RealmIdentityCache} for caching realms under heavy concurrent load.
+ * <p>
+ * Unlike {@link org.wildfly.security.cache.LRURealmIdentityCache}, reads do not take any lock, as the entries are held
+ * in a {@link ConcurrentHashMap} and their last access time is only approximately ordered. Once the cache is full, the
+ * least recently accessed eighth of the entries is evicted at once.
+ * </p>
+ * <p>
+ * When refresh-ahead is enabled, reading an entry that expires within the refresh-ahead time reloads it from the realm
+ * in the background, while readers keep getting the current entry, so frequently used identities never expire.
+ * </p>
+ */
+final class ConcurrentRealmIdentityCache implements RealmIdentityCache {
+
+    /** The principal being refreshed by the current thread, for which {@link #get(Principal)} misses. */
+    private static final ThreadLocal<Refresh> REFRESHING = new ThreadLocal<>();
+
+    private final int maxEntries;
+    private final long maxAge;
+    private final long refreshAhead;
+    private final Executor executor;
+    private final RealmCacheStatistics statistics;
+    private final LongSupplier clock;
+    private final Map<Principal, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong removals = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private volatile SecurityRealm realm;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param maxEntries the maximum number of entries
+     * @param maxAge the time in milliseconds an entry stays in the cache, or {@code -1} if entries do not expire
+     * @param refreshAhead the time in milliseconds before the expiry of an entry from which reading it refreshes it,
+     *                     or {@code 0} to disable refresh-ahead
+     * @param executor the executor of the refreshes. Can be {@code null} if refresh-ahead is disabled
+     * @param statistics the statistics recording the evictions
+     */
+    ConcurrentRealmIdentityCache(int maxEntries, long maxAge, long refreshAhead, Executor executor, RealmCacheStatistics statistics) {
+        this(maxEntries, maxAge, refreshAhead, executor, statistics, System::nanoTime);
+    }
+
+    ConcurrentRealmIdentityCache(int maxEntries, long maxAge, long refreshAhead, Executor executor, RealmCacheStatistics statistics,
+                                 LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(maxAge);
+        this.refreshAhead = maxAge < 0 || executor == null ? 0 : TimeUnit.MILLISECONDS.toNanos(Math.min(refreshAhead, maxAge));
+        this.executor = executor;
+        this.statistics = statistics;
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the caching realm that loads the entries of this cache, used to refresh them ahead of their expiry.
+     */
+    void setRealm(SecurityRealm realm) {
+        this.realm = realm;
+    }
+
+    /**
+     * Gets whether the current thread is refreshing an entry, rather than loading it because of a cache miss.
+     */
+    static boolean isRefreshing() {
+        return REFRESHING.get() != null;
+    }
+
+    @Override
+    public RealmIdentity get(Principal principal) {
+        final Refresh refresh = REFRESHING.get();
+        if (refresh != null && refresh.principal.equals(principal)) {
+            // Force the caching realm to reload the identity
+            return null;
+        }
+        final Entry entry = entries.get(principal);
+        if (entry == null) {
+            return null;
+        }
+        final long now = clock.getAsLong();
+        final long age = now - entry.created;
+        if (maxAge >= 0 && age >= maxAge) {
+            if (entries.remove(principal, entry)) {
+                statistics.recordEviction();
+            }
+            return null;
+        }
+        entry.lastAccess = now;
+        if (refreshAhead > 0 && age >= maxAge - refreshAhead && realm != null && entry.refreshing.compareAndSet(false, true)) {
+            refresh(principal, entry);
+        }
+        return entry.identity;
+    }
+
+    @Override
+    public void put(Principal principal, RealmIdentity realmIdentity) {
+        final Refresh refresh = REFRESHING.get();
+        if (refresh != null && refresh.removals != removals.get()) {
+            // Entries were invalidated while refreshing, so what was loaded may already be stale
+            return;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(principal)) {
+            evict();
+        }
+        entries.put(principal, new Entry(realmIdentity, clock.getAsLong()));
+    }
+
+    @Override
+    public void remove(Principal principal) {
+        removals.incrementAndGet();
+        entries.remove(principal);
+        // The principal may be the one of the identity, cached under other principals
+        entries.values().removeIf(entry -> principal.equals(entry.identityPrincipal));
+    }
+
+    @Override
+    public void clear() {
+        removals.incrementAndGet();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // Another thread is making room
+            return;
+        }
+        try {
+            if (entries.size() < maxEntries) {
+                return;
+            }
+            final long[] accesses = new long[entries.size()];
+            int count = 0;
+            for (Entry entry : entries.values()) {
+                if (count == accesses.length) {
+                    break;
+                }
+                accesses[count++] = entry.lastAccess;
+            }
+            if (count == 0) {
+                return;
+            }
+            Arrays.sort(accesses, 0, count);
+            final long threshold = accesses[Math.min(count, Math.max(1, maxEntries / 8)) - 1];
+            for (Map.Entry<Principal, Entry> entry : entries.entrySet()) {
+                if (entry.getValue().lastAccess - threshold <= 0 && entries.remove(entry.getKey(), entry.getValue())) {
+                    statistics.recordEviction();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void refresh(Principal principal, Entry entry) {
+        final Refresh refresh = new Refresh(principal, removals.get());
+        try {
+            executor.execute(() -> {
+                REFRESHING.set(refresh);
+                try {
+                    final RealmIdentity realmIdentity = realm.getRealmIdentity(principal);
+                    if (!realmIdentity.exists()) {
+                        entries.remove(principal, entry);
+                    }
+                } catch (RealmUnavailableException | RuntimeException e) {
+                    ROOT_LOGGER.debugf(e, "Unable to refresh cached identity '%s'", principal);
+                } finally {
+                    REFRESHING.remove();
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static final class Entry {
+        private final RealmIdentity identity;
+        private final Principal identityPrincipal;
+        private final long created;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long lastAccess;
+
+        private Entry(RealmIdentity identity, long created) {
+            this.identity = identity;
+            this.identityPrincipal = identity.getRealmIdentityPrincipal();
+            this.created = created;
+            this.lastAccess = created;
+        }
+    }
+
+    private static final class Refresh {
+        private final Principal principal;
+        private final long removals;
+
+        private Refresh(Principal principal, long removals) {
+            this.principal = principal;
+            this.removals = removals;
+        }
+    }
+}
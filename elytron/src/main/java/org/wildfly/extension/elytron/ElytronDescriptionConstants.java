@@ -67,6 +67,7 @@ interface ElytronDescriptionConstants {
     String AUTH_METHOD = "auth-method";
     String AUTOFLUSH = "autoflush";
     String AVAILABLE_MECHANISMS = "available-mechanisms";
+    String AVERAGE_REALM_LATENCY = "average-realm-latency";
 
     String BASE64 = "base64";
     String BCRYPT = "bcrypt";
@@ -170,6 +171,7 @@ interface ElytronDescriptionConstants {
     String DIR_CONTEXTS = "dir-contexts";
     String DIRECT_VERIFICATION = "direct-verification";
     String DISALLOWED_PROVIDERS = "disallowed-providers";
+    String DISCARDED_EVENTS = "discarded-events";
     String DISTINGUISHED_NAME = "distinguished-name";
     String DISTRIBUTED_REALM = "distributed-realm";
     String DOMAIN_NAMES = "domain-names";
@@ -186,6 +188,7 @@ interface ElytronDescriptionConstants {
     String ENTRY_TYPE = "entry-type";
     String EVIDENCE_DECODER = "evidence-decoder";
     String EVIDENCE_DECODERS = "evidence-decoders";
+    String EVICTIONS = "evictions";
     String EXPIRATION = "expiration";
     String EXPORT_CERTIFICATE = "export-certificate";
     String EXPORT_SECRET_KEY = "export-secret-key";
@@ -217,6 +220,7 @@ interface ElytronDescriptionConstants {
     String FORMAT = "format";
     String FORWARDING_MODE = "forwarding-mode";
     String FROM = "from";
+    String FULL_HANDSHAKES = "full-handshakes";
 
     String GENERATE_CERTIFICATE_SIGNING_REQUEST = "generate-certificate-signing-request";
     String GENERATE_KEY_PAIR = "generate-key-pair";
@@ -232,6 +236,7 @@ interface ElytronDescriptionConstants {
     String HOST_CONTEXT_MAP = "host-context-map";
     String HOST_NAME = "host-name";
     String HOST_NAME_VERIFICATION_POLICY = "host-name-verification-policy";
+    String HITS = "hits";
     String HASH_CHARSET = "hash-charset";
     String HASH_ENCODING = "hash-encoding";
     String HASH_FROM = "hash-from";
@@ -343,6 +348,7 @@ interface ElytronDescriptionConstants {
     String MECHANISM_REALM_CONFIGURATIONS = "mechanism-realm-configurations";
     String MINIMUM_REMAINING_LIFETIME = "minimum-remaining-lifetime";
     String MINUS = "minus";
+    String MISSES = "misses";
     String MODIFIABLE = "modifiable";
     String MODIFIABLE_KEY_STORE = "modifiable-key-store";
     String MODIFIABLE_SECURITY_REALM = "modifiable-security-realm";
@@ -431,6 +437,8 @@ interface ElytronDescriptionConstants {
     String PROVIDERS = "providers";
     String PUBLIC_KEY = "public-key";
 
+    String QUEUE_DEPTH = "queue-depth";
+
     String RDN_IDENTIFIER = "rdn-identifier";
     String READ_ALIAS = "read-alias";
     String READ_ALIASES = "read-aliases";
@@ -443,6 +451,7 @@ interface ElytronDescriptionConstants {
     String REALM_NAME = "realm-name";
     String REALMS = "realms";
     String REASON = "reason";
+    String REBUILD_INDEX = "rebuild-index";
     String RECONNECT_ATTEMPTS = "reconnect-attempts";
     String RECURSIVE = "recursive";
     String REFERENCE = "reference";
@@ -467,6 +476,7 @@ interface ElytronDescriptionConstants {
     String RESPONDER = "responder";
     String RESPONDER_CERTIFICATE = "responder-certificate";
     String RESPONDER_KEYSTORE = "responder-keystore";
+    String RESUMED_HANDSHAKES = "resumed-handshakes";
     String REVERSE = "reverse";
     String REVOKE_CERTIFICATE = "revoke-certificate";
     String RIGHT = "right";
@@ -609,6 +619,7 @@ interface ElytronDescriptionConstants {
     String WRAP = "wrap";
     String WRAP_GSS_CREDENTIAL = "wrap-gss-credential";
     String WRITABLE = "writable";
+    String WRITTEN_EVENTS = "written-events";
     String WEBSERVICES = "webservices";
     String WS_SECURITY_TYPE = "ws-security-type";
 
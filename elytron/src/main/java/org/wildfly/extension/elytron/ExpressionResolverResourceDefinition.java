@@ -8,6 +8,7 @@ package org.wildfly.extension.elytron;
 import static org.wildfly.extension.elytron.Capabilities.CREDENTIAL_STORE_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.EXPRESSION_RESOLVER_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
+import static org.wildfly.security.manager.WildFlySecurityManager.getPropertyPrivileged;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -53,6 +54,12 @@ class ExpressionResolverResourceDefinition extends SimpleResourceDefinition {
 
     public static final Pattern INITIAL_PATTERN = Pattern.compile("\\$\\{.+::.+}");
 
+    /**
+     * System property setting how long, in milliseconds, the resolver caches secret keys and decrypted values.
+     * Caching is disabled by default.
+     */
+    static final String CACHE_TIME_TO_LIVE_PROPERTY = "wildfly.elytron.expression.encryption.cache-ttl";
+
     // Resource Resolver
     private static final StandardResourceDescriptionResolver RESOURCE_RESOLVER =
             ElytronExtension.getResourceDescriptionResolver(ElytronDescriptionConstants.EXPRESSION, ElytronDescriptionConstants.ENCRYPTION);
@@ -123,6 +130,10 @@ class ExpressionResolverResourceDefinition extends SimpleResourceDefinition {
             .setRuntimeOnly()
             .build();
 
+    static final SimpleOperationDefinition CLEAR_CACHE = new SimpleOperationDefinitionBuilder(ElytronDescriptionConstants.CLEAR_CACHE, RESOURCE_RESOLVER)
+            .setRuntimeOnly()
+            .build();
+
     ExpressionResolverResourceDefinition(OperationStepHandler add, OperationStepHandler remove,
             RuntimeCapability<ExpressionResolverExtension> expressionResolverRuntimeCapability) {
         super(new Parameters(PathElement.pathElement(ElytronDescriptionConstants.EXPRESSION, ElytronDescriptionConstants.ENCRYPTION),
@@ -146,6 +157,7 @@ class ExpressionResolverResourceDefinition extends SimpleResourceDefinition {
         super.registerOperations(resourceRegistration); // Needed for add / remove.
         if (isServerOrHostController(resourceRegistration)) {
             resourceRegistration.registerOperationHandler(CREATE_EXPRESSION, new CreateExpressionHandler());
+            resourceRegistration.registerOperationHandler(CLEAR_CACHE, new ClearCacheHandler());
         }
     }
 
@@ -168,7 +180,16 @@ class ExpressionResolverResourceDefinition extends SimpleResourceDefinition {
 
         expressionResolver.setPrefix(prefix)
             .setDefaultResolver(defaultResolver)
-            .setResolverConfigurations(resolverConfigurations);
+            .setResolverConfigurations(resolverConfigurations)
+            .setCacheTimeToLive(getCacheTimeToLive());
+    }
+
+    private static long getCacheTimeToLive() {
+        try {
+            return Long.parseLong(getPropertyPrivileged(CACHE_TIME_TO_LIVE_PROPERTY, "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
     static ResourceDefinition getExpressionResolverDefinition(PathAddress parentAddress, AtomicReference<ExpressionResolverExtension> resolverRef) {
@@ -257,4 +278,14 @@ class ExpressionResolverResourceDefinition extends SimpleResourceDefinition {
 
     }
 
+    private static class ClearCacheHandler extends ElytronRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ElytronExpressionResolver expressionResolver = (ElytronExpressionResolver) context.getCapabilityRuntimeAPI(EXPRESSION_RESOLVER_CAPABILITY, ExpressionResolverExtension.class);
+            expressionResolver.clearCache();
+        }
+
+    }
+
 }
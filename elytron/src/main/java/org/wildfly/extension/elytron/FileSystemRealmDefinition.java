@@ -22,6 +22,7 @@ import static org.wildfly.extension.elytron.FileAttributeDefinitions.pathResolve
 import static org.wildfly.extension.elytron.KeyStoreServiceUtil.getModifiableKeyStoreService;
 import static org.wildfly.extension.elytron.RealmDefinitions.createBruteForceRealmTransformer;
 import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+import static org.wildfly.security.manager.WildFlySecurityManager.getPropertyPrivileged;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -32,6 +33,8 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.UnrecoverableKeyException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -177,6 +180,13 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
     static final AttributeDefinition[] ALL_ATTRIBUTES = Stream.of(ATTRIBUTES, INTEGRITY_ATTRIBUTES, ENCRYPTION_ATTRIBUTES)
             .flatMap(Stream::of).toArray(AttributeDefinition[]::new);
 
+    private static final String IDENTITY_INDEX = "wildfly.elytron.realm.%s.identity-index";
+
+    /**
+     * The indexed wrappers of the started realms, by realm name.
+     */
+    private static final Map<String, IndexedFileSystemRealm> INDEXED_REALMS = new ConcurrentHashMap<>();
+
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, MODIFIABLE_SECURITY_REALM_RUNTIME_CAPABILITY, SECURITY_REALM_RUNTIME_CAPABILITY);
 
@@ -213,6 +223,7 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
         if (isServerOrHostController(resourceRegistration)) { // server-only operations
             UpdateKeyPairHandler.register(resourceRegistration, resolver);
             VerifyRealmIntegrity.register(resourceRegistration, resolver);
+            RebuildIndexHandler.register(resourceRegistration, resolver);
         }
     }
 
@@ -269,6 +280,32 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static class RebuildIndexHandler extends ElytronRuntimeOnlyHandler {
+
+        static void register(ManagementResourceRegistration resourceRegistration, ResourceDescriptionResolver descriptionResolver) {
+            resourceRegistration.registerOperationHandler(
+                    new SimpleOperationDefinitionBuilder(ElytronDescriptionConstants.REBUILD_INDEX, descriptionResolver)
+                            .setRuntimeOnly()
+                            .build(),
+                    new FileSystemRealmDefinition.RebuildIndexHandler());
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            getFileSystemService(context);
+            String realmName = context.getCurrentAddressValue();
+            IndexedFileSystemRealm indexedRealm = INDEXED_REALMS.get(realmName);
+            if (indexedRealm == null) {
+                throw ROOT_LOGGER.filesystemRealmNotIndexed(realmName);
+            }
+            try {
+                indexedRealm.rebuildIndex();
+            } catch (IOException e) {
+                throw ROOT_LOGGER.unableToRebuildIdentityIndex(e, e.getLocalizedMessage());
+            }
+        }
+    }
+
     private static class RealmAddHandler extends BaseAddHandler {
 
         private RealmAddHandler() {
@@ -319,6 +356,7 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
             final String secretKey = SECRET_KEY.resolveModelAttribute(context, model).asStringOrNull();
             final String keyStoreName = KEY_STORE.resolveModelAttribute(context, model).asStringOrNull();
             final String keyPairAlias = KEY_STORE_ALIAS.resolveModelAttribute(context, model).asStringOrNull();
+            final boolean identityIndex = Boolean.parseBoolean(getPropertyPrivileged(String.format(IDENTITY_INDEX, address), "false"));
 
             final InjectedValue<KeyStore> keyStoreInjector = new InjectedValue<>();
             final InjectedValue<PathManager> pathManagerInjector = new InjectedValue<>();
@@ -395,8 +433,20 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
                                 fileSystemRealmBuilder.setPrivateKey(privateKey);
                                 fileSystemRealmBuilder.setPublicKey(publicKey);
                             }
-                            ModifiableSecurityRealm modifiable = fileSystemRealmBuilder.build();
-                            ModifiableSecurityRealm wrapped = realmTransformer.apply(modifiable);
+                            FileSystemSecurityRealm modifiable = fileSystemRealmBuilder.build();
+                            ModifiableSecurityRealm wrapped;
+                            if (identityIndex) {
+                                IndexedFileSystemRealm indexedRealm = new IndexedFileSystemRealm(modifiable, new FileSystemRealmIndex(rootPath));
+                                try {
+                                    indexedRealm.loadIndex();
+                                } catch (IOException e) {
+                                    throw ROOT_LOGGER.unableToLoadIdentityIndex(e, address);
+                                }
+                                INDEXED_REALMS.put(address, indexedRealm);
+                                wrapped = realmTransformer.apply(indexedRealm);
+                            } else {
+                                wrapped = realmTransformer.apply(modifiable);
+                            }
                             modifiableConsumer.accept(wrapped);
                             standardConsumer.accept(wrapped);
 
@@ -405,6 +455,10 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
 
                         @Override
                         public void dispose() {
+                            IndexedFileSystemRealm indexedRealm = INDEXED_REALMS.remove(address);
+                            if (indexedRealm != null) {
+                                indexedRealm.close();
+                            }
                             if (pathResolver != null) {
                                 pathResolver.clear();
                                 pathResolver = null;
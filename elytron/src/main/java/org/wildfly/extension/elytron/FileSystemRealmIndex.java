@@ -0,0 +1,195 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The index of the names of the identities of a filesystem realm, kept sorted in memory and persisted in the root
+ * directory of the realm, so the identities can be listed without walking the directories of the realm.
+ * <p>
+ * The index file starts with the sorted names, each prefixed with {@code +}. Changes are appended to it as they happen,
+ * prefixed with {@code +} for an added identity or {@code -} for a removed identity, and the file is compacted when
+ * loaded if the changes outnumber the names.
+ * </p>
+ */
+final class FileSystemRealmIndex {
+
+    static final String INDEX_FILE = ".identity-index";
+
+    private static final String HEADER = "#identity-index 1";
+
+    private final Path file;
+    private final NavigableSet<String> names = new ConcurrentSkipListSet<>();
+    private BufferedWriter journal;
+    private int changes;
+
+    FileSystemRealmIndex(Path root) {
+        this.file = root.resolve(INDEX_FILE);
+    }
+
+    /**
+     * Loads the index from its file.
+     *
+     * @return {@code false} if there is no index file, or it is not readable, in which case the index needs rebuilding
+     * @throws IOException if the index file cannot be read
+     */
+    synchronized boolean load() throws IOException {
+        names.clear();
+        int entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return false;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final String name = unescape(line.substring(1));
+                switch (line.charAt(0)) {
+                    case '+':
+                        names.add(name);
+                        break;
+                    case '-':
+                        names.remove(name);
+                        break;
+                    default:
+                        return false;
+                }
+                entries++;
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        changes = entries - names.size();
+        if (changes > names.size()) {
+            write();
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the content of the index.
+     *
+     * @param identityNames the names of all the identities of the realm
+     * @throws IOException if the index file cannot be written
+     */
+    synchronized void rebuild(Iterator<String> identityNames) throws IOException {
+        names.clear();
+        identityNames.forEachRemaining(names::add);
+        write();
+    }
+
+    synchronized void add(String name) throws IOException {
+        if (names.add(name)) {
+            append('+', name);
+        }
+    }
+
+    synchronized void remove(String name) throws IOException {
+        if (names.remove(name)) {
+            append('-', name);
+        }
+    }
+
+    /**
+     * Gets the names of the identities, in their natural order.
+     */
+    NavigableSet<String> getNames() {
+        return Collections.unmodifiableNavigableSet(names);
+    }
+
+    synchronized void close() throws IOException {
+        if (journal != null) {
+            try {
+                journal.close();
+            } finally {
+                journal = null;
+            }
+        }
+    }
+
+    private void append(char operation, String name) throws IOException {
+        if (journal == null) {
+            journal = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        journal.write(operation);
+        journal.write(escape(name));
+        journal.newLine();
+        journal.flush();
+        changes++;
+    }
+
+    private void write() throws IOException {
+        close();
+        final Path temp = file.resolveSibling(INDEX_FILE + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (String name : names) {
+                writer.write('+');
+                writer.write(escape(name));
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        changes = 0;
+    }
+
+    private static String escape(String name) {
+        if (name.indexOf('\\') < 0 && name.indexOf('\n') < 0 && name.indexOf('\r') < 0) {
+            return name;
+        }
+        final StringBuilder builder = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String unescape(String escaped) {
+        if (escaped.indexOf('\\') < 0) {
+            return escaped;
+        }
+        final StringBuilder builder = new StringBuilder(escaped.length());
+        for (int i = 0; i < escaped.length(); i++) {
+            final char c = escaped.charAt(i);
+            if (c == '\\' && i + 1 < escaped.length()) {
+                final char next = escaped.charAt(++i);
+                builder.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * An {@link SSLContext} counting the full and the resumed handshakes of the {@link SSLEngine}s it creates.
+ * <p>
+ * A handshake is counted as resumed when the session it completes with was created before the handshake started, as
+ * the JDK does not otherwise expose whether a session was resumed. Sockets created by the socket factories of the
+ * context are not counted.
+ * </p>
+ */
+final class HandshakeStatisticsSSLContext extends SSLContext {
+
+    private final Statistics statistics;
+
+    private HandshakeStatisticsSSLContext(SSLContext delegate, Statistics statistics) {
+        super(new Spi(delegate, statistics), delegate.getProvider(), delegate.getProtocol());
+        this.statistics = statistics;
+    }
+
+    static HandshakeStatisticsSSLContext wrap(SSLContext delegate) {
+        return new HandshakeStatisticsSSLContext(delegate, new Statistics());
+    }
+
+    long getFullHandshakes() {
+        return statistics.fullHandshakes.sum();
+    }
+
+    long getResumedHandshakes() {
+        return statistics.resumedHandshakes.sum();
+    }
+
+    static final class Statistics {
+        private final LongAdder fullHandshakes = new LongAdder();
+        private final LongAdder resumedHandshakes = new LongAdder();
+
+        void recordHandshake(SSLSession session, long handshakeStart) {
+            if (session.getCreationTime() < handshakeStart) {
+                resumedHandshakes.increment();
+            } else {
+                fullHandshakes.increment();
+            }
+        }
+    }
+
+    private static final class Spi extends SSLContextSpi {
+
+        private final SSLContext delegate;
+        private final Statistics statistics;
+
+        private Spi(SSLContext delegate, Statistics statistics) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected void engineInit(KeyManager[] keyManagers, TrustManager[] trustManagers, SecureRandom secureRandom) throws KeyManagementException {
+            delegate.init(keyManagers, trustManagers, secureRandom);
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            return new HandshakeStatisticsSSLEngine(delegate.createSSLEngine(), statistics);
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            return new HandshakeStatisticsSSLEngine(delegate.createSSLEngine(host, port), statistics);
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        @Override
+        protected SSLParameters engineGetDefaultSSLParameters() {
+            return delegate.getDefaultSSLParameters();
+        }
+
+        @Override
+        protected SSLParameters engineGetSupportedSSLParameters() {
+            return delegate.getSupportedSSLParameters();
+        }
+    }
+}
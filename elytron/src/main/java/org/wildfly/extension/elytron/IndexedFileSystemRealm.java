@@ -0,0 +1,292 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.realm.FileSystemSecurityRealm;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.ModifiableRealmIdentityIterator;
+import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.event.RealmEvent;
+import org.wildfly.security.authz.Attributes;
+import org.wildfly.security.authz.AuthorizationIdentity;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Wraps a {@link FileSystemSecurityRealm}, keeping a {@link FileSystemRealmIndex} of its identities.
+ * <p>
+ * The index is updated as identities are created and deleted through this realm, and is used to iterate the identities.
+ * Identities added to or removed from the directories of the realm by other means are only taken into account once the
+ * index is rebuilt. Loaded identities are not cached, which is left to a caching-realm referencing this realm.
+ * </p>
+ */
+final class IndexedFileSystemRealm implements ModifiableSecurityRealm, CacheableSecurityRealm {
+
+    private final FileSystemSecurityRealm realm;
+    private final FileSystemRealmIndex index;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param realm the wrapped realm
+     * @param index the index of the identities of the realm
+     */
+    IndexedFileSystemRealm(FileSystemSecurityRealm realm, FileSystemRealmIndex index) {
+        this.realm = realm;
+        this.index = index;
+    }
+
+    /**
+     * Loads the index of the realm from its file, building it from the directories of the realm if needed.
+     */
+    void loadIndex() throws IOException {
+        if (!index.load()) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Rebuilds the index of the realm from its directories.
+     *
+     * @return the number of identities of the realm
+     */
+    int rebuildIndex() throws IOException {
+        final ModifiableRealmIdentityIterator identities = realm.getRealmIdentityIterator();
+        try {
+            index.rebuild(new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return identities.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    final ModifiableRealmIdentity identity = identities.next();
+                    try {
+                        return identity.getRealmIdentityPrincipal().getName();
+                    } finally {
+                        identity.dispose();
+                    }
+                }
+            });
+        } finally {
+            identities.close();
+        }
+        return index.getNames().size();
+    }
+
+    void close() {
+        try {
+            index.close();
+        } catch (IOException e) {
+            ROOT_LOGGER.trace("Unable to close identity index", e);
+        }
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+        return realm.getRealmIdentity(principal);
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Evidence evidence) throws RealmUnavailableException {
+        return realm.getRealmIdentity(evidence);
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Evidence evidence, Function<Principal, Principal> principalTransformer) throws RealmUnavailableException {
+        return realm.getRealmIdentity(evidence, principalTransformer);
+    }
+
+    @Override
+    public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName,
+                                                    AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+        return realm.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+    }
+
+    @Override
+    public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+        return realm.getEvidenceVerifySupport(evidenceType, algorithmName);
+    }
+
+    @Override
+    public void handleRealmEvent(RealmEvent event) {
+        realm.handleRealmEvent(event);
+    }
+
+    @Override
+    public void registerIdentityChangeListener(Consumer<Principal> listener) {
+        realm.registerIdentityChangeListener(listener);
+    }
+
+    @Override
+    public ModifiableRealmIdentity getRealmIdentityForUpdate(Principal principal) throws RealmUnavailableException {
+        return new IndexingRealmIdentity(realm.getRealmIdentityForUpdate(principal));
+    }
+
+    @Override
+    public ModifiableRealmIdentityIterator getRealmIdentityIterator() throws RealmUnavailableException {
+        final Iterator<String> names = index.getNames().iterator();
+        return new ModifiableRealmIdentityIterator() {
+            @Override
+            public boolean hasNext() {
+                return names.hasNext();
+            }
+
+            @Override
+            public ModifiableRealmIdentity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return getRealmIdentityForUpdate(new NamePrincipal(names.next()));
+                } catch (RealmUnavailableException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * A {@link ModifiableRealmIdentity} updating the index as it is created or deleted.
+     */
+    private final class IndexingRealmIdentity implements ModifiableRealmIdentity {
+
+        private final ModifiableRealmIdentity delegate;
+
+        private IndexingRealmIdentity(ModifiableRealmIdentity delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void create() throws RealmUnavailableException {
+            delegate.create();
+            try {
+                index.add(delegate.getRealmIdentityPrincipal().getName());
+            } catch (IOException e) {
+                throw new RealmUnavailableException(e);
+            }
+        }
+
+        @Override
+        public void delete() throws RealmUnavailableException {
+            delegate.delete();
+            try {
+                index.remove(delegate.getRealmIdentityPrincipal().getName());
+            } catch (IOException e) {
+                throw new RealmUnavailableException(e);
+            }
+        }
+
+        @Override
+        public void setCredentials(Collection<? extends Credential> credentials) throws RealmUnavailableException {
+            delegate.setCredentials(credentials);
+        }
+
+        @Override
+        public void updateCredential(Credential credential) throws RealmUnavailableException {
+            delegate.updateCredential(credential);
+        }
+
+        @Override
+        public void setAttributes(Attributes attributes) throws RealmUnavailableException {
+            delegate.setAttributes(attributes);
+        }
+
+        @Override
+        public Principal getRealmIdentityPrincipal() {
+            return delegate.getRealmIdentityPrincipal();
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName);
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName,
+                                                        AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType) throws RealmUnavailableException {
+            return delegate.getCredential(credentialType);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getCredential(credentialType, algorithmName);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredential(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public <C extends Credential, R> R applyToCredential(Class<C> credentialType, Function<C, R> function) throws RealmUnavailableException {
+            return delegate.applyToCredential(credentialType, function);
+        }
+
+        @Override
+        public <C extends Credential, R> R applyToCredential(Class<C> credentialType, String algorithmName, Function<C, R> function) throws RealmUnavailableException {
+            return delegate.applyToCredential(credentialType, algorithmName, function);
+        }
+
+        @Override
+        public <C extends Credential, R> R applyToCredential(Class<C> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec,
+                                                             Function<C, R> function) throws RealmUnavailableException {
+            return delegate.applyToCredential(credentialType, algorithmName, parameterSpec, function);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public boolean verifyEvidence(Evidence evidence) throws RealmUnavailableException {
+            return delegate.verifyEvidence(evidence);
+        }
+
+        @Override
+        public boolean exists() throws RealmUnavailableException {
+            return delegate.exists();
+        }
+
+        @Override
+        public void dispose() {
+            delegate.dispose();
+        }
+
+        @Override
+        public AuthorizationIdentity getAuthorizationIdentity() throws RealmUnavailableException {
+            return delegate.getAuthorizationIdentity();
+        }
+
+        @Override
+        public Attributes getAttributes() throws RealmUnavailableException {
+            return delegate.getAttributes();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.ModifiableRealmIdentityIterator;
+import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.event.RealmEvent;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Wraps the realm cached by a caching realm, recording the misses of the cache and the latency of the realm in
+ * {@link RealmCacheStatistics}, and optionally caching the principals of identities that do not exist, which the
+ * caching realm itself never caches.
+ * <p>
+ * A principal is removed from the negative cache when the realm reports a change to its identity, or when its identity
+ * is obtained for update.
+ * </p>
+ */
+class MonitoredCacheableRealm implements CacheableSecurityRealm {
+
+    private final CacheableSecurityRealm delegate;
+    private final RealmCacheStatistics statistics;
+    private final long negativeMaxAge;
+    private final int maxNegativeEntries;
+    private final LongSupplier clock;
+    private final Map<Principal, Long> negativeEntries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    MonitoredCacheableRealm(CacheableSecurityRealm delegate, RealmCacheStatistics statistics, long negativeMaxAge,
+                            int maxNegativeEntries, LongSupplier clock) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+        this.negativeMaxAge = TimeUnit.MILLISECONDS.toNanos(Math.max(0, negativeMaxAge));
+        this.maxNegativeEntries = maxNegativeEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Wraps a realm, preserving whether it is modifiable.
+     *
+     * @param realm the cached realm
+     * @param statistics the statistics of the cache
+     * @param negativeMaxAge the time in milliseconds a principal without identity is cached, or {@code 0} to disable negative caching
+     * @param maxNegativeEntries the maximum number of principals without identity to cache
+     * @return the wrapped realm
+     */
+    static CacheableSecurityRealm wrap(CacheableSecurityRealm realm, RealmCacheStatistics statistics, long negativeMaxAge, int maxNegativeEntries) {
+        return realm instanceof ModifiableSecurityRealm
+                ? new Modifiable(realm, statistics, negativeMaxAge, maxNegativeEntries, System::nanoTime)
+                : new MonitoredCacheableRealm(realm, statistics, negativeMaxAge, maxNegativeEntries, System::nanoTime);
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+        if (negativeMaxAge > 0) {
+            final Long expiry = negativeEntries.get(principal);
+            if (expiry != null) {
+                if (clock.getAsLong() - expiry < 0) {
+                    statistics.recordHit();
+                    return RealmIdentity.NON_EXISTENT;
+                }
+                negativeEntries.remove(principal, expiry);
+            }
+        }
+        final long invalidationCount = invalidations.get();
+        final long start = clock.getAsLong();
+        final RealmIdentity realmIdentity = delegate.getRealmIdentity(principal);
+        final long end = clock.getAsLong();
+        statistics.recordRealmLookup(end - start, !ConcurrentRealmIdentityCache.isRefreshing());
+        if (negativeMaxAge > 0 && !realmIdentity.exists()) {
+            if (negativeEntries.size() >= maxNegativeEntries) {
+                negativeEntries.values().removeIf(expiry -> end - expiry >= 0);
+            }
+            // Only cache what was not invalidated while looking it up
+            if (negativeEntries.size() < maxNegativeEntries && invalidations.get() == invalidationCount) {
+                negativeEntries.put(principal, end + negativeMaxAge);
+            }
+        }
+        return realmIdentity;
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Evidence evidence) throws RealmUnavailableException {
+        return delegate.getRealmIdentity(evidence);
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Evidence evidence, Function<Principal, Principal> principalTransformer) throws RealmUnavailableException {
+        return delegate.getRealmIdentity(evidence, principalTransformer);
+    }
+
+    @Override
+    public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName,
+                                                    AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+        return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+    }
+
+    @Override
+    public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+        return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+    }
+
+    @Override
+    public void handleRealmEvent(RealmEvent event) {
+        delegate.handleRealmEvent(event);
+    }
+
+    @Override
+    public void registerIdentityChangeListener(Consumer<Principal> listener) {
+        delegate.registerIdentityChangeListener(principal -> {
+            invalidate(principal);
+            listener.accept(principal);
+        });
+    }
+
+    /**
+     * Removes all principals from the negative cache.
+     */
+    void clearNegativeCache() {
+        invalidations.incrementAndGet();
+        negativeEntries.clear();
+    }
+
+    int getNegativeCacheSize() {
+        return negativeEntries.size();
+    }
+
+    void invalidate(Principal principal) {
+        invalidations.incrementAndGet();
+        negativeEntries.remove(principal);
+    }
+
+    CacheableSecurityRealm getDelegate() {
+        return delegate;
+    }
+
+    static final class Modifiable extends MonitoredCacheableRealm implements ModifiableSecurityRealm {
+
+        Modifiable(CacheableSecurityRealm delegate, RealmCacheStatistics statistics, long negativeMaxAge,
+                   int maxNegativeEntries, LongSupplier clock) {
+            super(delegate, statistics, negativeMaxAge, maxNegativeEntries, clock);
+        }
+
+        @Override
+        public ModifiableRealmIdentity getRealmIdentityForUpdate(Principal principal) throws RealmUnavailableException {
+            // The identity may be about to be created
+            invalidate(principal);
+            return ((ModifiableSecurityRealm) getDelegate()).getRealmIdentityForUpdate(principal);
+        }
+
+        @Override
+        public ModifiableRealmIdentity getRealmIdentityForUpdate(Evidence evidence) throws RealmUnavailableException {
+            clearNegativeCache();
+            return ((ModifiableSecurityRealm) getDelegate()).getRealmIdentityForUpdate(evidence);
+        }
+
+        @Override
+        public ModifiableRealmIdentityIterator getRealmIdentityIterator() throws RealmUnavailableException {
+            return ((ModifiableSecurityRealm) getDelegate()).getRealmIdentityIterator();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the cache of a caching realm, exposed as the metrics of the caching-realm resource.
+ */
+final class RealmCacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder realmLookups = new LongAdder();
+    private final LongAdder realmLookupTime = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    /**
+     * Records a lookup of an identity in the cached realm.
+     *
+     * @param nanos how long the lookup took
+     * @param miss {@code true} if the lookup was caused by a cache miss, {@code false} if it refreshed a cached identity
+     */
+    void recordRealmLookup(long nanos, boolean miss) {
+        if (miss) {
+            misses.increment();
+        }
+        realmLookups.increment();
+        realmLookupTime.add(nanos);
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the average time taken by a lookup of an identity in the cached realm.
+     *
+     * @return the average time in milliseconds, or {@code 0} if there was no lookup
+     */
+    double getAverageRealmLatency() {
+        final long lookups = realmLookups.sum();
+        return lookups == 0 ? 0 : (double) realmLookupTime.sum() / lookups / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
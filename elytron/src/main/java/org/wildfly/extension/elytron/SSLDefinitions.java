@@ -26,6 +26,7 @@ import static org.wildfly.extension.elytron.FileAttributeDefinitions.PATH;
 import static org.wildfly.extension.elytron.FileAttributeDefinitions.RELATIVE_TO;
 import static org.wildfly.extension.elytron.FileAttributeDefinitions.pathName;
 import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+import static org.wildfly.security.manager.WildFlySecurityManager.getPropertyPrivileged;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -404,6 +405,20 @@ class SSLDefinitions {
             .setStorageRuntime()
             .build();
 
+    private static final SimpleAttributeDefinition FULL_HANDSHAKES = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.FULL_HANDSHAKES, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    private static final SimpleAttributeDefinition RESUMED_HANDSHAKES = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.RESUMED_HANDSHAKES, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    /**
+     * System property enabling the counting of the handshakes of a server-ssl-context, the %s is replaced with the name
+     * of the resource.
+     */
+    private static final String HANDSHAKE_STATISTICS = "wildfly.elytron.server-ssl-context.%s.handshake-statistics";
+
     static class CipherSuiteFilterValidator extends ModelTypeValidator {
 
         CipherSuiteFilterValidator() {
@@ -1222,6 +1237,10 @@ class SSLDefinitions {
                     return server ? SERVER_SERVICE_UTIL : CLIENT_SERVICE_UTIL;
                 }
             }).addChild(new SSLSessionDefinition(server));
+            if (server) {
+                builder.addReadOnlyAttribute(FULL_HANDSHAKES, new HandshakeStatisticsHandler(true))
+                        .addReadOnlyAttribute(RESUMED_HANDSHAKES, new HandshakeStatisticsHandler(false));
+            }
         }
 
         return builder.build();
@@ -1286,6 +1305,8 @@ class SSLDefinitions {
                 final int maximumSessionCacheSize = MAXIMUM_SESSION_CACHE_SIZE.resolveModelAttribute(context, model).asInt();
                 final int sessionTimeout = SESSION_TIMEOUT.resolveModelAttribute(context, model).asInt();
                 final boolean wrap = WRAP.resolveModelAttribute(context, model).asBoolean();
+                final boolean handshakeStatistics = Boolean.parseBoolean(
+                        getPropertyPrivileged(String.format(HANDSHAKE_STATISTICS, context.getCurrentAddressValue()), "false"));
 
                 return () -> {
                     SecurityDomain securityDomain = securityDomainInjector.getOptionalValue();
@@ -1347,7 +1368,8 @@ class SSLDefinitions {
                     }
 
                     try {
-                        return builder.build().create();
+                        SSLContext sslContext = builder.build().create();
+                        return handshakeStatistics ? HandshakeStatisticsSSLContext.wrap(sslContext) : sslContext;
                     } catch (GeneralSecurityException e) {
                         throw new StartException(e);
                     }
@@ -1593,6 +1615,28 @@ class SSLDefinitions {
         protected abstract ServiceUtil<SSLContext> getSSLContextServiceUtil();
     }
 
+    private static class HandshakeStatisticsHandler extends SSLContextRuntimeHandler {
+
+        private final boolean full;
+
+        HandshakeStatisticsHandler(boolean full) {
+            this.full = full;
+        }
+
+        @Override
+        protected void performRuntime(ModelNode result, ModelNode operation, SSLContext sslContext) throws OperationFailedException {
+            if (sslContext instanceof HandshakeStatisticsSSLContext) {
+                HandshakeStatisticsSSLContext statisticsContext = (HandshakeStatisticsSSLContext) sslContext;
+                result.set(full ? statisticsContext.getFullHandshakes() : statisticsContext.getResumedHandshakes());
+            }
+        }
+
+        @Override
+        protected ServiceUtil<SSLContext> getSSLContextServiceUtil() {
+            return SERVER_SERVICE_UTIL;
+        }
+    }
+
     private static BooleanSupplier getFipsSupplier() {
         try {
             final Class<?> providerClazz = SSLDefinitions.class.getClassLoader().loadClass("com.sun.net.ssl.internal.ssl.Provider");
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.security.Principal;
+
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.cache.RealmIdentityCache;
+
+/**
+ * A {@link RealmIdentityCache} recording the hits of another cache in {@link RealmCacheStatistics}. Misses are recorded
+ * by the {@link MonitoredCacheableRealm} they are forwarded to.
+ */
+final class StatisticsRealmIdentityCache implements RealmIdentityCache {
+
+    private final RealmIdentityCache delegate;
+    private final RealmCacheStatistics statistics;
+
+    StatisticsRealmIdentityCache(RealmIdentityCache delegate, RealmCacheStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void put(Principal principal, RealmIdentity realmIdentity) {
+        delegate.put(principal, realmIdentity);
+    }
+
+    @Override
+    public RealmIdentity get(Principal principal) {
+        final RealmIdentity realmIdentity = delegate.get(principal);
+        if (realmIdentity != null) {
+            statistics.recordHit();
+        }
+        return realmIdentity;
+    }
+
+    @Override
+    public void remove(Principal principal) {
+        delegate.remove(principal);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
@@ -43,6 +43,10 @@ class TrivialService<T> implements Service<T>, org.jboss.msc.Service {
         this.valueSupplier = checkNotNullParam("valueSupplier", valueSupplier);
     }
 
+    ValueSupplier<T> getValueSupplier() {
+        return valueSupplier;
+    }
+
     @Override
     public void start(StartContext context) throws StartException {
         value = checkNotNullParam("valueSupplier", valueSupplier).get();
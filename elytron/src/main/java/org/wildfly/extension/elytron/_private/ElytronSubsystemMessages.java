@@ -675,6 +675,14 @@ public interface ElytronSubsystemMessages extends BasicLogger {
     @LogMessage(level = WARN)
     void settingPolicyNotSupported();
 
+    @Message(id = 1092, value = "Unable to write an audit event of '%s'.")
+    @LogMessage(level = WARN)
+    void unableToWriteAuditEvent(String name, @Cause Throwable cause);
+
+    @Message(id = 1093, value = "The audit event queue of '%s' is full, audit events are being discarded.")
+    @LogMessage(level = WARN)
+    void auditQueueFull(String name);
+
     /*
      * Expression Resolver Section
      */
@@ -746,6 +754,15 @@ public interface ElytronSubsystemMessages extends BasicLogger {
 
     // Message ID 1221 Mistakenly used for DynamicSSLContext - Moved above.
 
+    @Message(id = 1222, value = "Unable to load the identity index of the filesystem realm '%s'")
+    StartException unableToLoadIdentityIndex(@Cause Exception cause, String realmName);
+
+    @Message(id = 1223, value = "Filesystem realm '%s' does not keep an identity index")
+    OperationFailedException filesystemRealmNotIndexed(String realmName);
+
+    @Message(id = 1224, value = "Unable to rebuild the identity index of the filesystem realm: %s")
+    OperationFailedException unableToRebuildIdentityIndex(@Cause Exception cause, String causeMessage);
+
 
     /*
      * Don't just add new errors to the end of the file, there may be an appropriate section above for the resource.
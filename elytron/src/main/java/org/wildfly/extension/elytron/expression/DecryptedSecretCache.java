@@ -0,0 +1,192 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron.expression;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.crypto.SecretKey;
+
+/**
+ * A time limited cache of the secret keys and the decrypted values of an {@link ElytronExpressionResolver}.
+ * <p>
+ * Decrypted values are held as {@code char[]}, which are zeroed when their entry is evicted, so the clear text only
+ * remains in memory for as long as the entry lives, in addition to the strings handed out to callers. The secret keys
+ * are only referenced, as they are owned by the credential store they are retrieved from.
+ * </p>
+ * <p>
+ * Entries are put along with the {@linkplain #getGeneration() generation} of the cache from before their value was
+ * retrieved, so that a value decrypted concurrently with a {@link #clear()}, e.g. with a key since replaced in its
+ * credential store, is not cached once the cache was cleared.
+ * </p>
+ */
+final class DecryptedSecretCache {
+
+    /** Values are no longer cached once this many are, until expired entries are evicted. */
+    static final int MAX_CACHED_VALUES = 1024;
+
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+    private final Map<String, CachedKey> keys = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param timeToLive how long an entry is cached, in milliseconds
+     */
+    DecryptedSecretCache(long timeToLive) {
+        this(timeToLive, System::nanoTime);
+    }
+
+    DecryptedSecretCache(long timeToLive, LongSupplier clock) {
+        this.timeToLive = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the decrypted value of an expression.
+     *
+     * @param expression the encrypted expression
+     * @return the decrypted value, or {@code null} if it is not cached
+     */
+    String getValue(String expression) {
+        final CachedValue cached = values.get(expression);
+        if (cached == null) {
+            return null;
+        }
+        if (isExpired(cached.expiry)) {
+            evict(expression, cached);
+            return null;
+        }
+        final String value = new String(cached.value);
+        // An entry is only zeroed once removed, so if it is still present the copy was not affected by its eviction
+        return values.get(expression) == cached ? value : null;
+    }
+
+    /**
+     * Gets the generation of this cache, which changes each time it is cleared.
+     *
+     * @return the generation, to be passed when putting an entry whose value is retrieved after this call
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    void putValue(String expression, String value, long generation) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        if (values.size() >= MAX_CACHED_VALUES) {
+            evictExpired();
+            if (values.size() >= MAX_CACHED_VALUES) {
+                return;
+            }
+        }
+        final CachedValue cached = new CachedValue(value.toCharArray(), clock.getAsLong() + timeToLive);
+        final CachedValue previous = values.put(expression, cached);
+        if (previous != null) {
+            previous.destroy();
+        }
+        if (generation != this.generation.get()) {
+            // cleared concurrently, possibly before the entry was added
+            evict(expression, cached);
+        }
+    }
+
+    /**
+     * Gets the secret key of a resolver.
+     *
+     * @param resolver the name of the resolver
+     * @return the secret key, or {@code null} if it is not cached
+     */
+    SecretKey getKey(String resolver) {
+        final CachedKey cached = keys.get(resolver);
+        if (cached == null) {
+            return null;
+        }
+        if (isExpired(cached.expiry)) {
+            keys.remove(resolver, cached);
+            return null;
+        }
+        return cached.key;
+    }
+
+    void putKey(String resolver, SecretKey key, long generation) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        final CachedKey cached = new CachedKey(key, clock.getAsLong() + timeToLive);
+        keys.put(resolver, cached);
+        if (generation != this.generation.get()) {
+            keys.remove(resolver, cached);
+        }
+    }
+
+    /**
+     * Removes all entries, zeroing the decrypted values.
+     */
+    void clear() {
+        // Before removing the entries, so that puts racing with this are either removed here or discarded by the put
+        generation.incrementAndGet();
+        keys.clear();
+        for (Map.Entry<String, CachedValue> entry : values.entrySet()) {
+            evict(entry.getKey(), entry.getValue());
+        }
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    private void evictExpired() {
+        for (Map.Entry<String, CachedValue> entry : values.entrySet()) {
+            if (isExpired(entry.getValue().expiry)) {
+                evict(entry.getKey(), entry.getValue());
+            }
+        }
+        keys.values().removeIf(cached -> isExpired(cached.expiry));
+    }
+
+    private void evict(String expression, CachedValue cached) {
+        if (values.remove(expression, cached)) {
+            cached.destroy();
+        }
+    }
+
+    private boolean isExpired(long expiry) {
+        return clock.getAsLong() - expiry >= 0;
+    }
+
+    private static final class CachedValue {
+        private final char[] value;
+        private final long expiry;
+
+        private CachedValue(char[] value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        private void destroy() {
+            Arrays.fill(value, '\0');
+        }
+    }
+
+    private static final class CachedKey {
+        private final SecretKey key;
+        private final long expiry;
+
+        private CachedKey(SecretKey key, long expiry) {
+            this.key = key;
+            this.expiry = expiry;
+        }
+    }
+}
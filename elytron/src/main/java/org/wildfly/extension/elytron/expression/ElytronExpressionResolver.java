@@ -48,6 +48,7 @@ public class ElytronExpressionResolver implements ExpressionResolverExtension {
     private volatile String completePrefix;
     private volatile String defaultResolver;
     private volatile Map<String, ResolverConfiguration> resolverConfigurations;
+    private volatile DecryptedSecretCache cache;
 
     public ElytronExpressionResolver(ExceptionBiConsumer<ElytronExpressionResolver, OperationContext, OperationFailedException> configurator) {
         this.configurator = configurator;
@@ -105,25 +106,46 @@ public class ElytronExpressionResolver implements ExpressionResolverExtension {
                     throw ROOT_LOGGER.invalidResolver(fullExpression);
                 }
 
-                ROOT_LOGGER.tracef("Attempting to decrypt expression '%s' using credential store '%s' and alias '%s'.",
-                        fullExpression, resolverConfiguration.credentialStore, resolverConfiguration.alias);
-                CredentialStore credentialStore = resolveCredentialStore(resolverConfiguration.getCredentialStore(), operationContext, serviceSupport);
-                SecretKey secretKey;
-                try {
-                    SecretKeyCredential credential = credentialStore.retrieve(resolverConfiguration.getAlias(),
-                            SecretKeyCredential.class);
-                    secretKey = credential.getSecretKey();
-                } catch (CredentialStoreException e) {
-                    throw ROOT_LOGGER.unableToLoadCredential(e);
+                final DecryptedSecretCache cache = this.cache;
+                if (cache != null) {
+                    String cached = cache.getValue(fullExpression);
+                    if (cached != null) {
+                        ROOT_LOGGER.tracef("Using cached decrypted value of expression '%s'.", fullExpression);
+                        return cached;
+                    }
+                }
+
+                // Taken before retrieving the key, so nothing retrieved is cached if the cache is cleared meanwhile
+                final long generation = cache != null ? cache.getGeneration() : 0;
+                SecretKey secretKey = cache != null ? cache.getKey(resolver) : null;
+                if (secretKey == null) {
+                    ROOT_LOGGER.tracef("Attempting to decrypt expression '%s' using credential store '%s' and alias '%s'.",
+                            fullExpression, resolverConfiguration.credentialStore, resolverConfiguration.alias);
+                    CredentialStore credentialStore = resolveCredentialStore(resolverConfiguration.getCredentialStore(), operationContext, serviceSupport);
+                    try {
+                        SecretKeyCredential credential = credentialStore.retrieve(resolverConfiguration.getAlias(),
+                                SecretKeyCredential.class);
+                        secretKey = credential.getSecretKey();
+                    } catch (CredentialStoreException e) {
+                        throw ROOT_LOGGER.unableToLoadCredential(e);
+                    }
+                    if (cache != null) {
+                        cache.putKey(resolver, secretKey, generation);
+                    }
                 }
 
                 String token = expression.substring(expression.lastIndexOf(':') + 1);
 
+                String clearText;
                 try {
-                    return decrypt(token, secretKey);
+                    clearText = decrypt(token, secretKey);
                 } catch (GeneralSecurityException e) {
                     throw ROOT_LOGGER.unableToDecryptExpression(fullExpression, e);
                 }
+                if (cache != null) {
+                    cache.putValue(fullExpression, clearText, generation);
+                }
+                return clearText;
             }
         }
         return null;
@@ -181,10 +203,37 @@ public class ElytronExpressionResolver implements ExpressionResolverExtension {
 
     public ElytronExpressionResolver setResolverConfigurations(final Map<String, ResolverConfiguration> resolverConfigurations) {
         this.resolverConfigurations = Collections.unmodifiableMap(resolverConfigurations);
+        clearCache();
 
         return this;
     }
 
+    /**
+     * Sets how long the secret keys and the decrypted values of expressions are cached.
+     *
+     * @param cacheTimeToLive the time to live of the cached entries in milliseconds, or {@code 0} to disable caching
+     * @return this resolver
+     */
+    public ElytronExpressionResolver setCacheTimeToLive(final long cacheTimeToLive) {
+        final DecryptedSecretCache previous = this.cache;
+        this.cache = cacheTimeToLive > 0 ? new DecryptedSecretCache(cacheTimeToLive) : null;
+        if (previous != null) {
+            previous.clear();
+        }
+
+        return this;
+    }
+
+    /**
+     * Removes all cached secret keys and decrypted values, e.g. after the secret keys were changed in their credential stores.
+     */
+    public void clearCache() {
+        final DecryptedSecretCache cache = this.cache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
     // Package-protected so ExpressionResolverRuntimeHandler can initialize
     // on behalf of the add op that adds the /subsystem=elytron/expression=encryption resource
     void ensureInitialised(String initialisingFor, OperationContext context) throws OperationFailedException {
@@ -0,0 +1,118 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.security.audit.AuditEndpoint;
+import org.wildfly.security.audit.EventPriority;
+
+/**
+ * Unit tests of the {@link AsyncAuditEndpoint}.
+ */
+public class AsyncAuditEndpointTestCase {
+
+    @Test
+    public void testEventsWrittenInOrder() throws Exception {
+        TestEndpoint delegate = new TestEndpoint();
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", Thread::new, delegate, 16, 4, AsyncAuditEndpoint.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 10; i++) {
+            endpoint.accept(EventPriority.WARNING, "event" + i);
+        }
+        delegate.release.countDown();
+        endpoint.close();
+
+        Assert.assertEquals(10, delegate.messages.size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals("event" + i, delegate.messages.get(i));
+        }
+        Assert.assertEquals(10, endpoint.getWrittenEvents());
+        Assert.assertEquals(0, endpoint.getDiscardedEvents());
+        Assert.assertTrue(delegate.closed);
+        Assert.assertNotEquals(Thread.currentThread().getName(), delegate.writerName);
+
+        // Events raised once closed are ignored, as by the file endpoints
+        endpoint.accept(EventPriority.WARNING, "ignored");
+        Assert.assertEquals(10, delegate.messages.size());
+    }
+
+    @Test
+    public void testDiscardWhenFull() throws Exception {
+        TestEndpoint delegate = new TestEndpoint();
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", Thread::new, delegate, 2, 4, AsyncAuditEndpoint.OverflowPolicy.DISCARD);
+        endpoint.accept(EventPriority.WARNING, "event0");
+        Assert.assertTrue(delegate.writing.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < 5; i++) {
+            endpoint.accept(EventPriority.WARNING, "event" + i);
+        }
+        Assert.assertEquals(2, endpoint.getQueueDepth());
+        Assert.assertEquals(2, endpoint.getDiscardedEvents());
+
+        delegate.release.countDown();
+        endpoint.close();
+        Assert.assertEquals(List.of("event0", "event1", "event2"), delegate.messages);
+        Assert.assertEquals(0, endpoint.getQueueDepth());
+    }
+
+    @Test
+    public void testBlockWhenFull() throws Exception {
+        TestEndpoint delegate = new TestEndpoint();
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", Thread::new, delegate, 1, 4, AsyncAuditEndpoint.OverflowPolicy.BLOCK);
+        endpoint.accept(EventPriority.WARNING, "event0");
+        Assert.assertTrue(delegate.writing.await(10, TimeUnit.SECONDS));
+        endpoint.accept(EventPriority.WARNING, "event1");
+
+        CountDownLatch accepted = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                endpoint.accept(EventPriority.WARNING, "event2");
+                accepted.countDown();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        producer.start();
+        Assert.assertFalse(accepted.await(300, TimeUnit.MILLISECONDS));
+
+        delegate.release.countDown();
+        Assert.assertTrue(accepted.await(10, TimeUnit.SECONDS));
+        endpoint.close();
+        Assert.assertEquals(List.of("event0", "event1", "event2"), delegate.messages);
+        Assert.assertEquals(0, endpoint.getDiscardedEvents());
+    }
+
+    private static final class TestEndpoint implements AuditEndpoint {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile String writerName;
+        private volatile boolean closed;
+
+        @Override
+        public void accept(EventPriority priority, String message) throws IOException {
+            writerName = Thread.currentThread().getName();
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
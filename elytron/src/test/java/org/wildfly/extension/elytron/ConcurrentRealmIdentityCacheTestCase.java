@@ -0,0 +1,172 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.realm.CachingSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleMapBackedSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleRealmEntry;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Unit tests of the {@link ConcurrentRealmIdentityCache} and the negative caching of the {@link MonitoredCacheableRealm}.
+ */
+public class ConcurrentRealmIdentityCacheTestCase {
+
+    private final AtomicLong time = new AtomicLong();
+    private final RealmCacheStatistics statistics = new RealmCacheStatistics();
+    private TestRealm realm;
+
+    @Before
+    public void setup() {
+        Map<String, SimpleRealmEntry> identities = new HashMap<>();
+        for (int i = 0; i < 32; i++) {
+            identities.put("user" + i, new SimpleRealmEntry(Collections.emptyList()));
+        }
+        realm = new TestRealm(identities);
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, -1, 0, null, statistics, time::get);
+        CachingSecurityRealm cachingRealm = createCachingRealm(cache, 0);
+        for (int i = 0; i < 16; i++) {
+            time.incrementAndGet();
+            Assert.assertTrue(cachingRealm.getRealmIdentity(new NamePrincipal("user" + i)).exists());
+        }
+        // Make user0 and user1 the most recently used
+        time.incrementAndGet();
+        cachingRealm.getRealmIdentity(new NamePrincipal("user0"));
+        cachingRealm.getRealmIdentity(new NamePrincipal("user1"));
+        Assert.assertEquals(16, realm.lookups.get());
+        Assert.assertEquals(2, statistics.getHits());
+        Assert.assertEquals(16, statistics.getMisses());
+
+        time.incrementAndGet();
+        cachingRealm.getRealmIdentity(new NamePrincipal("user16"));
+        Assert.assertEquals(2, statistics.getEvictions());
+        Assert.assertEquals(15, cache.size());
+        cachingRealm.getRealmIdentity(new NamePrincipal("user0"));
+        cachingRealm.getRealmIdentity(new NamePrincipal("user1"));
+        Assert.assertEquals(17, realm.lookups.get());
+        cachingRealm.getRealmIdentity(new NamePrincipal("user2"));
+        Assert.assertEquals(18, realm.lookups.get());
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+        ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, 1000, 200, Runnable::run, statistics, time::get);
+        CachingSecurityRealm cachingRealm = createCachingRealm(cache, 0);
+        cache.setRealm(cachingRealm);
+        NamePrincipal principal = new NamePrincipal("user0");
+
+        cachingRealm.getRealmIdentity(principal);
+        advance(700);
+        cachingRealm.getRealmIdentity(principal);
+        Assert.assertEquals(1, realm.lookups.get());
+
+        // Within the refresh-ahead time, so the entry is reloaded
+        advance(150);
+        cachingRealm.getRealmIdentity(principal);
+        Assert.assertEquals(2, realm.lookups.get());
+        Assert.assertEquals(1, statistics.getMisses());
+
+        // Past the expiry of the initial entry
+        advance(300);
+        Assert.assertTrue(cachingRealm.getRealmIdentity(principal).exists());
+        Assert.assertEquals(2, realm.lookups.get());
+        Assert.assertEquals(3, statistics.getHits());
+        Assert.assertEquals(0, statistics.getEvictions());
+
+        // Not refreshed, so it expires
+        advance(1000);
+        cachingRealm.getRealmIdentity(principal);
+        Assert.assertEquals(3, realm.lookups.get());
+        Assert.assertEquals(1, statistics.getEvictions());
+    }
+
+    @Test
+    public void testNegativeCaching() throws Exception {
+        ConcurrentRealmIdentityCache cache = new ConcurrentRealmIdentityCache(16, -1, 0, null, statistics, time::get);
+        CachingSecurityRealm cachingRealm = createCachingRealm(cache, 1000);
+        NamePrincipal principal = new NamePrincipal("unknown");
+
+        Assert.assertFalse(cachingRealm.getRealmIdentity(principal).exists());
+        Assert.assertFalse(cachingRealm.getRealmIdentity(principal).exists());
+        Assert.assertEquals(1, realm.lookups.get());
+        Assert.assertEquals(1, statistics.getHits());
+
+        // Expired
+        advance(1000);
+        Assert.assertFalse(cachingRealm.getRealmIdentity(principal).exists());
+        Assert.assertEquals(2, realm.lookups.get());
+
+        // Invalidated by a change of the identity
+        realm.listener.accept(principal);
+        Assert.assertFalse(cachingRealm.getRealmIdentity(principal).exists());
+        Assert.assertEquals(3, realm.lookups.get());
+    }
+
+    private CachingSecurityRealm createCachingRealm(ConcurrentRealmIdentityCache cache, long negativeMaxAge) {
+        MonitoredCacheableRealm monitoredRealm = new MonitoredCacheableRealm(realm, statistics, negativeMaxAge, 16, time::get);
+        return new CachingSecurityRealm(monitoredRealm, new StatisticsRealmIdentityCache(cache, statistics));
+    }
+
+    private void advance(long millis) {
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static final class TestRealm implements CacheableSecurityRealm {
+
+        private final SimpleMapBackedSecurityRealm delegate = new SimpleMapBackedSecurityRealm();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private Consumer<Principal> listener;
+
+        private TestRealm(Map<String, SimpleRealmEntry> identities) {
+            delegate.setIdentityMap(identities);
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            lookups.incrementAndGet();
+            return delegate.getRealmIdentity(principal);
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName,
+                                                        AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public void registerIdentityChangeListener(Consumer<Principal> listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.nio.ByteBuffer;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.TrustManagerFactory;
+import javax.security.auth.x500.X500Principal;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wildfly.security.x500.cert.SelfSignedX509CertificateAndSigningKey;
+
+/**
+ * Unit tests of the {@link HandshakeStatisticsSSLContext}.
+ */
+public class HandshakeStatisticsSSLContextTestCase {
+
+    private static final char[] PASSWORD = "secret".toCharArray();
+
+    private static KeyStore keyStore;
+
+    @BeforeClass
+    public static void createKeyStore() throws Exception {
+        SelfSignedX509CertificateAndSigningKey certificateAndKey = SelfSignedX509CertificateAndSigningKey.builder()
+                .setDn(new X500Principal("CN=localhost"))
+                .setKeyAlgorithmName("RSA")
+                .setSignatureAlgorithmName("SHA256withRSA")
+                .build();
+        keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("localhost", certificateAndKey.getSigningKey(), PASSWORD,
+                new X509Certificate[] { certificateAndKey.getSelfSignedCertificate() });
+    }
+
+    @Test
+    public void testTls12() throws Exception {
+        testHandshakes("TLSv1.2");
+    }
+
+    @Test
+    public void testTls13() throws Exception {
+        testHandshakes("TLSv1.3");
+    }
+
+    private void testHandshakes(String protocol) throws Exception {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, PASSWORD);
+        SSLContext serverDelegate = SSLContext.getInstance(protocol);
+        serverDelegate.init(keyManagerFactory.getKeyManagers(), null, null);
+        HandshakeStatisticsSSLContext serverContext = HandshakeStatisticsSSLContext.wrap(serverDelegate);
+
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+        SSLContext clientContext = SSLContext.getInstance(protocol);
+        clientContext.init(null, trustManagerFactory.getTrustManagers(), null);
+
+        handshake(clientContext, serverContext);
+        Assert.assertEquals(1, serverContext.getFullHandshakes());
+        Assert.assertEquals(0, serverContext.getResumedHandshakes());
+
+        // Ensure the session of the next handshake was created in an earlier millisecond
+        Thread.sleep(5);
+        handshake(clientContext, serverContext);
+        Assert.assertEquals(1, serverContext.getFullHandshakes());
+        Assert.assertEquals(1, serverContext.getResumedHandshakes());
+    }
+
+    private static void handshake(SSLContext clientContext, SSLContext serverContext) throws Exception {
+        SSLEngine client = clientContext.createSSLEngine("localhost", 8443);
+        client.setUseClientMode(true);
+        SSLEngine server = serverContext.createSSLEngine();
+        server.setUseClientMode(false);
+
+        int bufferSize = client.getSession().getPacketBufferSize() * 2;
+        ByteBuffer clientToServer = ByteBuffer.allocate(bufferSize);
+        ByteBuffer serverToClient = ByteBuffer.allocate(bufferSize);
+        ByteBuffer clientApplication = ByteBuffer.allocate(client.getSession().getApplicationBufferSize() * 2);
+        ByteBuffer serverApplication = ByteBuffer.allocate(server.getSession().getApplicationBufferSize() * 2);
+        ByteBuffer empty = ByteBuffer.allocate(0);
+
+        client.beginHandshake();
+        server.beginHandshake();
+        for (int i = 0; i < 100 && !(isHandshakeDone(client) && isHandshakeDone(server)); i++) {
+            client.wrap(empty, clientToServer);
+            runDelegatedTasks(client);
+            server.wrap(empty, serverToClient);
+            runDelegatedTasks(server);
+
+            clientToServer.flip();
+            server.unwrap(clientToServer, serverApplication);
+            runDelegatedTasks(server);
+            clientToServer.compact();
+
+            serverToClient.flip();
+            client.unwrap(serverToClient, clientApplication);
+            runDelegatedTasks(client);
+            serverToClient.compact();
+        }
+        Assert.assertTrue(isHandshakeDone(client) && isHandshakeDone(server));
+    }
+
+    private static boolean isHandshakeDone(SSLEngine engine) {
+        HandshakeStatus status = engine.getHandshakeStatus();
+        return status == HandshakeStatus.NOT_HANDSHAKING || status == HandshakeStatus.FINISHED;
+    }
+
+    private static void runDelegatedTasks(SSLEngine engine) {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.FileSystemSecurityRealm;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.ModifiableRealmIdentityIterator;
+import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+
+/**
+ * Unit tests of the {@link IndexedFileSystemRealm} and its {@link FileSystemRealmIndex}.
+ */
+public class IndexedFileSystemRealmTestCase {
+
+    private Path root;
+    private FileSystemSecurityRealm fileSystemRealm;
+
+    @Before
+    public void createRealm() throws Exception {
+        root = Files.createTempDirectory("filesystem-realm");
+        fileSystemRealm = FileSystemSecurityRealm.builder()
+                .setRoot(root)
+                .setLevels(2)
+                .build();
+    }
+
+    @After
+    public void deleteRealm() throws Exception {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testIndexUpdates() throws Exception {
+        IndexedFileSystemRealm realm = createIndexedRealm();
+        create(realm, "carol");
+        create(realm, "alice");
+        create(realm, "bob");
+        Assert.assertEquals(Arrays.asList("alice", "bob", "carol"), getNames(realm));
+
+        ModifiableRealmIdentity identity = realm.getRealmIdentityForUpdate(new NamePrincipal("bob"));
+        identity.delete();
+        identity.dispose();
+        Assert.assertEquals(Arrays.asList("alice", "carol"), getNames(realm));
+        realm.close();
+
+        // A new index reads the journal of the previous one
+        IndexedFileSystemRealm reloaded = createIndexedRealm();
+        Assert.assertEquals(Arrays.asList("alice", "carol"), getNames(reloaded));
+        Assert.assertTrue(reloaded.getRealmIdentity(new NamePrincipal("carol")).exists());
+        reloaded.close();
+    }
+
+    @Test
+    public void testIndexBuiltOnLoad() throws Exception {
+        create(fileSystemRealm, "alice");
+        create(fileSystemRealm, "bob\nnewline");
+
+        IndexedFileSystemRealm realm = createIndexedRealm();
+        Assert.assertEquals(Arrays.asList("alice", "bob\nnewline"), getNames(realm));
+        realm.close();
+
+        IndexedFileSystemRealm reloaded = createIndexedRealm();
+        Assert.assertEquals(Arrays.asList("alice", "bob\nnewline"), getNames(reloaded));
+        reloaded.close();
+    }
+
+    @Test
+    public void testRebuildIndex() throws Exception {
+        IndexedFileSystemRealm realm = createIndexedRealm();
+        create(realm, "alice");
+
+        // Identities created by other means are only listed once the index is rebuilt
+        create(fileSystemRealm, "bob");
+        Assert.assertEquals(Arrays.asList("alice"), getNames(realm));
+        Assert.assertEquals(2, realm.rebuildIndex());
+        Assert.assertEquals(Arrays.asList("alice", "bob"), getNames(realm));
+        realm.close();
+    }
+
+    private IndexedFileSystemRealm createIndexedRealm() throws Exception {
+        IndexedFileSystemRealm realm = new IndexedFileSystemRealm(fileSystemRealm, new FileSystemRealmIndex(root));
+        realm.loadIndex();
+        return realm;
+    }
+
+    private static void create(ModifiableSecurityRealm realm, String name) throws Exception {
+        ModifiableRealmIdentity identity = realm.getRealmIdentityForUpdate(new NamePrincipal(name));
+        identity.create();
+        identity.dispose();
+    }
+
+    private static List<String> getNames(IndexedFileSystemRealm realm) throws Exception {
+        List<String> names = new ArrayList<>();
+        ModifiableRealmIdentityIterator iterator = realm.getRealmIdentityIterator();
+        while (iterator.hasNext()) {
+            ModifiableRealmIdentity identity = iterator.next();
+            names.add(identity.getRealmIdentityPrincipal().getName());
+            identity.dispose();
+        }
+        iterator.close();
+        return names;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron.expression;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link DecryptedSecretCache}.
+ */
+public class DecryptedSecretCacheTestCase {
+
+    private static final String EXPRESSION = "${ENC::resolver:token}";
+
+    private final AtomicLong time = new AtomicLong();
+    private final DecryptedSecretCache cache = new DecryptedSecretCache(1000, time::get);
+
+    @Test
+    public void testTimeToLive() {
+        SecretKey key = new SecretKeySpec(new byte[16], "AES");
+        cache.putValue(EXPRESSION, "secret", 0);
+        cache.putKey("resolver", key, 0);
+        Assert.assertEquals("secret", cache.getValue(EXPRESSION));
+        Assert.assertSame(key, cache.getKey("resolver"));
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        Assert.assertEquals("secret", cache.getValue(EXPRESSION));
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertNull(cache.getValue(EXPRESSION));
+        Assert.assertNull(cache.getKey("resolver"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClear() {
+        cache.putValue(EXPRESSION, "secret", 0);
+        cache.putKey("resolver", new SecretKeySpec(new byte[16], "AES"), 0);
+        cache.clear();
+        Assert.assertNull(cache.getValue(EXPRESSION));
+        Assert.assertNull(cache.getKey("resolver"));
+    }
+
+    @Test
+    public void testPutAfterClear() {
+        // A value retrieved before the cache was cleared is not cached
+        long generation = cache.getGeneration();
+        cache.clear();
+        cache.putValue(EXPRESSION, "secret", generation);
+        cache.putKey("resolver", new SecretKeySpec(new byte[16], "AES"), generation);
+        Assert.assertNull(cache.getValue(EXPRESSION));
+        Assert.assertNull(cache.getKey("resolver"));
+        Assert.assertEquals(0, cache.size());
+
+        generation = cache.getGeneration();
+        cache.putValue(EXPRESSION, "secret", generation);
+        Assert.assertEquals("secret", cache.getValue(EXPRESSION));
+    }
+
+    @Test
+    public void testMaxCachedValues() {
+        for (int i = 0; i < DecryptedSecretCache.MAX_CACHED_VALUES; i++) {
+            cache.putValue(EXPRESSION + i, "secret" + i, 0);
+        }
+        cache.putValue(EXPRESSION, "secret", 0);
+        Assert.assertNull(cache.getValue(EXPRESSION));
+
+        // Expired values make room for new ones
+        time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.putValue(EXPRESSION, "secret", 0);
+        Assert.assertEquals("secret", cache.getValue(EXPRESSION));
+        Assert.assertEquals(1, cache.size());
+    }
+}
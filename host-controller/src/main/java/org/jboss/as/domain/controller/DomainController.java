@@ -14,6 +14,8 @@ import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.operations.DomainModelChangeLog;
+import org.jboss.as.domain.controller.operations.TransformedDomainModelCache;
 import org.jboss.as.host.controller.ignored.IgnoredDomainResourceRegistry;
 import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
 import org.jboss.as.repository.ContentRepository;
@@ -112,6 +114,24 @@ public interface DomainController {
         // default no-op because I'm tired of writing no-op impls in testsuite classes
     }
 
+    /**
+     * Gets the cache of the transformed domain model sent to registering slave hosts.
+     *
+     * @return the cache, or {@code null} if the transformed domain model should not be cached
+     */
+    default TransformedDomainModelCache getTransformedDomainModelCache() {
+        return null;
+    }
+
+    /**
+     * Gets the log of the changes to the domain model used to only send the changed resources to reconnecting slave hosts.
+     *
+     * @return the change log, or {@code null} if reconnecting slave hosts should always receive the full domain model
+     */
+    default DomainModelChangeLog getDomainModelChangeLog() {
+        return null;
+    }
+
     /**
      * Get the operations needed to create the given profile.
      *
@@ -0,0 +1,186 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Bounded log of the changes committed to the domain model on the domain controller, used to synchronize a
+ * reconnecting host with only the domain resources which changed since it last synchronized.
+ * <p>
+ * For each commit, the log records the revision of the model along with the top level domain resources (profiles,
+ * server groups, deployments, etc.) the commit modified. A host which synchronized successfully receives a sync
+ * token identifying this log, the revision it synchronized with and its ignored configuration, which it presents
+ * when it reconnects. If the token was issued by this log, the host's ignored configuration did not change and the
+ * log still contains all changes since the token's revision, the host only receives the changed top level resources.
+ * Otherwise it falls back to a full synchronization.
+ * <p>
+ * Handlers acquiring the root resource for update may modify any resource below it, e.g. the deployments of all
+ * server groups, without these being recorded. A commit modifying the root resource therefore discards the log, and
+ * all hosts which synchronized before it get a full synchronization.
+ * <p>
+ * Hosts ignoring the unaffected configuration always need a full synchronization: a change to a server group's profile
+ * or socket binding group, or to the includes of a profile or socket binding group, makes them require top level
+ * resources which did not change, and which they never received.
+ */
+public final class DomainModelChangeLog {
+
+    /** System property setting the number of commits retained in the log. */
+    public static final String SIZE_PROPERTY = "jboss.domain.model-change-log.size";
+
+    static final int DEFAULT_SIZE = 1000;
+
+    private static final String IGNORED_CONFIGURATION = "ignored-configuration";
+    private static final String INSTANCE = "instance";
+    private static final String REVISION = "revision";
+
+    private final String instance = UUID.randomUUID().toString();
+    private final LongSupplier modelRevision;
+    private final int size;
+    // Guarded by this
+    private final Deque<Change> changes = new ArrayDeque<>();
+    // Guarded by this. The changes up to and including this revision are no longer known
+    private long truncatedRevision;
+
+    /**
+     * Creates a new change log.
+     *
+     * @param modelRevision supplies the current revision of the domain model
+     */
+    public DomainModelChangeLog(final LongSupplier modelRevision) {
+        this(modelRevision, getConfiguredSize());
+    }
+
+    DomainModelChangeLog(final LongSupplier modelRevision, final int size) {
+        this.modelRevision = modelRevision;
+        this.size = size;
+    }
+
+    /**
+     * Records a commit to the domain model.
+     *
+     * @param revision the revision of the model published by the commit
+     * @param affectedAddresses the addresses of the resources modified by the commit
+     */
+    public void recordChange(final long revision, final Set<PathAddress> affectedAddresses) {
+        final Set<PathElement> resources = new HashSet<>();
+        for (PathAddress address : affectedAddresses) {
+            if (address.size() == 0) {
+                // The changed resources below the root are unknown
+                synchronized (this) {
+                    changes.clear();
+                    truncatedRevision = revision;
+                }
+                return;
+            }
+            // Hosts are not part of the synchronization
+            if (!HOST.equals(address.getElement(0).getKey())) {
+                resources.add(address.getElement(0));
+            }
+        }
+        if (resources.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            changes.addLast(new Change(revision, resources));
+            while (changes.size() > size) {
+                truncatedRevision = changes.removeFirst().revision;
+            }
+        }
+    }
+
+    /**
+     * Creates the token a host which synchronized with the current domain model presents when reconnecting.
+     * Must be called while holding the controller lock.
+     *
+     * @param ignoredConfiguration the {@link org.jboss.as.host.controller.mgmt.HostInfo#getIgnoredConfiguration() ignored configuration} of the host
+     * @return the token
+     */
+    ModelNode createSyncToken(final ModelNode ignoredConfiguration) {
+        final ModelNode token = new ModelNode();
+        token.get(INSTANCE).set(instance);
+        token.get(REVISION).set(modelRevision.getAsLong());
+        token.get(IGNORED_CONFIGURATION).set(ignoredConfiguration);
+        return token;
+    }
+
+    /**
+     * Gets the top level domain resources which changed since a host synchronized. Must be called while holding the
+     * controller lock.
+     *
+     * @param token the token presented by the host. May be {@code null}
+     * @param ignoredConfiguration the current {@link org.jboss.as.host.controller.mgmt.HostInfo#getIgnoredConfiguration() ignored configuration} of the host
+     * @param ignoreUnaffectedConfig whether the host ignores the configuration not affecting its servers
+     * @return the changed resources, or {@code null} if the host needs a full synchronization
+     */
+    Set<PathElement> getChangedResources(final ModelNode token, final ModelNode ignoredConfiguration, final boolean ignoreUnaffectedConfig) {
+        if (ignoreUnaffectedConfig) {
+            // The resources the host requires may change without being modified themselves
+            return null;
+        }
+        if (token == null || !token.hasDefined(INSTANCE) || !token.hasDefined(REVISION)
+                || !instance.equals(token.get(INSTANCE).asString())
+                || !ignoredConfiguration.equals(token.get(IGNORED_CONFIGURATION))) {
+            return null;
+        }
+        final long revision = token.get(REVISION).asLong();
+        if (revision > modelRevision.getAsLong()) {
+            return null;
+        }
+        final Set<PathElement> result = new HashSet<>();
+        synchronized (this) {
+            if (revision < truncatedRevision) {
+                DomainControllerLogger.ROOT_LOGGER.tracef("Changes since revision %d are no longer available", revision);
+                return null;
+            }
+            for (Iterator<Change> it = changes.descendingIterator(); it.hasNext(); ) {
+                final Change change = it.next();
+                if (change.revision <= revision) {
+                    break;
+                }
+                result.addAll(change.resources);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static int getConfiguredSize() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(SIZE_PROPERTY, null);
+        if (value != null) {
+            try {
+                return Math.max(0, Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                DomainControllerLogger.ROOT_LOGGER.debugf("Invalid value %s for %s", value, SIZE_PROPERTY);
+            }
+        }
+        return DEFAULT_SIZE;
+    }
+
+    private static final class Change {
+        private final long revision;
+        private final Set<PathElement> resources;
+
+        private Change(long revision, Set<PathElement> resources) {
+            this.revision = revision;
+            this.resources = resources;
+        }
+    }
+}
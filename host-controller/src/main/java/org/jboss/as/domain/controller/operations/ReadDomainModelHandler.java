@@ -8,7 +8,14 @@ package org.jboss.as.domain.controller.operations;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.as.host.controller.mgmt.HostInfo;
 import org.jboss.dmr.ModelNode;
 
 /**
@@ -21,11 +28,27 @@ class ReadDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
     private final boolean lock;
+    private final HostInfo hostInfo;
+    private final TransformedDomainModelCache cache;
+    private final DomainModelChangeLog changeLog;
 
     public ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock) {
+        this(ignoredTransformationRegistry, transformers, lock, null, null, null);
+    }
+
+    /**
+     * Creates a handler which, if a {@code cache} is given, shares the transformed model with other hosts
+     * running the same versions with the same ignored configuration as the host described by {@code hostInfo}.
+     * If a {@code changeLog} is given, a host presenting a valid sync token only receives the changed resources.
+     */
+    ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock,
+                           final HostInfo hostInfo, final TransformedDomainModelCache cache, final DomainModelChangeLog changeLog) {
         this.transformers = transformers;
         this.ignoredTransformationRegistry = ignoredTransformationRegistry != null ? ignoredTransformationRegistry : Transformers.DEFAULT;
         this.lock = lock;
+        this.hostInfo = hostInfo;
+        this.cache = hostInfo != null ? cache : null;
+        this.changeLog = hostInfo != null ? changeLog : null;
     }
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -35,10 +58,40 @@ class ReadDomainModelHandler implements OperationStepHandler {
             context.acquireControllerLock();
         }
 
+        final List<ModelNode> describedResources;
+        final Set<PathElement> changedResources = changeLog == null ? null
+                : changeLog.getChangedResources(hostInfo.getDomainModelSyncToken(), hostInfo.getIgnoredConfiguration(), hostInfo.isIgnoreUnaffectedConfig());
+        if (changedResources != null) {
+            DomainControllerLogger.ROOT_LOGGER.debugf("Sending the %d changed domain resources to host %s", changedResources.size(), hostInfo.getHostName());
+            describedResources = readChangedResources(context, changedResources);
+            final ModelNode changed = context.getResponseHeaders().get(ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC, ReadMasterDomainModelUtil.CHANGED_RESOURCES).setEmptyList();
+            for (PathElement element : changedResources) {
+                changed.add(PathAddress.pathAddress(element).toModelNode());
+            }
+        } else if (cache != null) {
+            describedResources = cache.getDescribedResources(transformers, hostInfo, () -> readDescribedResources(context));
+        } else {
+            describedResources = readDescribedResources(context);
+        }
+        if (changeLog != null) {
+            context.getResponseHeaders().get(ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC, ReadMasterDomainModelUtil.SYNC_TOKEN)
+                    .set(changeLog.createSyncToken(hostInfo.getIgnoredConfiguration()));
+        }
+        context.getResult().set(describedResources);
+    }
+
+    private List<ModelNode> readChangedResources(OperationContext context, Set<PathElement> changedResources) throws OperationFailedException {
+        final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
+        final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForReconnect(transformers,
+                transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource(), changedResources);
+        return readUtil.getDescribedResources();
+    }
+
+    private List<ModelNode> readDescribedResources(OperationContext context) throws OperationFailedException {
         final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
         final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
                 transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource());
-        context.getResult().set(readUtil.getDescribedResources());
+        return readUtil.getDescribedResources();
     }
 
 }
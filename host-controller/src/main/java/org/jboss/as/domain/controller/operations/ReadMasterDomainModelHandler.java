@@ -32,12 +32,33 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final ExtensionRegistry extensionRegistry;
     private final boolean lock;
+    private final TransformedDomainModelCache cache;
+    private final DomainModelChangeLog changeLog;
 
     public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock) {
+        this(hostInfo, transformers, extensionRegistry, lock, null, null);
+    }
+
+    /**
+     * Creates a handler reading the domain model for a host.
+     *
+     * @param hostInfo the registration information of the host. May be {@code null} in tests
+     * @param transformers the transformers for the host
+     * @param extensionRegistry the extension registry
+     * @param lock whether the controller lock needs to be acquired
+     * @param cache cache of the transformed domain model shared by hosts running the same versions.
+     *              May be {@code null}, in which case the model is transformed for each host
+     * @param changeLog log of the changes to the domain model, used to only send the changed resources to a host
+     *                  reconnecting with a valid sync token. May be {@code null}, in which case the full model is sent
+     */
+    public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock,
+                                        final TransformedDomainModelCache cache, final DomainModelChangeLog changeLog) {
         this.hostInfo = hostInfo;
         this.transformers = transformers;
         this.extensionRegistry = extensionRegistry;
         this.lock = lock;
+        this.cache = cache;
+        this.changeLog = changeLog;
     }
 
     @Override
@@ -57,7 +78,7 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
             ignoredTransformationRegistry = ReadMasterDomainModelUtil.createHostIgnoredRegistry(hostInfo, rc);
         }
 
-        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
+        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock, hostInfo, cache, changeLog);
         context.addStep(handler, OperationContext.Stage.MODEL);
     }
 
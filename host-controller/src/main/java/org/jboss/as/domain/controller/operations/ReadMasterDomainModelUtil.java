@@ -48,6 +48,18 @@ public class ReadMasterDomainModelUtil {
 
     public static final String ORDERED_CHILD_TYPES_PROPERTY = "ordered-child-types";
 
+    /**
+     * Response header of the read domain model operation, and host info element, holding the domain model
+     * synchronization data. See {@link DomainModelChangeLog}.
+     */
+    public static final String DOMAIN_MODEL_SYNC = "domain-model-sync";
+
+    /** Element of the {@link #DOMAIN_MODEL_SYNC} header listing the only top level resources the result describes */
+    public static final String CHANGED_RESOURCES = "changed-resources";
+
+    /** Element of the {@link #DOMAIN_MODEL_SYNC} header with the token to present when reconnecting */
+    public static final String SYNC_TOKEN = "sync-token";
+
     private final Set<PathElement> newRootResources = new HashSet<>();
 
     private volatile List<ModelNode> describedResources;
@@ -75,6 +87,56 @@ public class ReadMasterDomainModelUtil {
         return util;
     }
 
+    /**
+     * Used to read the domain model when a slave host which synchronized before reconnects to the DC and only needs
+     * the top level resources which changed since. The root resource is always described.
+     *
+     *  @param transformers the transformers for the host
+     *  @param transformationInputs parameters for the transformation
+     *  @param ignoredTransformationRegistry registry of resources ignored by the transformation target
+     *  @param domainRoot the root resource for the domain resource tree
+     *  @param changedResources the top level resources to describe
+     * @return a read master domain model util instance
+     */
+    static ReadMasterDomainModelUtil readMasterDomainResourcesForReconnect(final Transformers transformers,
+                                                                           final Transformers.TransformationInputs transformationInputs,
+                                                                           final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry,
+                                                                           final Resource domainRoot,
+                                                                           final Set<PathElement> changedResources) throws OperationFailedException {
+
+        final Resource changedRoot = Resource.Factory.create(false, domainRoot.getOrderedChildTypes());
+        changedRoot.writeModel(domainRoot.getModel());
+        for (final PathElement element : changedResources) {
+            if (domainRoot.hasChild(element)) {
+                changedRoot.registerChild(element, domainRoot.getChild(element));
+            }
+        }
+        return readMasterDomainResourcesForInitialConnect(transformers, transformationInputs, ignoredTransformationRegistry, changedRoot);
+    }
+
+    /**
+     * Completes the result of a read of the domain model which only described the changed top level resources, by
+     * adding the description of the other top level resources in the local copy of the domain model.
+     *
+     * @param changed the described root and changed resources
+     * @param changedResources the changed top level resources
+     * @param localRoot the root of the local domain model
+     * @return the description of the complete domain model
+     */
+    public static List<ModelNode> addUnchangedResources(final List<ModelNode> changed, final Set<PathElement> changedResources,
+                                                        final Resource localRoot) {
+        final ReadMasterDomainModelUtil util = new ReadMasterDomainModelUtil();
+        final List<ModelNode> result = new ArrayList<>(changed);
+        for (final String childType : localRoot.getChildTypes()) {
+            for (final Resource.ResourceEntry entry : localRoot.getChildren(childType)) {
+                if (!changedResources.contains(entry.getPathElement())) {
+                    util.describe(PathAddress.pathAddress(entry.getPathElement()), entry, result, false);
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Gets a list of the resources for the slave's ApplyXXXXHandlers. Although the format might appear
      * similar as the operations generated at boot-time this description is only useful
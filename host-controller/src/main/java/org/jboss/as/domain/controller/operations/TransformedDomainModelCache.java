@@ -0,0 +1,159 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.transform.TransformationTarget;
+import org.jboss.as.controller.transform.TransformationTargetImpl;
+import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.as.host.controller.mgmt.HostInfo;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Cache of the transformed and described domain model sent to slave hosts when they register with the domain
+ * controller. Hosts running the same management and subsystem versions with the same
+ * {@link HostInfo#getIgnoredConfiguration() ignored configuration} receive identical descriptions, so during a
+ * rolling restart of many such hosts the domain model only needs to be transformed once.
+ * <p>
+ * Entries are keyed by the revision of the domain model as well, so committing any write to the model makes
+ * existing entries unreachable; they are discarded the next time the cache is used. The cache must only be used
+ * while holding the controller lock, exclusively or shared, so the model cannot change while an entry is created.
+ * <p>
+ * Note that warnings logged by the transformers are only logged for the first host to request a given entry.
+ */
+public final class TransformedDomainModelCache {
+
+    private final LongSupplier modelRevision;
+    private final ConcurrentMap<Key, List<ModelNode>> entries = new ConcurrentHashMap<>();
+    private volatile long currentRevision = -1;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param modelRevision supplies the current revision of the domain model
+     */
+    public TransformedDomainModelCache(final LongSupplier modelRevision) {
+        this.modelRevision = modelRevision;
+    }
+
+    /**
+     * Gets the described resources of the domain model transformed for a host, creating them if no host with the
+     * same versions and ignored configuration has requested them since the domain model was last modified.
+     *
+     * @param transformers the transformers for the host
+     * @param hostInfo the registration information of the host
+     * @param factory creates the described resources if they are not cached
+     * @return the described resources, which must not be modified
+     * @throws OperationFailedException if creating the described resources failed
+     */
+    List<ModelNode> getDescribedResources(final Transformers transformers, final HostInfo hostInfo,
+                                          final DescribedResourcesFactory factory) throws OperationFailedException {
+        final long revision = modelRevision.getAsLong();
+        if (revision != currentRevision) {
+            synchronized (this) {
+                if (revision != currentRevision) {
+                    entries.keySet().removeIf(key -> key.revision != revision);
+                    currentRevision = revision;
+                }
+            }
+        }
+        final Key key = Key.create(transformers.getTarget(), hostInfo, revision);
+        if (key == null) {
+            return factory.createDescribedResources();
+        }
+        try {
+            return entries.computeIfAbsent(key, k -> {
+                DomainControllerLogger.ROOT_LOGGER.tracef("Transforming domain model revision %d for host %s", revision, hostInfo.getHostName());
+                try {
+                    return Collections.unmodifiableList(factory.createDescribedResources());
+                } catch (OperationFailedException e) {
+                    throw new FactoryFailure(e);
+                }
+            });
+        } catch (FactoryFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @FunctionalInterface
+    interface DescribedResourcesFactory {
+        List<ModelNode> createDescribedResources() throws OperationFailedException;
+    }
+
+    private static final class Key {
+        private final ModelVersion version;
+        private final Map<String, ModelVersion> subsystemVersions;
+        private final ModelNode ignoredConfiguration;
+        private final long revision;
+        private final int hashCode;
+
+        private Key(ModelVersion version, Map<String, ModelVersion> subsystemVersions, ModelNode ignoredConfiguration, long revision) {
+            this.version = version;
+            this.subsystemVersions = subsystemVersions;
+            this.ignoredConfiguration = ignoredConfiguration;
+            this.revision = revision;
+            this.hashCode = Objects.hash(version, subsystemVersions, ignoredConfiguration, revision);
+        }
+
+        /**
+         * Creates the key for a host, or returns {@code null} if the versions of the target's subsystems
+         * cannot be determined, in which case the transformed model is not cached.
+         */
+        private static Key create(TransformationTarget target, HostInfo hostInfo, long revision) {
+            if (!(target instanceof TransformationTargetImpl)) {
+                return null;
+            }
+            return new Key(target.getVersion(), ((TransformationTargetImpl) target).getSubsystemVersions(),
+                    hostInfo.getIgnoredConfiguration(), revision);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return revision == key.revision && version.equals(key.version)
+                    && subsystemVersions.equals(key.subsystemVersions)
+                    && ignoredConfiguration.equals(key.ignoredConfiguration);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class FactoryFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private FactoryFailure(OperationFailedException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized OperationFailedException getCause() {
+            return (OperationFailedException) super.getCause();
+        }
+    }
+}
@@ -128,6 +128,8 @@ import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.operations.ApplyExtensionsHandler;
 import org.jboss.as.domain.controller.operations.DomainModelIncludesValidator;
+import org.jboss.as.domain.controller.operations.DomainModelChangeLog;
+import org.jboss.as.domain.controller.operations.TransformedDomainModelCache;
 import org.jboss.as.domain.controller.operations.coordination.PrepareStepHandler;
 import org.jboss.as.domain.controller.resources.DomainRootDefinition;
 import org.jboss.as.domain.http.server.ConsoleAvailability;
@@ -226,6 +228,8 @@ public class DomainModelControllerService extends AbstractControllerService impl
     private final CapabilityRegistry capabilityRegistry;
     private final DomainHostExcludeRegistry domainHostExcludeRegistry;
     private final AtomicBoolean domainConfigAvailable = new AtomicBoolean(false);
+    private final TransformedDomainModelCache transformedDomainModelCache = new TransformedDomainModelCache(this::getModelRevision);
+    private final DomainModelChangeLog domainModelChangeLog = new DomainModelChangeLog(this::getModelRevision);
     private final PartialModelIndicator partialModelIndicator = new PartialModelIndicator() {
         @Override
         public boolean isModelPartial() {
@@ -489,6 +493,16 @@ public class DomainModelControllerService extends AbstractControllerService impl
         }
     }
 
+    @Override
+    public TransformedDomainModelCache getTransformedDomainModelCache() {
+        return transformedDomainModelCache;
+    }
+
+    @Override
+    public DomainModelChangeLog getDomainModelChangeLog() {
+        return domainModelChangeLog;
+    }
+
     @Override
     public ModelNode getProfileOperations(String profileName) {
         ModelNode operation = new ModelNode();
@@ -954,6 +968,19 @@ public class DomainModelControllerService extends AbstractControllerService impl
         return partialModelIndicator;
     }
 
+    @Override
+    protected ModelChangeListener getModelChangeListener() {
+        return new ModelChangeListener() {
+            @Override
+            public void modelChanged(long revision, Set<PathAddress> affectedAddresses) {
+                // Only the master's log is used, to synchronize reconnecting slaves
+                if (hostControllerInfo.isMasterDomainController()) {
+                    domainModelChangeLog.recordChange(revision, affectedAddresses);
+                }
+            }
+        };
+    }
+
     private Future<ServerInventory> installServerInventory(final ServiceTarget serviceTarget) {
         if (hostControllerInfo.getHttpManagementSecureInterface() != null && !hostControllerInfo.getHttpManagementSecureInterface().isEmpty()
                 && hostControllerInfo.getHttpManagementSecurePort() > 0) {
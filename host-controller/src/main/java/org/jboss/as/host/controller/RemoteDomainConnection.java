@@ -28,6 +28,7 @@ import org.jboss.as.controller.RunningMode;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.remote.TransactionalProtocolClient;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil;
 import org.jboss.as.host.controller.discovery.DiscoveryOption;
 import org.jboss.as.host.controller.discovery.RemoteDomainControllerConnectionConfiguration;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
@@ -295,7 +296,9 @@ class RemoteDomainConnection extends FutureManagementChannel {
             return false;
         }
         final List<ModelNode> bootOperations= result.get(ModelDescriptionConstants.RESULT).asList();
-        return callback.applyDomainModel(bootOperations);
+        final ModelNode sync = result.hasDefined(ModelDescriptionConstants.RESPONSE_HEADERS, ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC)
+                ? result.get(ModelDescriptionConstants.RESPONSE_HEADERS, ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC) : new ModelNode();
+        return callback.applyDomainModel(bootOperations, sync);
     }
 
     void registered() {
@@ -321,9 +324,10 @@ class RemoteDomainConnection extends FutureManagementChannel {
          * Apply the remote domain model.
          *
          * @param result the read-domain-model operation result
+         * @param sync the domain model synchronization data sent by the domain controller. Will not be {@code null}
          * @return {@code true} if the model was applied successfully, {@code false} otherwise
          */
-        boolean applyDomainModel(List<ModelNode> result);
+        boolean applyDomainModel(List<ModelNode> result, ModelNode sync);
 
         /**
          * Event that the registration was completed.
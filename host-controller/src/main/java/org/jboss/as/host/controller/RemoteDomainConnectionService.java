@@ -25,9 +25,11 @@ import java.io.DataInput;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -66,6 +68,7 @@ import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.operations.FetchMissingConfigurationHandler;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil;
 import org.jboss.as.domain.controller.operations.SyncDomainModelOperationHandler;
 import org.jboss.as.domain.controller.operations.SyncServerGroupOperationHandler;
 import org.jboss.as.domain.controller.operations.coordination.DomainControllerLockIdUtils;
@@ -177,6 +180,8 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private ManagementChannelHandler handler;
     private volatile ResponseAttachmentInputStreamSupport responseAttachmentSupport;
     private volatile RemoteDomainConnection connection;
+    /** The token presented to the DC to only receive the changed domain resources when reconnecting */
+    private volatile ModelNode domainModelSyncToken;
 
     private RemoteDomainConnectionService(final ModelController controller,
                                           final ExtensionRegistry extensionRegistry,
@@ -506,7 +511,12 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                  */
                 @Override
                 public ModelNode createLocalHostInfo() {
-                    return HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode info = HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode token = domainModelSyncToken;
+                    if (token != null) {
+                        info.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC).set(token);
+                    }
+                    return info;
                 }
 
                 @Override
@@ -515,10 +525,24 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                 }
 
                 @Override
-                public boolean applyDomainModel(final List<ModelNode> bootOperations) {
+                public boolean applyDomainModel(final List<ModelNode> bootOperations, final ModelNode sync) {
+                    List<ModelNode> domainModel = bootOperations;
+                    if (sync.hasDefined(ReadMasterDomainModelUtil.CHANGED_RESOURCES)) {
+                        // The DC only sent the resources which changed since we last synchronized
+                        final Set<PathElement> changedResources = new HashSet<>();
+                        for (ModelNode address : sync.get(ReadMasterDomainModelUtil.CHANGED_RESOURCES).asList()) {
+                            changedResources.add(PathAddress.pathAddress(address).getElement(0));
+                        }
+                        HostControllerLogger.ROOT_LOGGER.debugf("Applying %d domain resources changed since the last synchronization", changedResources.size());
+                        domainModel = ReadMasterDomainModelUtil.addUnchangedResources(bootOperations, changedResources,
+                                ReadRootResourceHandler.grabDomainResource(operationExecutor));
+                    }
                     // Apply the model.
                     final HostInfo info = HostInfo.fromModelNode(createLocalHostInfo(), null);
-                    return applyRemoteDomainModel(bootOperations, info);
+                    final boolean applied = applyRemoteDomainModel(domainModel, info);
+                    domainModelSyncToken = applied && sync.hasDefined(ReadMasterDomainModelUtil.SYNC_TOKEN)
+                            ? sync.get(ReadMasterDomainModelUtil.SYNC_TOKEN) : null;
+                    return applied;
                 }
 
                 @Override
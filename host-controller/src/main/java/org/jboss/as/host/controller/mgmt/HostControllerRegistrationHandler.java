@@ -372,7 +372,8 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 // Remotely resolve the subsystem versions and create the transformation
                 registrationContext.processSubsystems(transformers, extensions);
                 // Now run the read-domain model operation
-                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false);
+                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false,
+                        domainController.getTransformedDomainModelCache(), domainController.getDomainModelChangeLog());
                 context.addStep(READ_DOMAIN_MODEL.getOperation(), handler, OperationContext.Stage.MODEL);
 
                 context.completeStep(new OperationContext.ResultHandler() {
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.jboss.as.controller.Feature;
 import org.jboss.as.controller.PathAddress;
@@ -119,6 +120,8 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
     private final Set<String> domainIgnoredExtensions;
     private final boolean hostDeclaredIgnoreUnaffected;
     private final Stability stability;
+    private final ModelNode ignoredConfiguration;
+    private final ModelNode domainModelSyncToken;
     // GuardedBy this
     private ReadMasterDomainModelUtil.RequiredConfigurationHolder requiredConfigurationHolder;
 
@@ -170,6 +173,9 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
             serverConfigInfos = Collections.emptySet();
         }
         this.serverConfigInfos = serverConfigInfos;
+        this.ignoredConfiguration = createIgnoredConfiguration(hostInfo, domainIgnoredExtensions, ignoreUnaffectedConfig, serverConfigInfos);
+        this.domainModelSyncToken = hostInfo.hasDefined(ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC)
+                ? hostInfo.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_SYNC).clone() : null;
     }
 
     @Override
@@ -280,6 +286,66 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         return domainIgnoredExtensions;
     }
 
+    /**
+     * Gets a canonical description of the settings which determine which domain resources are ignored when
+     * transforming the domain model for this host: the host's ignored resources, the extensions excluded for its
+     * management version and the server configs used to determine the unaffected configuration. Two hosts with
+     * equal descriptions ignore the same resources of a given domain model.
+     *
+     * @return the description. Will not be {@code null}
+     */
+    public ModelNode getIgnoredConfiguration() {
+        return ignoredConfiguration.clone();
+    }
+
+    /**
+     * Gets the token the host received the last time it synchronized its domain model with the domain controller.
+     *
+     * @return the token, or {@code null} if the host did not present one
+     */
+    public ModelNode getDomainModelSyncToken() {
+        return domainModelSyncToken == null ? null : domainModelSyncToken.clone();
+    }
+
+    private static ModelNode createIgnoredConfiguration(final ModelNode hostInfo, final Set<String> domainIgnoredExtensions,
+                                                        final boolean ignoreUnaffectedConfig, final Set<ServerConfigInfo> serverConfigInfos) {
+        final ModelNode result = new ModelNode();
+        final ModelNode ignoredResources = result.get(IGNORED_RESOURCES).setEmptyObject();
+        if (hostInfo.hasDefined(IGNORED_RESOURCES)) {
+            for (Property prop : hostInfo.require(IGNORED_RESOURCES).asPropertyList()) {
+                final ModelNode ignoredModel = prop.getValue();
+                final ModelNode ignoredType = ignoredResources.get(prop.getName());
+                if (ignoredModel.get(WILDCARD).asBoolean(false)) {
+                    ignoredType.get(WILDCARD).set(true);
+                } else if (ignoredModel.hasDefined(NAMES)) {
+                    final Set<String> names = new TreeSet<>();
+                    for (ModelNode name : ignoredModel.get(NAMES).asList()) {
+                        names.add(name.asString());
+                    }
+                    addAll(ignoredType.get(NAMES), names);
+                }
+            }
+        }
+        final ModelNode excludedExtensions = result.get(EXTENSION).setEmptyList();
+        if (domainIgnoredExtensions != null) {
+            addAll(excludedExtensions, new TreeSet<>(domainIgnoredExtensions));
+        }
+        result.get(IGNORE_UNUSED_CONFIG).set(ignoreUnaffectedConfig);
+        final Set<String> serverConfigs = new TreeSet<>();
+        for (ServerConfigInfo info : serverConfigInfos) {
+            serverConfigs.add(info.getServerGroup() + '/' + info.getSocketBindingGroup());
+        }
+        addAll(result.get(SERVER_GROUP).setEmptyList(), serverConfigs);
+        return result;
+    }
+
+    private static void addAll(final ModelNode list, final Set<String> values) {
+        list.setEmptyList();
+        for (String value : values) {
+            list.add(value);
+        }
+    }
+
     private static class IgnoredType {
         private final boolean wildcard;
         private final Set<String> names;
@@ -0,0 +1,189 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ARCHIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONTENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ENABLED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IGNORE_UNUSED_CONFIG;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INITIAL_SERVER_GROUPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MAJOR_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MICRO_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MINOR_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELEASE_CODENAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELEASE_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STABILITY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.domain.controller.operations.deployment.DeploymentFullReplaceHandler;
+import org.jboss.as.host.controller.mgmt.HostInfo;
+import org.jboss.as.version.Stability;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link DomainModelChangeLog}.
+ */
+public class DomainModelChangeLogTestCase extends AbstractOperationTestCase {
+
+    private static final PathElement PROFILE_A = PathElement.pathElement(PROFILE, "a");
+    private static final PathElement PROFILE_B = PathElement.pathElement(PROFILE, "b");
+    private static final PathElement GROUP = PathElement.pathElement(SERVER_GROUP, "group");
+
+    private final AtomicLong revision = new AtomicLong();
+    private final ModelNode ignoredConfiguration = new ModelNode("ignored");
+
+    @Test
+    public void testChangedResources() {
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 10);
+        commit(log, PathAddress.pathAddress(PROFILE_A, PathElement.pathElement(SUBSYSTEM, "test")));
+        ModelNode token = log.createSyncToken(ignoredConfiguration);
+        Assert.assertEquals(Collections.emptySet(), log.getChangedResources(token, ignoredConfiguration, false));
+
+        commit(log, PathAddress.pathAddress(PROFILE_B), PathAddress.pathAddress(GROUP));
+        commit(log, PathAddress.pathAddress(PROFILE_B, PathElement.pathElement(SUBSYSTEM, "test")));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(PROFILE_B, GROUP)), log.getChangedResources(token, ignoredConfiguration, false));
+    }
+
+    @Test
+    public void testHostsNotRecorded() {
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 10);
+        ModelNode token = log.createSyncToken(ignoredConfiguration);
+        commit(log, PathAddress.pathAddress(HOST, "slave"));
+        Assert.assertEquals(Collections.emptySet(), log.getChangedResources(token, ignoredConfiguration, false));
+    }
+
+    @Test
+    public void testRootChanged() {
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 10);
+        ModelNode token = log.createSyncToken(ignoredConfiguration);
+        commit(log, PathAddress.pathAddress(PROFILE_A));
+        commit(log, PathAddress.EMPTY_ADDRESS);
+        ModelNode after = log.createSyncToken(ignoredConfiguration);
+        commit(log, PathAddress.pathAddress(GROUP));
+        Assert.assertNull(log.getChangedResources(token, ignoredConfiguration, false));
+        Assert.assertEquals(Collections.singleton(GROUP), log.getChangedResources(after, ignoredConfiguration, false));
+    }
+
+    @Test
+    public void testTruncated() {
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 2);
+        ModelNode first = log.createSyncToken(ignoredConfiguration);
+        commit(log, PathAddress.pathAddress(PROFILE_A));
+        ModelNode second = log.createSyncToken(ignoredConfiguration);
+        commit(log, PathAddress.pathAddress(PROFILE_B));
+        commit(log, PathAddress.pathAddress(GROUP));
+        Assert.assertNull(log.getChangedResources(first, ignoredConfiguration, false));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(PROFILE_B, GROUP)), log.getChangedResources(second, ignoredConfiguration, false));
+    }
+
+    @Test
+    public void testInvalidTokens() {
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 10);
+        ModelNode token = log.createSyncToken(ignoredConfiguration);
+        Assert.assertNull(log.getChangedResources(null, ignoredConfiguration, false));
+        Assert.assertNull(log.getChangedResources(new ModelNode(), ignoredConfiguration, false));
+        // The host's ignored configuration changed
+        Assert.assertNull(log.getChangedResources(token, new ModelNode("other"), false));
+        // Issued by another domain controller, or before this one restarted
+        Assert.assertNull(new DomainModelChangeLog(revision::get, 10).getChangedResources(token, ignoredConfiguration, false));
+        // Issued for a revision this domain controller never reached
+        revision.set(5);
+        ModelNode future = log.createSyncToken(ignoredConfiguration);
+        revision.set(0);
+        Assert.assertNull(log.getChangedResources(future, ignoredConfiguration, false));
+    }
+
+    @Test
+    public void testIgnoreUnaffectedConfig() {
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 10);
+        HostInfo hostInfo = createHostInfo(true);
+        ModelNode token = log.createSyncToken(hostInfo.getIgnoredConfiguration());
+        // Pointing the server group to another profile makes the host require that profile, although it did not change
+        commit(log, PathAddress.pathAddress(GROUP));
+        Assert.assertNull(log.getChangedResources(token, hostInfo.getIgnoredConfiguration(), hostInfo.isIgnoreUnaffectedConfig()));
+
+        hostInfo = createHostInfo(false);
+        token = log.createSyncToken(hostInfo.getIgnoredConfiguration());
+        commit(log, PathAddress.pathAddress(GROUP));
+        Assert.assertEquals(Collections.singleton(GROUP),
+                log.getChangedResources(token, hostInfo.getIgnoredConfiguration(), hostInfo.isIgnoreUnaffectedConfig()));
+    }
+
+    @Test
+    public void testFullReplaceDeployment() throws Exception {
+        final PathElement deployment = PathElement.pathElement(DEPLOYMENT, "test.war");
+        final Set<PathAddress> affected = new HashSet<>();
+        final MockOperationContext context = new MockOperationContext(createRootResource(), false, PathAddress.EMPTY_ADDRESS, false) {
+            @Override
+            public Resource readResourceForUpdate(PathAddress address) {
+                affected.add(operationAddress.append(address));
+                return super.readResourceForUpdate(address);
+            }
+        };
+        final Resource root = context.getRootResource();
+        final Resource deploymentResource = Resource.Factory.create();
+        deploymentResource.getModel().get(CONTENT).add().get(PATH).set("test.war");
+        root.registerChild(deployment, deploymentResource);
+        final Resource groupDeployment = Resource.Factory.create();
+        groupDeployment.getModel().get(ENABLED).set(false);
+        root.getChild(PathElement.pathElement(SERVER_GROUP, "group-one")).registerChild(deployment, groupDeployment);
+
+        DomainModelChangeLog log = new DomainModelChangeLog(revision::get, 10);
+        ModelNode token = log.createSyncToken(ignoredConfiguration);
+
+        final ModelNode operation = Util.createOperation(DeploymentFullReplaceHandler.OPERATION_NAME, PathAddress.EMPTY_ADDRESS);
+        operation.get(NAME).set(deployment.getValue());
+        operation.get(RUNTIME_NAME).set("runtime.war");
+        final ModelNode content = operation.get(CONTENT).add();
+        content.get(PATH).set("replaced.war");
+        content.get(ARCHIVE).set(true);
+        operation.get(ENABLED).set(true);
+        new DeploymentFullReplaceHandler(null, null, true, false).execute(context, operation);
+        Assert.assertTrue(groupDeployment.getModel().get(ENABLED).asBoolean());
+        log.recordChange(revision.incrementAndGet(), affected);
+
+        // The deployments of the server groups changed without being recorded, so the host needs a full synchronization
+        Assert.assertNull(log.getChangedResources(token, ignoredConfiguration, false));
+    }
+
+    private static HostInfo createHostInfo(boolean ignoreUnaffectedConfig) {
+        ModelNode hostInfo = new ModelNode();
+        hostInfo.get(NAME).set("secondary");
+        hostInfo.get(RELEASE_VERSION).set("1.0.0");
+        hostInfo.get(RELEASE_CODENAME).set("TBD");
+        hostInfo.get(MANAGEMENT_MAJOR_VERSION).set(1);
+        hostInfo.get(MANAGEMENT_MINOR_VERSION).set(0);
+        hostInfo.get(MANAGEMENT_MICRO_VERSION).set(0);
+        hostInfo.get(IGNORE_UNUSED_CONFIG).set(ignoreUnaffectedConfig);
+        hostInfo.get(INITIAL_SERVER_GROUPS).setEmptyObject();
+        hostInfo.get(STABILITY).set(Stability.DEFAULT.name());
+        hostInfo.get("domain-connection-id").set(1L);
+        return HostInfo.fromModelNode(hostInfo);
+    }
+
+    private void commit(DomainModelChangeLog log, PathAddress... addresses) {
+        Set<PathAddress> affected = new HashSet<>(Arrays.asList(addresses));
+        log.recordChange(revision.incrementAndGet(), affected);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IGNORED_RESOURCES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MAJOR_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MICRO_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MINOR_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAMES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELEASE_CODENAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELEASE_VERSION;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.transform.TransformationTarget;
+import org.jboss.as.controller.transform.TransformationTargetImpl;
+import org.jboss.as.controller.transform.TransformerRegistry;
+import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.host.controller.mgmt.HostInfo;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link TransformedDomainModelCache}.
+ */
+public class TransformedDomainModelCacheTestCase {
+
+    private final TransformerRegistry registry = TransformerRegistry.Factory.create();
+    private final AtomicLong revision = new AtomicLong();
+    private final AtomicInteger transformations = new AtomicInteger();
+    private final TransformedDomainModelCache cache = new TransformedDomainModelCache(revision::get);
+
+    @Test
+    public void testSharedBetweenEquivalentHosts() throws Exception {
+        List<ModelNode> first = describe(ModelVersion.create(16), hostInfo("a", "two", "one"));
+        List<ModelNode> second = describe(ModelVersion.create(16), hostInfo("b", "one", "two"));
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, transformations.get());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testNotSharedBetweenDifferentHosts() throws Exception {
+        describe(ModelVersion.create(16), hostInfo("a", "one"));
+        describe(ModelVersion.create(17), hostInfo("b", "one"));
+        describe(ModelVersion.create(16), hostInfo("c", "two"));
+        Assert.assertEquals(3, transformations.get());
+        Assert.assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testInvalidatedByModelChange() throws Exception {
+        describe(ModelVersion.create(16), hostInfo("a", "one"));
+        describe(ModelVersion.create(17), hostInfo("b", "one"));
+        revision.incrementAndGet();
+        describe(ModelVersion.create(16), hostInfo("c", "one"));
+        Assert.assertEquals(3, transformations.get());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testFailureNotCached() throws Exception {
+        HostInfo hostInfo = hostInfo("a", "one");
+        Transformers transformers = Transformers.Factory.create(target(ModelVersion.create(16), hostInfo));
+        try {
+            cache.getDescribedResources(transformers, hostInfo, () -> {
+                throw new OperationFailedException("failed");
+            });
+            Assert.fail("Should have failed");
+        } catch (OperationFailedException expected) {
+            Assert.assertEquals("failed", expected.getMessage());
+        }
+        Assert.assertEquals(0, cache.size());
+        describe(ModelVersion.create(16), hostInfo);
+        Assert.assertEquals(1, transformations.get());
+    }
+
+    private List<ModelNode> describe(ModelVersion version, HostInfo hostInfo) throws OperationFailedException {
+        Transformers transformers = Transformers.Factory.create(target(version, hostInfo));
+        return cache.getDescribedResources(transformers, hostInfo, () -> {
+            transformations.incrementAndGet();
+            return Collections.singletonList(new ModelNode(hostInfo.getHostName()));
+        });
+    }
+
+    private TransformationTarget target(ModelVersion version, HostInfo hostInfo) {
+        return TransformationTargetImpl.createForHost(hostInfo.getHostName(), registry, version,
+                Collections.<PathAddress, ModelVersion>emptyMap(), hostInfo);
+    }
+
+    private static HostInfo hostInfo(String name, String... ignoredProfiles) {
+        ModelNode hostInfo = new ModelNode();
+        hostInfo.get(NAME).set(name);
+        hostInfo.get(RELEASE_VERSION).set("1.0.0.Final");
+        hostInfo.get(RELEASE_CODENAME).set("TBD");
+        hostInfo.get(MANAGEMENT_MAJOR_VERSION).set(16);
+        hostInfo.get(MANAGEMENT_MINOR_VERSION).set(0);
+        hostInfo.get(MANAGEMENT_MICRO_VERSION).set(0);
+        for (String profile : ignoredProfiles) {
+            hostInfo.get(IGNORED_RESOURCES, PROFILE, NAMES).add(profile);
+        }
+        return HostInfo.fromModelNode(hostInfo);
+    }
+}
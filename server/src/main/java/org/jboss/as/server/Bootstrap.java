@@ -5,6 +5,7 @@
 
 package org.jboss.as.server;
 
+import java.io.File;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -18,18 +19,22 @@ import org.jboss.as.controller.audit.ManagedAuditLogger;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.parsing.ManagementXmlSchema;
 import org.jboss.as.controller.persistence.BackupXmlConfigurationPersister;
+import org.jboss.as.controller.persistence.BootOperationsSnapshot;
 import org.jboss.as.controller.persistence.ConfigurationFile;
 import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.as.controller.persistence.XmlConfigurationPersister;
 import org.jboss.as.server.controller.git.GitConfigurationPersister;
 import org.jboss.as.server.parsing.StandaloneXmlSchemas;
 import org.jboss.as.version.Stability;
+import org.jboss.as.version.Version;
 import org.jboss.modules.Module;
+import org.jboss.modules.ModuleLoadException;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.service.ServiceActivator;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.threads.AsyncFuture;
 import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * The application server bootstrap interface.  Get a new instance via {@link Factory#newInstance()}.
@@ -72,6 +77,12 @@ public interface Bootstrap {
      */
     final class Configuration {
 
+        /**
+         * System property enabling the boot from a snapshot of the operations parsed from the configuration file, which
+         * is stored in the server data directory.
+         */
+        private static final String BOOT_OPERATIONS_SNAPSHOT = "jboss.server.boot-operations-snapshot";
+
         private final ServerEnvironment serverEnvironment;
         private final RunningModeControl runningModeControl;
         private final ExtensionRegistry extensionRegistry;
@@ -213,6 +224,9 @@ public interface Bootstrap {
                         for (ManagementXmlSchema schema : standaloneXmlSchemas.getAdditional()) {
                             persister.registerAdditionalRootElement(schema.getQualifiedName(), schema);
                         }
+                        if (Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(BOOT_OPERATIONS_SNAPSHOT, "false"))) {
+                            persister.setBootOperationsSnapshot(createBootOperationsSnapshot(serverEnvironment, configurationFile, rootElement));
+                        }
                         extensionRegistry.setWriterRegistry(persister);
                         return persister;
                     }
@@ -221,6 +235,23 @@ public interface Bootstrap {
             return configurationPersisterFactory;
         }
 
+        private static BootOperationsSnapshot createBootOperationsSnapshot(ServerEnvironment serverEnvironment,
+                ConfigurationFile configurationFile, QName rootElement) {
+            File file = new File(serverEnvironment.getServerDataDir(), "boot-operations-" + configurationFile.getMainFile().getName() + ".dmr");
+            // Anything that may change the operations parsed from the same file must be part of the environment
+            String environment = String.join("|", rootElement.toString(), serverEnvironment.getStability().toString(),
+                    Version.AS_VERSION, serverEnvironment.getProductConfig().getPrettyVersionString());
+            ModuleLoader loader = Module.getBootModuleLoader();
+            return new BootOperationsSnapshot(file, environment, name -> {
+                try {
+                    org.jboss.modules.Version version = loader.loadModule(name).getVersion();
+                    return version != null ? version.toString() : "";
+                } catch (ModuleLoadException e) {
+                    return null;
+                }
+            }, StandaloneXmlSchemas::setSystemProperties);
+        }
+
         /**
          * Set the configuration persister factory to use.
          *
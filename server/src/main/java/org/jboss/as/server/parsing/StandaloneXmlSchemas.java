@@ -5,14 +5,23 @@
 
 package org.jboss.as.server.parsing;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SYSTEM_PROPERTY;
 
+import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.parsing.ManagementSchemas;
 import org.jboss.as.version.Stability;
+import org.jboss.dmr.ModelNode;
 import org.jboss.modules.ModuleLoader;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Representation of the schemas for the standalone server configuration.
@@ -26,4 +35,23 @@ public class StandaloneXmlSchemas extends ManagementSchemas {
         super(stability, new StandaloneXml(loader, executorService, extensionRegistry), SERVER);
     }
 
+    /**
+     * Eagerly sets the system properties added by boot operations that were not parsed from the configuration file,
+     * e.g. because they were read from a {@link org.jboss.as.controller.persistence.BootOperationsSnapshot snapshot},
+     * as parsing the configuration would have done.
+     *
+     * @param operations the boot operations
+     */
+    public static void setSystemProperties(final List<ModelNode> operations) {
+        final Properties properties = WildFlySecurityManager.getSystemPropertiesPrivileged();
+        for (ModelNode operation : operations) {
+            if (ADD.equals(operation.get(OP).asStringOrNull()) && operation.hasDefined(OP_ADDR)) {
+                final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+                if (address.size() == 1 && SYSTEM_PROPERTY.equals(address.getElement(0).getKey())) {
+                    SystemPropertiesXml.setParsedProperty(address.getElement(0).getValue(), operation, properties, true);
+                }
+            }
+        }
+    }
+
 }
@@ -119,34 +119,47 @@ class SystemPropertiesXml {
                 throw ParseUtils.missingRequired(reader, Collections.singleton(NAME));
             }
 
-            AtomicReference<String> newPropertyValue = null;
-            try {
-                String resolved = SystemPropertyResourceDefinition.VALUE.resolveValue(ExpressionResolver.EXTENSION_REJECTING, op.get(VALUE)).asStringOrNull();
-                newPropertyValue = new AtomicReference<>(resolved);
-                String oldPropertyValue = properties.getProperty(name);
-                if (oldPropertyValue != null && !oldPropertyValue.equals(resolved)) {
-                    ControllerLogger.ROOT_LOGGER.systemPropertyAlreadyExist(name);
-                }
-            } catch (OperationFailedException | ExpressionResolver.ExpressionResolutionUserException | ExpressionResolver.ExpressionResolutionServerException e) {
-                ServerLogger.AS_ROOT_LOGGER.tracef(e, "Failed to resolve value for system property %s at parse time.", name);
+            setParsedProperty(name, op, properties, standalone);
+
+            updates.add(op);
+        }
+    }
+
+    /**
+     * Resolves the value of a system property parsed from the configuration and, for a standalone server, eagerly sets
+     * it so it can potentially be used by jboss modules.
+     *
+     * @param name the name of the property
+     * @param op the operation adding the property
+     * @param properties the current system properties
+     * @param standalone {@code true} if the configuration is the one of a standalone server
+     */
+    static void setParsedProperty(final String name, final ModelNode op, final Properties properties, final boolean standalone) {
+        AtomicReference<String> newPropertyValue = null;
+        try {
+            String resolved = SystemPropertyResourceDefinition.VALUE.resolveValue(ExpressionResolver.EXTENSION_REJECTING, op.get(VALUE)).asStringOrNull();
+            newPropertyValue = new AtomicReference<>(resolved);
+            String oldPropertyValue = properties.getProperty(name);
+            if (oldPropertyValue != null && !oldPropertyValue.equals(resolved)) {
+                ControllerLogger.ROOT_LOGGER.systemPropertyAlreadyExist(name);
             }
+        } catch (OperationFailedException | ExpressionResolver.ExpressionResolutionUserException | ExpressionResolver.ExpressionResolutionServerException e) {
+            ServerLogger.AS_ROOT_LOGGER.tracef(e, "Failed to resolve value for system property %s at parse time.", name);
+        }
 
-            if(standalone) {
-                //eagerly set the property so it can potentially be used by jboss modules
-                //only do this for standalone servers
-                if (newPropertyValue != null) {
-                    String val = newPropertyValue.get();
-                    if (val != null) {
-                        System.setProperty(name, newPropertyValue.get());
-                    } else {
-                        System.clearProperty(name);
-                    }
+        if(standalone) {
+            //eagerly set the property so it can potentially be used by jboss modules
+            //only do this for standalone servers
+            if (newPropertyValue != null) {
+                String val = newPropertyValue.get();
+                if (val != null) {
+                    System.setProperty(name, newPropertyValue.get());
                 } else {
-                    ServerLogger.AS_ROOT_LOGGER.tracef("Failed to set property %s at parse time, it will be set later in the boot process", name);
+                    System.clearProperty(name);
                 }
+            } else {
+                ServerLogger.AS_ROOT_LOGGER.tracef("Failed to set property %s at parse time, it will be set later in the boot process", name);
             }
-
-            updates.add(op);
         }
     }
 
@@ -18,12 +18,16 @@ public interface CommonAttributes {
     String CORE_THREADS = "core-threads";
     String COUNT = "count";
     String CURRENT_THREAD_COUNT = "current-thread-count";
+    String EXECUTION_TIME_MAX = "execution-time-max";
+    String EXECUTION_TIME_P50 = "execution-time-p50";
+    String EXECUTION_TIME_P99 = "execution-time-p99";
     String PER_CPU = "per-cpu";
     String HANDOFF_EXECUTOR = "handoff-executor";
     String LARGEST_THREAD_COUNT = "largest-thread-count";
     String NAME = "name";
     String GROUP_NAME = "group-name";
     String KEEPALIVE_TIME = "keepalive-time";
+    String MAX_CONCURRENCY = "max-concurrency";
     String MAX_THREADS = "max-threads";
     String PRIORITY = "priority";
     String PROPERTIES = "properties";
@@ -31,8 +35,13 @@ public interface CommonAttributes {
     String QUEUELESS_THREAD_POOL = "queueless-thread-pool";
     String QUEUE_LENGTH = "queue-length";
     String QUEUE_SIZE = "queue-size";
+    String QUEUE_WAIT_TIME_MAX = "queue-wait-time-max";
+    String QUEUE_WAIT_TIME_P50 = "queue-wait-time-p50";
+    String QUEUE_WAIT_TIME_P99 = "queue-wait-time-p99";
     String REJECTED_COUNT = "rejected-count";
+    String REJECTED_RATE = "rejected-rate";
     String SCHEDULED_THREAD_POOL = "scheduled-thread-pool";
+    String STATISTICS_ENABLED = "statistics-enabled";
     String TASK_COUNT = "task-count";
     String THREADS = "threads";
     String TIME = "time";
@@ -42,4 +51,5 @@ public interface CommonAttributes {
     String ENHANCED_QUEUE_THREAD_POOL = "enhanced-queue-thread-pool";
     String UNIT = "unit";
     String VALUE = "value";
+    String VIRTUAL_THREAD_EXECUTOR = "virtual-thread-executor";
 }
@@ -23,7 +23,11 @@ class EnhancedQueueExecutorMetricsHandler extends ThreadPoolMetricsHandler {
     private static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.ACTIVE_COUNT,
             PoolAttributeDefinitions.COMPLETED_TASK_COUNT, PoolAttributeDefinitions.CURRENT_THREAD_COUNT,
             PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
-            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE);
+            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME_P50, PoolAttributeDefinitions.QUEUE_WAIT_TIME_P99,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME_MAX, PoolAttributeDefinitions.EXECUTION_TIME_P50,
+            PoolAttributeDefinitions.EXECUTION_TIME_P99, PoolAttributeDefinitions.EXECUTION_TIME_MAX,
+            PoolAttributeDefinitions.REJECTED_RATE);
 
     EnhancedQueueExecutorMetricsHandler(final RuntimeCapability<Void> capability, final ServiceName serviceNameBase) {
         super(METRICS, capability, serviceNameBase);
@@ -55,8 +59,10 @@ class EnhancedQueueExecutorMetricsHandler extends ThreadPoolMetricsHandler {
                 context.getResult().set(pool.getQueueSize());
                 break;
             default:
-                // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
-                throw ThreadsLogger.ROOT_LOGGER.unsupportedEnhancedQueueExecutorMetric(attributeName);
+                if (!setTaskStatisticsResult(context, attributeName, pool.getStatistics())) {
+                    // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+                    throw ThreadsLogger.ROOT_LOGGER.unsupportedEnhancedQueueExecutorMetric(attributeName);
+                }
         }
     }
 }
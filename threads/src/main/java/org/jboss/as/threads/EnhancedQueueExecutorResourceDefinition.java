@@ -23,6 +23,7 @@ import org.jboss.msc.service.ServiceName;
 public final class EnhancedQueueExecutorResourceDefinition extends SimpleResourceDefinition {
     private final EnhancedQueueExecutorWriteAttributeHandler writeAttributeHandler;
     private final EnhancedQueueExecutorMetricsHandler metricsHandler;
+    private final EnhancedQueueExecutorStatisticsEnabledHandler statisticsEnabledHandler;
     private final boolean registerRuntimeOnly;
 
     public static EnhancedQueueExecutorResourceDefinition create(boolean registerRuntimeOnly) {
@@ -62,6 +63,7 @@ public final class EnhancedQueueExecutorResourceDefinition extends SimpleResourc
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.writeAttributeHandler = new EnhancedQueueExecutorWriteAttributeHandler(capability, serviceNameBase);
         this.metricsHandler = new EnhancedQueueExecutorMetricsHandler(capability, serviceNameBase);
+        this.statisticsEnabledHandler = new EnhancedQueueExecutorStatisticsEnabledHandler(capability, serviceNameBase);
     }
 
 
@@ -71,6 +73,7 @@ public final class EnhancedQueueExecutorResourceDefinition extends SimpleResourc
         writeAttributeHandler.registerAttributes(resourceRegistration);
         if (registerRuntimeOnly) {
             metricsHandler.registerAttributes(resourceRegistration);
+            statisticsEnabledHandler.registerAttributes(resourceRegistration);
         }
     }
 }
@@ -31,6 +31,7 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
     private TimeSpec keepAlive;
     private boolean allowCoreThreadTimeout;
     private final boolean blocking;
+    private boolean statisticsEnabled;
 
     EnhancedQueueExecutorService(int maxThreads, TimeSpec keepAlive, boolean blocking) {
         this(false, maxThreads, 0, Integer.MAX_VALUE, keepAlive, blocking);
@@ -63,6 +64,7 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
         }
         EnhancedQueueExecutor enhancedQueueExecutor = executorBuilder.build();
         this.executor = new ManagedEnhancedQueueExecutor(enhancedQueueExecutor, blocking);
+        this.executor.setStatisticsEnabled(statisticsEnabled);
     }
 
     public void stop(final StopContext context) {
@@ -123,6 +125,18 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
         this.allowCoreThreadTimeout = allowCoreThreadTimeout;
     }
 
+    synchronized void setStatisticsEnabled(final boolean statisticsEnabled) {
+        final ManagedEnhancedQueueExecutor executor = this.executor;
+        if (executor != null) {
+            executor.setStatisticsEnabled(statisticsEnabled);
+        }
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    synchronized boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
     int getActiveCount() {
         final ManagedQueueExecutorService executor = getValue();
         return executor.getActiveCount();
@@ -163,6 +177,17 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
         return executor.getQueueSize();
     }
 
+    TaskStatistics getStatistics() {
+        final ManagedEnhancedQueueExecutor executor;
+        synchronized (this) {
+            executor = this.executor;
+        }
+        if (executor == null) {
+            throw ThreadsLogger.ROOT_LOGGER.enhancedQueueExecutorUninitialized();
+        }
+        return executor.getStatistics();
+    }
+
     TimeUnit getKeepAliveUnit() {
         return keepAlive == null ? TimeSpec.DEFAULT_KEEPALIVE.getUnit() : keepAlive.getUnit();
     }
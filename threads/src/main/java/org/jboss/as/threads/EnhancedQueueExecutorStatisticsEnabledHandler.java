@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+
+import java.util.Collections;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Handles reads and writes of the runtime-only {@code statistics-enabled} attribute of an
+ * {@code org.jboss.threads.EnhancedQueueExecutor}. The setting is not persisted, so statistics are disabled again
+ * when the executor is restarted.
+ */
+class EnhancedQueueExecutorStatisticsEnabledHandler extends ThreadPoolMetricsHandler {
+
+    EnhancedQueueExecutorStatisticsEnabledHandler(final RuntimeCapability<Void> capability, final ServiceName serviceNameBase) {
+        super(Collections.emptyList(), capability, serviceNameBase);
+    }
+
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration registration) {
+        registration.registerReadWriteAttribute(PoolAttributeDefinitions.RUNTIME_STATISTICS_ENABLED, this, this);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (!WRITE_ATTRIBUTE_OPERATION.equals(operation.require(OP).asString())) {
+            super.executeRuntimeStep(context, operation);
+            return;
+        }
+        final ModelNode value = PoolAttributeDefinitions.RUNTIME_STATISTICS_ENABLED.resolveValue(context, operation.get(VALUE));
+        PoolAttributeDefinitions.RUNTIME_STATISTICS_ENABLED.getValidator().validateParameter(VALUE, value);
+        final EnhancedQueueExecutorService pool = (EnhancedQueueExecutorService) getService(context, operation).getService();
+        final boolean previous = pool.isStatisticsEnabled();
+        pool.setStatisticsEnabled(value.asBoolean());
+        context.completeStep((resultAction, ctx, op) -> {
+            if (resultAction == OperationContext.ResultAction.ROLLBACK) {
+                pool.setStatisticsEnabled(previous);
+            }
+        });
+    }
+
+    @Override
+    protected void setResult(OperationContext context, final String attributeName, final Service<?> service) {
+        context.getResult().set(((EnhancedQueueExecutorService) service).isStatisticsEnabled());
+    }
+}
@@ -1,5 +1,9 @@
 package org.jboss.as.threads;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -14,6 +18,7 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
 
     private volatile int maxTasks;
     private volatile ReducableSemaphore semaphore;
+    private volatile TaskStatistics statistics;
 
     ManagedEnhancedQueueExecutor(EnhancedQueueExecutor executor, boolean blocking) {
         super(executor);
@@ -56,10 +61,53 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
                 throw new RuntimeException(e);
             }
         }
+        TaskStatistics statistics = this.statistics;
+        if (statistics != null) {
+            command = statistics.wrap(command);
+        }
 
         this.executor.execute(command);
     }
 
+    /**
+     * {@inheritDoc}
+     * @see java.util.concurrent.ExecutorService#submit(java.util.concurrent.Callable)
+     */
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        TaskStatistics statistics = this.statistics;
+        if (statistics == null) {
+            return super.submit(task);
+        }
+        RunnableFuture<T> future = new FutureTask<>(task);
+        this.executor.execute(statistics.wrap(future));
+        return future;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @see java.util.concurrent.ExecutorService#submit(java.lang.Runnable, java.lang.Object)
+     */
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        TaskStatistics statistics = this.statistics;
+        if (statistics == null) {
+            return super.submit(task, result);
+        }
+        RunnableFuture<T> future = new FutureTask<>(task, result);
+        this.executor.execute(statistics.wrap(future));
+        return future;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @see java.util.concurrent.ExecutorService#submit(java.lang.Runnable)
+     */
+    @Override
+    public Future<?> submit(Runnable task) {
+        return submit(task, null);
+    }
+
     @Override
     void internalShutdown(StopContext stopContext) {
         executor.shutdown();
@@ -171,6 +219,17 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
         return executor.getQueueSize();
     }
 
+    TaskStatistics getStatistics() {
+        return statistics;
+    }
+
+    // Package protected for subsys write-attribute handlers
+    void setStatisticsEnabled(boolean enabled) {
+        if (enabled != (statistics != null)) {
+            statistics = enabled ? new TaskStatistics(executor::getRejectedTaskCount) : null;
+        }
+    }
+
     private static int getMaxTasks(EnhancedQueueExecutor executor) {
         return getMaxTasks(executor.getMaximumPoolSize(), executor.getMaximumQueueSize());
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import org.jboss.msc.service.StopContext;
+
+/**
+ * {@link ManagedExecutorService} backed by a {@link VirtualThreadExecutor}.
+ */
+class ManagedVirtualThreadExecutor extends ManagedExecutorServiceImpl {
+    private final VirtualThreadExecutor executor;
+
+    ManagedVirtualThreadExecutor(VirtualThreadExecutor executor) {
+        super(executor);
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+     */
+    @Override
+    public void execute(Runnable command) {
+        this.executor.execute(command);
+    }
+
+    @Override
+    void internalShutdown(StopContext stopContext) {
+        // The stop context is asynchronous; complete it once the last task's thread is done
+        executor.shutdown(stopContext::complete);
+    }
+
+    // Package protected for subsys write-attribute handlers
+    void setMaxConcurrency(int maxConcurrency) {
+        executor.setMaxConcurrency(maxConcurrency);
+    }
+
+    TaskStatistics getStatistics() {
+        return executor.getStatistics();
+    }
+
+    void setStatisticsEnabled(boolean enabled) {
+        executor.setStatisticsEnabled(enabled);
+    }
+
+    int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    long getCompletedTaskCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    int getCurrentThreadCount() {
+        return executor.getCurrentThreadCount();
+    }
+
+    int getLargestThreadCount() {
+        return executor.getLargestActiveCount();
+    }
+
+    int getRejectedCount() {
+        return (int) executor.getRejectedTaskCount();
+    }
+
+    long getTaskCount() {
+        return executor.getSubmittedTaskCount();
+    }
+
+    int getQueueSize() {
+        return executor.getQueueSize();
+    }
+}
@@ -8,6 +8,7 @@ package org.jboss.as.threads;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
@@ -36,6 +37,9 @@ public interface PoolAttributeDefinitions {
     SimpleAttributeDefinition CORE_THREADS = new SimpleAttributeDefinitionBuilder(CommonAttributes.CORE_THREADS, ModelType.INT, true)
             .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true)).setAllowExpression(true).build();
 
+    SimpleAttributeDefinition MAX_CONCURRENCY = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_CONCURRENCY, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true)).setAllowExpression(true).build();
+
     SimpleAttributeDefinition HANDOFF_EXECUTOR = new SimpleAttributeDefinitionBuilder(CommonAttributes.HANDOFF_EXECUTOR, ModelType.STRING, true)
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES).build();
 
@@ -47,6 +51,18 @@ public interface PoolAttributeDefinitions {
             .setDefaultValue(ModelNode.FALSE)
             .build();
 
+    SimpleAttributeDefinition STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(CommonAttributes.STATISTICS_ENABLED, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
+    // The enhanced queue executor resources are used by subsystems whose parsers and transformers do not know
+    // about statistics, so the setting is not part of their persistent configuration
+    SimpleAttributeDefinition RUNTIME_STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(CommonAttributes.STATISTICS_ENABLED, ModelType.BOOLEAN, true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setStorageRuntime()
+            .build();
+
     SimpleAttributeDefinition GROUP_NAME = new SimpleAttributeDefinitionBuilder(CommonAttributes.GROUP_NAME, ModelType.STRING, true)
             .setAllowExpression(true)
             .build();
@@ -82,4 +98,34 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_SIZE, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+
+    // Task timing metrics, only available if statistics are enabled
+    AttributeDefinition QUEUE_WAIT_TIME_P50 = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_WAIT_TIME_P50, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    AttributeDefinition QUEUE_WAIT_TIME_P99 = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_WAIT_TIME_P99, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    AttributeDefinition QUEUE_WAIT_TIME_MAX = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_WAIT_TIME_MAX, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_P50 = new SimpleAttributeDefinitionBuilder(CommonAttributes.EXECUTION_TIME_P50, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_P99 = new SimpleAttributeDefinitionBuilder(CommonAttributes.EXECUTION_TIME_P99, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_MAX = new SimpleAttributeDefinitionBuilder(CommonAttributes.EXECUTION_TIME_MAX, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+    AttributeDefinition REJECTED_RATE = new SimpleAttributeDefinitionBuilder(CommonAttributes.REJECTED_RATE, ModelType.DOUBLE)
+            .setUndefinedMetricValue(new ModelNode(0d))
+            .setMeasurementUnit(MeasurementUnit.PER_SECOND)
+            .build();
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Optional timing statistics for the tasks run by a managed executor: how long tasks waited between submission and
+ * the start of their execution, how long they ran, and how often tasks are being rejected.
+ */
+final class TaskStatistics {
+
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+    // weight of each 5 second tick in a one minute exponentially weighted moving average
+    private static final double DECAY_PER_TICK = Math.exp(-5d / 60d);
+
+    private final TaskLatencyHistogram queueWaitTime = new TaskLatencyHistogram();
+    private final TaskLatencyHistogram executionTime = new TaskLatencyHistogram();
+    private final LongSupplier rejectedCount;
+
+    private long lastTick;
+    private long lastRejectedCount;
+    private double rejectedRate;
+
+    /**
+     * Creates a new statistics holder.
+     *
+     * @param rejectedCount supplies the executor's total number of rejected tasks
+     */
+    TaskStatistics(LongSupplier rejectedCount) {
+        this.rejectedCount = rejectedCount;
+        this.lastTick = System.nanoTime();
+        this.lastRejectedCount = rejectedCount.getAsLong();
+    }
+
+    /**
+     * Wraps a task so that its queue wait and execution time are recorded. Must be called when the task is submitted.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    Runnable wrap(Runnable task) {
+        return new TimedTask(task, System.nanoTime());
+    }
+
+    TaskLatencyHistogram getQueueWaitTime() {
+        return queueWaitTime;
+    }
+
+    TaskLatencyHistogram getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * Gets the one minute moving average of the rate at which tasks are rejected.
+     *
+     * @return the rejected tasks per second
+     */
+    synchronized double getRejectedRate() {
+        final long now = System.nanoTime();
+        final long ticks = (now - lastTick) / TICK_INTERVAL;
+        if (ticks > 0) {
+            final long count = rejectedCount.getAsLong();
+            final double elapsedSeconds = (double) (ticks * TICK_INTERVAL) / TimeUnit.SECONDS.toNanos(1);
+            final double currentRate = (count - lastRejectedCount) / elapsedSeconds;
+            rejectedRate = currentRate + (rejectedRate - currentRate) * Math.pow(DECAY_PER_TICK, ticks);
+            lastRejectedCount = count;
+            lastTick += ticks * TICK_INTERVAL;
+        }
+        return rejectedRate;
+    }
+
+    private final class TimedTask implements Runnable {
+        private final Runnable delegate;
+        private final long submitted;
+
+        TimedTask(Runnable delegate, long submitted) {
+            this.delegate = delegate;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            queueWaitTime.record(start - submitted);
+            try {
+                delegate.run();
+            } finally {
+                executionTime.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.jboss.as.threads;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
@@ -59,6 +60,45 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
 
     protected abstract void setResult(OperationContext context, String attributeName, Service<?> service) throws OperationFailedException;
 
+    /**
+     * Sets the result for one of the task timing metrics.
+     *
+     * @param context the operation context
+     * @param attributeName the name of the metric
+     * @param statistics the executor's statistics, or {@code null} if statistics are disabled
+     * @return {@code true} if {@code attributeName} is a task timing metric; {@code false} otherwise
+     */
+    static boolean setTaskStatisticsResult(OperationContext context, String attributeName, TaskStatistics statistics) {
+        final long value;
+        switch (attributeName) {
+            case CommonAttributes.QUEUE_WAIT_TIME_P50:
+                value = statistics == null ? 0 : statistics.getQueueWaitTime().getValueAtPercentile(50);
+                break;
+            case CommonAttributes.QUEUE_WAIT_TIME_P99:
+                value = statistics == null ? 0 : statistics.getQueueWaitTime().getValueAtPercentile(99);
+                break;
+            case CommonAttributes.QUEUE_WAIT_TIME_MAX:
+                value = statistics == null ? 0 : statistics.getQueueWaitTime().getMax();
+                break;
+            case CommonAttributes.EXECUTION_TIME_P50:
+                value = statistics == null ? 0 : statistics.getExecutionTime().getValueAtPercentile(50);
+                break;
+            case CommonAttributes.EXECUTION_TIME_P99:
+                value = statistics == null ? 0 : statistics.getExecutionTime().getValueAtPercentile(99);
+                break;
+            case CommonAttributes.EXECUTION_TIME_MAX:
+                value = statistics == null ? 0 : statistics.getExecutionTime().getMax();
+                break;
+            case CommonAttributes.REJECTED_RATE:
+                context.getResult().set(statistics == null ? 0d : statistics.getRejectedRate());
+                return true;
+            default:
+                return false;
+        }
+        context.getResult().set(TimeUnit.NANOSECONDS.toMicros(value));
+        return true;
+    }
+
     protected ServiceController<?> getService(final OperationContext context, final ModelNode operation)
             throws OperationFailedException {
         final String name = Util.getNameFromAddress(operation.require(OP_ADDR));
@@ -32,7 +32,11 @@ class ThreadPoolResourceDescriptionResolver extends StandardResourceDescriptionR
                 PoolAttributeDefinitions.THREAD_FACTORY.getName(), PoolAttributeDefinitions.ACTIVE_COUNT.getName(),
                 PoolAttributeDefinitions.COMPLETED_TASK_COUNT.getName(), PoolAttributeDefinitions.CURRENT_THREAD_COUNT.getName(),
                 PoolAttributeDefinitions.LARGEST_THREAD_COUNT.getName(), PoolAttributeDefinitions.TASK_COUNT.getName(),
-                PoolAttributeDefinitions.QUEUE_SIZE.getName()));
+                PoolAttributeDefinitions.QUEUE_SIZE.getName(), PoolAttributeDefinitions.STATISTICS_ENABLED.getName(),
+                PoolAttributeDefinitions.QUEUE_WAIT_TIME_P50.getName(), PoolAttributeDefinitions.QUEUE_WAIT_TIME_P99.getName(),
+                PoolAttributeDefinitions.QUEUE_WAIT_TIME_MAX.getName(), PoolAttributeDefinitions.EXECUTION_TIME_P50.getName(),
+                PoolAttributeDefinitions.EXECUTION_TIME_P99.getName(), PoolAttributeDefinitions.EXECUTION_TIME_MAX.getName(),
+                PoolAttributeDefinitions.REJECTED_RATE.getName()));
 
         // note we don't include REJECTED_COUNT as it has a different definition in different resources
     }
@@ -8,6 +8,7 @@ package org.jboss.as.threads;
 import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import javax.xml.stream.Location;
@@ -141,4 +142,22 @@ interface ThreadsLogger extends BasicLogger {
     IllegalStateException unsupportedEnhancedQueueExecutorMetric(String attributeName);
 
     // id = 35; redundant parameter null check message
+
+    @Message(id = 36, value = "Virtual threads are not supported by the current Java runtime (version %d); Java %d or later is required")
+    OperationFailedException virtualThreadsNotSupported(int runtimeVersion, int requiredVersion);
+
+    @Message(id = 37, value = "Service '%s' not found.")
+    OperationFailedException virtualThreadExecutorServiceNotFound(ServiceName serviceName);
+
+    @Message(id = 38, value = "The executor service hasn't been initialized.")
+    IllegalStateException virtualThreadExecutorUninitialized();
+
+    @Message(id = 39, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorAttribute(String attributeName);
+
+    @Message(id = 40, value = "Unsupported metric '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorMetric(String attributeName);
+
+    @Message(id = 41, value = "Task rejected; the executor has been shut down")
+    RejectedExecutionException virtualThreadExecutorShutdown();
 }
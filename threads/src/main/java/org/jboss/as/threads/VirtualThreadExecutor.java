@@ -0,0 +1,307 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.common.Assert;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} that starts a new virtual thread for each submitted task.
+ * <p>
+ * The number of tasks executing concurrently can optionally be limited. Submitting a task never blocks the caller;
+ * instead, tasks in excess of the limit park in their own virtual thread until a running task completes.
+ * <p>
+ * Virtual threads are only available on Java 21 or later; the API is accessed reflectively as this code is compiled
+ * for an earlier release. Use {@link #isSupported()} before creating an instance.
+ */
+final class VirtualThreadExecutor extends AbstractExecutorService {
+
+    static final int REQUIRED_JAVA_VERSION = 21;
+
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        if (Runtime.version().feature() >= REQUIRED_JAVA_VERSION) {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                final Class<?> ofVirtualType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+                ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualType));
+                name = lookup.findVirtual(builderType, "name", MethodType.methodType(builderType, String.class, long.class));
+                factory = lookup.findVirtual(builderType, "factory", MethodType.methodType(ThreadFactory.class));
+            } catch (ReflectiveOperationException e) {
+                ofVirtual = null;
+            }
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private final ThreadFactory threadFactory;
+    private final ResizableSemaphore permits;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final AtomicBoolean terminating = new AtomicBoolean();
+    private final AtomicReference<Runnable> terminationTask = new AtomicReference<>();
+    private final LongAdder submittedTaskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final LongAdder rejectedTaskCount = new LongAdder();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger largestActiveCount = new AtomicInteger();
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private volatile int maxConcurrency;
+    private volatile TaskStatistics statistics;
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param threadNamePrefix the prefix of the names of the virtual threads; a per-executor sequence number is appended
+     * @param maxConcurrency the maximum number of concurrently executing tasks, or {@link Integer#MAX_VALUE} for no limit
+     */
+    VirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        Assert.checkNotNullParam("threadNamePrefix", threadNamePrefix);
+        Assert.checkMinimumParameter("maxConcurrency", 1, maxConcurrency);
+        this.threadFactory = createThreadFactory(threadNamePrefix);
+        this.permits = new ResizableSemaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets whether the current Java runtime supports virtual threads.
+     *
+     * @return {@code true} if virtual threads are available
+     */
+    static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException();
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = NAME.invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Assert.checkNotNullParam("command", command);
+        if (!shutdown) {
+            final TaskStatistics statistics = this.statistics;
+            final Thread thread = threadFactory.newThread(new Task(statistics != null ? statistics.wrap(command) : command));
+            threads.add(thread);
+            // re-check now that the thread is visible to a concurrent shutdown()
+            if (!shutdown) {
+                submittedTaskCount.increment();
+                queueSize.incrementAndGet();
+                thread.start();
+                return;
+            }
+            threads.remove(thread);
+            checkTerminated();
+        }
+        rejectedTaskCount.increment();
+        throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorShutdown();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        checkTerminated();
+    }
+
+    /**
+     * Shuts down this executor, running the given task once all of its threads have terminated.
+     *
+     * @param terminationTask the task to run on termination, by whichever thread terminates last
+     */
+    void shutdown(Runnable terminationTask) {
+        this.terminationTask.set(terminationTask);
+        shutdown();
+        if (isTerminated()) {
+            // already terminated before the task was set
+            runTerminationTask();
+        }
+    }
+
+    /**
+     * Shuts down this executor and interrupts all of its threads. Tasks still waiting for a permit to execute are
+     * discarded rather than returned, as they are already bound to their own thread.
+     *
+     * @return an empty list
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    synchronized void setMaxConcurrency(int maxConcurrency) {
+        Assert.checkMinimumParameter("maxConcurrency", 1, maxConcurrency);
+        final int oldMaxConcurrency = this.maxConcurrency;
+        if (maxConcurrency < oldMaxConcurrency) {
+            permits.reducePermits(oldMaxConcurrency - maxConcurrency);
+        } else if (maxConcurrency != oldMaxConcurrency) {
+            // releasing permits we didn't acquire permanently increases the semaphore size
+            permits.release(maxConcurrency - oldMaxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    TaskStatistics getStatistics() {
+        return statistics;
+    }
+
+    synchronized void setStatisticsEnabled(boolean enabled) {
+        if (enabled != (statistics != null)) {
+            statistics = enabled ? new TaskStatistics(this::getRejectedTaskCount) : null;
+        }
+    }
+
+    int getActiveCount() {
+        return activeCount.get();
+    }
+
+    int getLargestActiveCount() {
+        return largestActiveCount.get();
+    }
+
+    int getCurrentThreadCount() {
+        return threads.size();
+    }
+
+    int getQueueSize() {
+        return queueSize.get();
+    }
+
+    long getSubmittedTaskCount() {
+        return submittedTaskCount.sum();
+    }
+
+    long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    long getRejectedTaskCount() {
+        return rejectedTaskCount.sum();
+    }
+
+    private void checkTerminated() {
+        if (shutdown && threads.isEmpty() && terminating.compareAndSet(false, true)) {
+            terminated.countDown();
+            runTerminationTask();
+        }
+    }
+
+    private void runTerminationTask() {
+        final Runnable task = terminationTask.getAndSet(null);
+        if (task != null) {
+            task.run();
+        }
+    }
+
+    private final class Task implements Runnable {
+        private final Runnable delegate;
+
+        Task(Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            try {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // shutdownNow() was called while waiting for a permit; discard the task
+                    queueSize.decrementAndGet();
+                    return;
+                }
+                queueSize.decrementAndGet();
+                final int active = activeCount.incrementAndGet();
+                int largest = largestActiveCount.get();
+                while (active > largest && !largestActiveCount.compareAndSet(largest, active)) {
+                    largest = largestActiveCount.get();
+                }
+                try {
+                    delegate.run();
+                } finally {
+                    activeCount.decrementAndGet();
+                    completedTaskCount.increment();
+                    permits.release();
+                }
+            } finally {
+                threads.remove(Thread.currentThread());
+                checkTerminated();
+            }
+        }
+    }
+
+    private static class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        public void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Adds a {@link VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorAdd extends AbstractAddStepHandler {
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{PoolAttributeDefinitions.MAX_CONCURRENCY,
+            PoolAttributeDefinitions.STATISTICS_ENABLED};
+
+    private final ServiceName serviceNameBase;
+    private final RuntimeCapability<Void> capability;
+
+    VirtualThreadExecutorAdd(ServiceName serviceNameBase, RuntimeCapability<Void> capability) {
+        this.serviceNameBase = serviceNameBase;
+        this.capability = capability;
+    }
+
+    @Override
+    protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+        if (!VirtualThreadExecutor.isSupported()) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadsNotSupported(Runtime.version().feature(), VirtualThreadExecutor.REQUIRED_JAVA_VERSION);
+        }
+        final String name = context.getCurrentAddressValue();
+        final ModelNode maxConcurrency = PoolAttributeDefinitions.MAX_CONCURRENCY.resolveModelAttribute(context, model);
+
+        final VirtualThreadExecutorService service = new VirtualThreadExecutorService(name + "-",
+                maxConcurrency.isDefined() ? maxConcurrency.asInt() : Integer.MAX_VALUE,
+                PoolAttributeDefinitions.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
+
+        final ServiceBuilder<?> serviceBuilder = context.getCapabilityServiceTarget()
+                .addService(capability.getCapabilityServiceName(context.getCurrentAddress()), service);
+        if (serviceNameBase != null) {
+            serviceBuilder.addAliases(serviceNameBase.append(name));
+        }
+        serviceBuilder.install();
+    }
+
+    ServiceName getServiceNameBase() {
+        return serviceNameBase;
+    }
+
+    RuntimeCapability<Void> getCapability() {
+        return capability;
+    }
+}
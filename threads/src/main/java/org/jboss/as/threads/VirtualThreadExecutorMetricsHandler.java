@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+
+
+/**
+ * Handles metrics for a {@link VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorMetricsHandler extends ThreadPoolMetricsHandler {
+
+    private static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.ACTIVE_COUNT,
+            PoolAttributeDefinitions.COMPLETED_TASK_COUNT, PoolAttributeDefinitions.CURRENT_THREAD_COUNT,
+            PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
+            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME_P50, PoolAttributeDefinitions.QUEUE_WAIT_TIME_P99,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME_MAX, PoolAttributeDefinitions.EXECUTION_TIME_P50,
+            PoolAttributeDefinitions.EXECUTION_TIME_P99, PoolAttributeDefinitions.EXECUTION_TIME_MAX,
+            PoolAttributeDefinitions.REJECTED_RATE);
+
+    VirtualThreadExecutorMetricsHandler(final RuntimeCapability<Void> capability, final ServiceName serviceNameBase) {
+        super(METRICS, capability, serviceNameBase);
+    }
+
+    @Override
+    protected void setResult(OperationContext context, final String attributeName, final Service<?> service) {
+        final VirtualThreadExecutorService executor = (VirtualThreadExecutorService) service;
+        switch (attributeName) {
+            case CommonAttributes.ACTIVE_COUNT:
+                context.getResult().set(executor.getActiveCount());
+                break;
+            case CommonAttributes.COMPLETED_TASK_COUNT:
+                context.getResult().set(executor.getCompletedTaskCount());
+                break;
+            case CommonAttributes.CURRENT_THREAD_COUNT:
+                context.getResult().set(executor.getCurrentThreadCount());
+                break;
+            case CommonAttributes.LARGEST_THREAD_COUNT:
+                context.getResult().set(executor.getLargestThreadCount());
+                break;
+            case CommonAttributes.REJECTED_COUNT:
+                context.getResult().set(executor.getRejectedCount());
+                break;
+            case CommonAttributes.TASK_COUNT:
+                context.getResult().set(executor.getTaskCount());
+                break;
+            case CommonAttributes.QUEUE_SIZE:
+                context.getResult().set(executor.getQueueSize());
+                break;
+            default:
+                if (!setTaskStatisticsResult(context, attributeName, executor.getStatistics())) {
+                    // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+                    throw ThreadsLogger.ROOT_LOGGER.unsupportedVirtualThreadExecutorMetric(attributeName);
+                }
+        }
+    }
+}
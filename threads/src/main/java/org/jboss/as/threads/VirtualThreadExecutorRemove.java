@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.AbstractRemoveStepHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Removes a {@link VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorRemove extends AbstractRemoveStepHandler {
+
+    private final VirtualThreadExecutorAdd addHandler;
+
+    VirtualThreadExecutorRemove(VirtualThreadExecutorAdd addHandler) {
+        this.addHandler = addHandler;
+    }
+
+    @Override
+    protected void performRuntime(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
+        context.removeService(addHandler.getCapability().getCapabilityServiceName(context.getCurrentAddress()));
+    }
+
+    @Override
+    protected void recoverServices(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
+        addHandler.performRuntime(context, operation, model);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.threads.CommonAttributes.VIRTUAL_THREAD_EXECUTOR;
+
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * {@link org.jboss.as.controller.ResourceDefinition} for an executor that runs each task in a new virtual thread.
+ * <p>
+ * Adding such a resource fails if the server is not running on a Java version that supports virtual threads.
+ */
+@SuppressWarnings("unused")
+public final class VirtualThreadExecutorResourceDefinition extends SimpleResourceDefinition {
+    private final VirtualThreadExecutorWriteAttributeHandler writeAttributeHandler;
+    private final VirtualThreadExecutorMetricsHandler metricsHandler;
+    private final boolean registerRuntimeOnly;
+
+    public static VirtualThreadExecutorResourceDefinition create(boolean registerRuntimeOnly) {
+        return create(VIRTUAL_THREAD_EXECUTOR, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+    }
+
+    public static VirtualThreadExecutorResourceDefinition create(String type, ServiceName serviceNameBase, boolean registerRuntimeOnly) {
+        return create(PathElement.pathElement(type), serviceNameBase, registerRuntimeOnly,
+                ThreadsServices.createCapability(type, ExecutorService.class));
+    }
+
+    public static VirtualThreadExecutorResourceDefinition create(PathElement path, ServiceName serviceNameBase, boolean registerRuntimeOnly,
+                                                                 RuntimeCapability<Void> capability) {
+        VirtualThreadExecutorAdd addHandler = new VirtualThreadExecutorAdd(serviceNameBase, capability);
+        return new VirtualThreadExecutorResourceDefinition(path, addHandler, capability, serviceNameBase, registerRuntimeOnly);
+    }
+
+    private VirtualThreadExecutorResourceDefinition(PathElement path, VirtualThreadExecutorAdd addHandler,
+                                                    RuntimeCapability<Void> capability, ServiceName serviceNameBase,
+                                                    boolean registerRuntimeOnly) {
+        super(new SimpleResourceDefinition.Parameters(path,
+                new ThreadPoolResourceDescriptionResolver(VIRTUAL_THREAD_EXECUTOR, ThreadsExtension.RESOURCE_NAME,
+                        ThreadsExtension.class.getClassLoader()))
+                .setAddHandler(addHandler)
+                .setRemoveHandler(new VirtualThreadExecutorRemove(addHandler))
+                .setCapabilities(capability));
+        this.registerRuntimeOnly = registerRuntimeOnly;
+        this.writeAttributeHandler = new VirtualThreadExecutorWriteAttributeHandler(capability, serviceNameBase);
+        this.metricsHandler = new VirtualThreadExecutorMetricsHandler(capability, serviceNameBase);
+    }
+
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerReadOnlyAttribute(PoolAttributeDefinitions.NAME, ReadResourceNameOperationStepHandler.INSTANCE);
+        writeAttributeHandler.registerAttributes(resourceRegistration);
+        if (registerRuntimeOnly) {
+            metricsHandler.registerAttributes(resourceRegistration);
+        }
+    }
+}
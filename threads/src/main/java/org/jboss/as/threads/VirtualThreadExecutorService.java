@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service responsible for creating, starting and stopping a {@link VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorService implements Service<ManagedExecutorService> {
+
+    private final String threadNamePrefix;
+
+    private ManagedVirtualThreadExecutor executor;
+
+    private int maxConcurrency;
+    private boolean statisticsEnabled;
+
+    VirtualThreadExecutorService(String threadNamePrefix, int maxConcurrency, boolean statisticsEnabled) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.maxConcurrency = maxConcurrency;
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public synchronized void start(final StartContext context) {
+        this.executor = new ManagedVirtualThreadExecutor(new VirtualThreadExecutor(threadNamePrefix, maxConcurrency));
+        this.executor.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    public void stop(final StopContext context) {
+        final ManagedVirtualThreadExecutor executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.executor = null;
+        }
+        context.asynchronous();
+        executor.internalShutdown(context);
+    }
+
+    public synchronized ManagedExecutorService getValue() throws IllegalStateException {
+        return getExecutor();
+    }
+
+    private synchronized ManagedVirtualThreadExecutor getExecutor() {
+        final ManagedVirtualThreadExecutor value = this.executor;
+        if (value == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorUninitialized();
+        }
+        return value;
+    }
+
+    synchronized void setMaxConcurrency(final int maxConcurrency) {
+        final ManagedVirtualThreadExecutor executor = this.executor;
+        if (executor != null) {
+            executor.setMaxConcurrency(maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    synchronized void setStatisticsEnabled(final boolean statisticsEnabled) {
+        final ManagedVirtualThreadExecutor executor = this.executor;
+        if (executor != null) {
+            executor.setStatisticsEnabled(statisticsEnabled);
+        }
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    TaskStatistics getStatistics() {
+        return getExecutor().getStatistics();
+    }
+
+    int getActiveCount() {
+        return getExecutor().getActiveCount();
+    }
+
+    long getCompletedTaskCount() {
+        return getExecutor().getCompletedTaskCount();
+    }
+
+    int getCurrentThreadCount() {
+        return getExecutor().getCurrentThreadCount();
+    }
+
+    int getLargestThreadCount() {
+        return getExecutor().getLargestThreadCount();
+    }
+
+    int getRejectedCount() {
+        return getExecutor().getRejectedCount();
+    }
+
+    long getTaskCount() {
+        return getExecutor().getTaskCount();
+    }
+
+    int getQueueSize() {
+        return getExecutor().getQueueSize();
+    }
+}
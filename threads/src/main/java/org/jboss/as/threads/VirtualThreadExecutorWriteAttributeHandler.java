@@ -0,0 +1,66 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Handles attribute writes for a {@link VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorWriteAttributeHandler extends ThreadsWriteAttributeOperationHandler {
+
+    private final ServiceName serviceNameBase;
+    private final RuntimeCapability<Void> capability;
+
+    VirtualThreadExecutorWriteAttributeHandler(final RuntimeCapability<Void> capability, ServiceName serviceNameBase) {
+        super(VirtualThreadExecutorAdd.ATTRIBUTES);
+        this.serviceNameBase = serviceNameBase;
+        this.capability = capability;
+    }
+
+    @Override
+    protected void applyOperation(final OperationContext context, ModelNode model, String attributeName,
+                                  ServiceController<?> service, boolean forRollback) throws OperationFailedException {
+
+        final VirtualThreadExecutorService executor = (VirtualThreadExecutorService) service.getService();
+
+        if (PoolAttributeDefinitions.MAX_CONCURRENCY.getName().equals(attributeName)) {
+            final ModelNode maxConcurrency = PoolAttributeDefinitions.MAX_CONCURRENCY.resolveModelAttribute(context, model);
+            executor.setMaxConcurrency(maxConcurrency.isDefined() ? maxConcurrency.asInt() : Integer.MAX_VALUE);
+        } else if (PoolAttributeDefinitions.STATISTICS_ENABLED.getName().equals(attributeName)) {
+            executor.setStatisticsEnabled(PoolAttributeDefinitions.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
+        } else if (!forRollback) {
+            // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+            throw ThreadsLogger.ROOT_LOGGER.unsupportedVirtualThreadExecutorAttribute(attributeName);
+        }
+    }
+
+    @Override
+    protected ServiceController<?> getService(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final String name = context.getCurrentAddressValue();
+        ServiceName serviceName = null;
+        ServiceController<?> controller = null;
+        if (capability != null) {
+            serviceName = capability.getCapabilityServiceName(context.getCurrentAddress());
+            controller = context.getServiceRegistry(true).getService(serviceName);
+            if (controller != null) {
+                return controller;
+            }
+        }
+        if (serviceNameBase != null) {
+            serviceName = serviceNameBase.append(name);
+            controller = context.getServiceRegistry(true).getService(serviceName);
+        }
+        if (controller == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorServiceNotFound(serviceName);
+        }
+        return controller;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link TaskLatencyHistogram}.
+ */
+public class TaskLatencyHistogramTestCase {
+
+    @Test
+    public void testEmpty() {
+        TaskLatencyHistogram histogram = new TaskLatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testPercentiles() {
+        TaskLatencyHistogram histogram = new TaskLatencyHistogram();
+        for (long i = 1; i <= 10000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(10_000_000, histogram.getMax());
+        assertWithinPrecision(5_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(9_900_000, histogram.getValueAtPercentile(99));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testSmallAndHugeValues() {
+        TaskLatencyHistogram histogram = new TaskLatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(1));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertTrue(histogram.getValueAtPercentile(100) > 0);
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " not within precision of " + expected, Math.abs(actual - expected) <= expected / 16);
+    }
+}
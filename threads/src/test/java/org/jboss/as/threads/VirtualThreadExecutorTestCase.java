@@ -0,0 +1,136 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link VirtualThreadExecutor}.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Before
+    public void checkSupported() {
+        Assume.assumeTrue("Virtual threads not supported", VirtualThreadExecutor.isSupported());
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", Integer.MAX_VALUE);
+        int tasks = 1000;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        assertEquals(tasks, executor.getSubmittedTaskCount());
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(tasks, executor.getCompletedTaskCount());
+        assertEquals(0, executor.getActiveCount());
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getActiveCount() < 2 || executor.getQueueSize() < 8) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        executor.setMaxConcurrency(4);
+        while (executor.getActiveCount() < 4) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(4, maxRunning.get());
+        assertEquals(4, executor.getLargestActiveCount());
+        assertEquals(10, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testTerminationTask() throws Exception {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", Integer.MAX_VALUE);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicInteger terminations = new AtomicInteger();
+        CountDownLatch terminated = new CountDownLatch(1);
+        executor.shutdown(() -> {
+            terminations.incrementAndGet();
+            terminated.countDown();
+        });
+        // Not run while a task is still executing
+        assertEquals(0, terminations.get());
+        assertFalse(executor.isTerminated());
+        release.countDown();
+        assertTrue(terminated.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(1, terminations.get());
+
+        // Run immediately if there is nothing to wait for
+        VirtualThreadExecutor idle = new VirtualThreadExecutor("test-", Integer.MAX_VALUE);
+        idle.shutdown(terminations::incrementAndGet);
+        assertEquals(2, terminations.get());
+    }
+
+    @Test
+    public void testRejectAfterShutdown() throws Exception {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", Integer.MAX_VALUE);
+        executor.shutdown();
+        assertTrue(executor.isTerminated());
+        try {
+            executor.execute(() -> { });
+            fail("Task should have been rejected");
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+        assertEquals(1, executor.getRejectedTaskCount());
+    }
+}